@@ -0,0 +1,77 @@
+/*
+ * Copyright 2019-2025 Seth Falco and Commandler Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package fun.falco.commandler.adapters;
+
+import java.text.NumberFormat;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares parsing plain numbers on the fast path of the
+ * {@link NumberAdapter} against parsing them with the {@link NumberFormat},
+ * as the {@link NumberAdapter} did before 4.1.0.
+ *
+ * @author seth@falco.fun (Seth Falco)
+ * @since 4.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NumberAdapterBenchmark {
+
+    @Param({"42", "-2147483648", "1,234,567", "3.1415"})
+    public String input;
+
+    @Param({"Integer", "Double"})
+    public String type;
+
+    private Class<? extends Number> numberType;
+    private NumberAdapter fastPath;
+    private NumberAdapter numberFormat;
+
+    @Setup
+    public void setup() {
+        numberType = (type.equals("Double")) ? Double.class : Integer.class;
+        fastPath = new NumberAdapter(NumberFormat.getInstance(Locale.US), true);
+        numberFormat = new NumberAdapter(NumberFormat.getInstance(Locale.US), false);
+    }
+
+    @Benchmark
+    public Number fastPath() {
+        return fastPath.adapt(input, numberType);
+    }
+
+    @Benchmark
+    public Number numberFormat() {
+        return numberFormat.adapt(input, numberType);
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2019-2025 Seth Falco and Commandler Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package fun.falco.commandler.dispatchers.standard;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares splitting a command by offsets against copying it apart with
+ * {@link String#replaceFirst(String, String)}, as the {@link StandardDispatcher}
+ * did before 4.1.0.
+ *
+ * <p>Run with the <code>gc</code> profiler to compare allocations per
+ * message, see <code>gc.alloc.rate.norm</code>.</p>
+ *
+ * @author seth@falco.fun (Seth Falco)
+ * @since 4.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StandardDispatcherTokenizeBenchmark {
+
+    private static final Pattern DELIMITER = Pattern.compile("\\s+");
+
+    private static final String PREFIX = ">";
+
+    @Param({
+        ">util ping",
+        ">util echo hello world",
+        ">util echo \"Hello world! Hello world! Hello world! Hello world! Hello world!\", second, third"
+    })
+    private String content;
+
+    private StandardDispatcherParameterParser parser;
+
+    @Setup
+    public void setup() {
+        parser = new StandardDispatcherParameterParser();
+    }
+
+    @Benchmark
+    public List<List<String>> replaceFirst() {
+        String trimmed = content.substring(PREFIX.length()).trim();
+        String[] command = DELIMITER.split(trimmed, 3);
+        String params = trimmed;
+
+        if (command.length > 1) {
+            params = params
+                .replaceFirst("\\Q" + command[0] + "\\E", "")
+                .replaceFirst("\\Q" + command[1] + "\\E", "")
+                .trim();
+        }
+
+        return parser.parse(params);
+    }
+
+    @Benchmark
+    public List<List<String>> offsets() {
+        int start = PREFIX.length();
+        int end = content.length();
+        StandardDispatcherTokens tokens = StandardDispatcherTokens.tokenize(DELIMITER, content, start, end);
+        int paramsStart = (tokens.size() > 2) ? tokens.getStart(2) : end;
+
+        return parser.parse(content, paramsStart, end);
+    }
+}
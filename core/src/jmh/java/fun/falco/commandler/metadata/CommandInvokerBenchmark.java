@@ -0,0 +1,78 @@
+/*
+ * Copyright 2019-2025 Seth Falco and Commandler Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package fun.falco.commandler.metadata;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares performing a command with a {@link CommandInvoker} against
+ * {@link Method#invoke(Object, Object...)}, as the ActionHandler did before
+ * 4.1.0.
+ *
+ * @author seth@falco.fun (Seth Falco)
+ * @since 4.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommandInvokerBenchmark {
+
+    private Controller controller;
+    private Object[] args;
+    private Method method;
+    private CommandInvoker invoker;
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        controller = new Controller();
+        args = new Object[] {"hello", 3, true};
+        method = Controller.class.getMethod("command", String.class, int.class, boolean.class);
+        invoker = CommandInvoker.create(method);
+    }
+
+    @Benchmark
+    public Object reflection() throws Exception {
+        return method.invoke(controller, args);
+    }
+
+    @Benchmark
+    public Object invoker() throws Exception {
+        return invoker.invoke(controller, args);
+    }
+
+    public static class Controller {
+
+        public String command(String text, int times, boolean upper) {
+            return (upper) ? text : text + times;
+        }
+    }
+}
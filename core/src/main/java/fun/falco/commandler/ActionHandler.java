@@ -17,7 +17,7 @@
 package fun.falco.commandler;
 
 import javax.enterprise.context.ApplicationScoped;
-import javax.enterprise.context.control.ActivateRequestContext;
+import javax.enterprise.context.control.RequestContextController;
 import javax.enterprise.inject.Instance;
 import javax.enterprise.inject.spi.BeanManager;
 import javax.inject.Inject;
@@ -35,6 +35,7 @@ import fun.falco.commandler.event.Action;
 import fun.falco.commandler.event.ActionEvent;
 import fun.falco.commandler.event.Request;
 import fun.falco.commandler.exceptions.misuse.AbstractMisuseException;
+import fun.falco.commandler.exceptions.misuse.ModuleDisabledException;
 import fun.falco.commandler.managers.AdapterManager;
 import fun.falco.commandler.managers.DispatcherManager;
 import fun.falco.commandler.managers.HeaderManager;
@@ -51,6 +52,14 @@ import fun.falco.commandler.producers.RequestFactory;
  * as {@link Dispatcher#isValid(Request)} until one returns an object to respond
  * to the user.</p>
  *
+ * <p>If {@link ActionHandlerConfig#isPrescreen() prescreening} is enabled,
+ * messages that no {@link Dispatcher} reports as a
+ * {@link Dispatcher#isCandidate(String) candidate} are dropped before the
+ * request context is activated.</p>
+ *
+ * <p>Commands disabled in the {@link ToggleRegistry} fail with a
+ * {@link ModuleDisabledException} before any parameters are adapted.</p>
+ *
  * @author seth@falco.fun (Seth Falco)
  */
 @ApplicationScoped
@@ -63,16 +72,22 @@ public class ActionHandler implements ActionListener {
     private final HeaderManager binder;
     private final AdapterManager adapter;
     private final MessengerManager messenger;
+    private final ToggleRegistry toggles;
     private final Instance<? extends HandlerMiddleware> middlewares;
+    private final Instance<RequestContextController> requestContextControllers;
+    private final ActionHandlerConfig config;
 
     @Inject
-    public ActionHandler(BeanManager beanManager, DispatcherManager dispatcher, HeaderManager binder, AdapterManager adapter, MessengerManager messenger, Instance<HandlerMiddleware> middlewares) {
+    public ActionHandler(BeanManager beanManager, DispatcherManager dispatcher, HeaderManager binder, AdapterManager adapter, MessengerManager messenger, ToggleRegistry toggles, Instance<HandlerMiddleware> middlewares, Instance<RequestContextController> requestContextControllers, ActionHandlerConfig config) {
         this.beanManager = beanManager;
         this.dispatcher = dispatcher;
         this.binder = binder;
         this.adapter = adapter;
         this.messenger = messenger;
+        this.toggles = toggles;
         this.middlewares = middlewares;
+        this.requestContextControllers = requestContextControllers;
+        this.config = config;
     }
 
     /**
@@ -83,9 +98,36 @@ public class ActionHandler implements ActionListener {
      * @return
      *     Response to the message, or null if there is nothing to respond.
      */
-    @ActivateRequestContext
     @Override
     public <S, M> M onAction(Integration<S, M> integration, S source, M message, String content) {
+        if (config.isPrescreen() && !dispatcher.isCandidate(content)) {
+            logger.trace("Dropped action request as no dispatcher could handle it.");
+            return null;
+        }
+
+        RequestContextController requestContextController = requestContextControllers.get();
+        boolean activated = requestContextController.activate();
+
+        try {
+            return handle(integration, source, message, content);
+        } finally {
+            if (activated) {
+                requestContextController.deactivate();
+            }
+
+            requestContextControllers.destroy(requestContextController);
+        }
+    }
+
+    /**
+     * Handles the event, this must be called with the request context active.
+     *
+     * @param integration Name of the service that received the message.
+     * @param content Content of the message.
+     * @return
+     *     Response to the message, or null if there is nothing to respond.
+     */
+    private <S, M> M handle(Integration<S, M> integration, S source, M message, String content) {
         Request<S, M> request = new Request<>(integration, source, message, content);
         binder.bindHeaders(request);
         logger.debug("Received action request with content: {}", content);
@@ -105,6 +147,10 @@ public class ActionHandler implements ActionListener {
 
             requestFactory.setEvent(event);
 
+            if (!toggles.isEnabled(event.getMetaCommand(), integration)) {
+                throw new ModuleDisabledException(event);
+            }
+
             MetaController module = event.getMetaController();
             Object controller = BeanProvider.getContextualReference(module.getControllerType());
             Object[] params = adapter.adaptEvent(event);
@@ -115,7 +161,7 @@ public class ActionHandler implements ActionListener {
             }
 
             MetaCommand metaCommand = event.getMetaCommand();
-            response = metaCommand.getMethod().invoke(controller, params);
+            response = metaCommand.getInvoker().invoke(controller, params);
         } catch (AbstractMisuseException ex) {
             logger.info("A misuse exception occurred when handling a message; command panicked.");
             beanManager.getEvent().fire(new ExceptionToCatchEvent(ex));
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2019-2025 Seth Falco and Commandler Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package fun.falco.commandler;
+
+import org.apache.deltaspike.core.api.config.ConfigProperty;
+import org.apache.deltaspike.core.api.config.Configuration;
+
+import fun.falco.commandler.api.Dispatcher;
+
+/**
+ * The configuration for the {@link ActionHandler}.
+ *
+ * @author seth@falco.fun (Seth Falco)
+ * @since 4.1.0
+ */
+@Configuration(prefix = "commandler.action-handler.")
+public interface ActionHandlerConfig {
+
+    /**
+     * If enabled, messages that no {@link Dispatcher} reports as a
+     * {@link Dispatcher#isCandidate(String) candidate} are dropped before
+     * the request context is activated or any headers are bound.
+     *
+     * <p>This is disabled by default, as header binders will no longer
+     * see every message.</p>
+     *
+     * @return If messages should be screened before they're handled.
+     */
+    @ConfigProperty(name = "prescreen", defaultValue = "false")
+    Boolean isPrescreen();
+}
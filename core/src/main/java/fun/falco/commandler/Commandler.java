@@ -17,6 +17,8 @@
 package fun.falco.commandler;
 
 import java.lang.annotation.Annotation;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.inject.Instance;
@@ -87,12 +89,16 @@ public class Commandler {
      *
      * <p>Runs the Commandler instance and should be used to run any chat bots
      * by whatever interactive means.</p>
+     *
+     * <p>If {@link WarmupConfig#isEnabled() enabled}, Commandler warms up
+     * before any {@link Integration} is initialized.</p>
      */
     public void run() {
         TypeLiteral<? extends Integration<?, ?>> typeLiteral = new TypeLiteral<>(){};
-        Instance<? extends Integration<?, ?>> integrations = CDI.current().select(typeLiteral);
+        Instance<? extends Integration<?, ?>> instances = CDI.current().select(typeLiteral);
+        List<Integration<?, ?>> integrations = instances.stream().collect(Collectors.toList());
 
-        long total = integrations.stream().count();
+        int total = integrations.size();
 
         if (total == 0) {
             logger.warn("No integrations were defined, events will not be caught.");
@@ -100,6 +106,8 @@ public class Commandler {
             logger.warn("Detected multiple integrations in the same runtime; it's recommended to submodule the separate integrations rather than run a monolith.");
         }
 
+        BeanProvider.getContextualReference(CommandlerWarmup.class).warmup(integrations);
+
         for (Integration<?, ?> integration : integrations) {
             integration.init();
             logger.info("Created instance of {} which uses {} for messages.", integration, integration.getMessageType());
@@ -4,7 +4,9 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.Parameter;
+import java.lang.reflect.UndeclaredThrowableException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -12,12 +14,17 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import javax.enterprise.event.Observes;
-import javax.enterprise.inject.spi.AnnotatedType;
+import javax.enterprise.inject.spi.AfterBeanDiscovery;
 import javax.enterprise.inject.spi.Extension;
-import javax.enterprise.inject.spi.ProcessBean;
+import javax.enterprise.inject.spi.ProcessAnnotatedType;
+import javax.enterprise.inject.spi.ProcessManagedBean;
+import javax.enterprise.inject.spi.WithAnnotations;
 
 import org.apache.commons.lang3.ClassUtils;
 
@@ -38,12 +45,15 @@ import fun.falco.commandler.api.Dispatcher;
 import fun.falco.commandler.api.HeaderBinder;
 import fun.falco.commandler.api.Messenger;
 import fun.falco.commandler.groups.Miscellaneous;
+import fun.falco.commandler.metadata.CommandInvoker;
 import fun.falco.commandler.metadata.MetaAdapter;
 import fun.falco.commandler.metadata.MetaCommand;
 import fun.falco.commandler.metadata.MetaController;
 import fun.falco.commandler.metadata.MetaMessenger;
 import fun.falco.commandler.metadata.MetaParam;
 import fun.falco.commandler.metadata.MetaProperty;
+import fun.falco.commandler.metadata.MetadataIndex;
+import fun.falco.commandler.metadata.PropertyKey;
 
 /**
  * CDI extension for Java CDI. This seeks and registers all beans to make
@@ -59,7 +69,21 @@ public class CommandlerExtension implements Extension {
     private Collection<Class<? extends HeaderBinder>> headerBinderTypes;
     private Collection<MetaAdapter> metaAdapters;
     private Collection<MetaMessenger> metaMessengers;
-    private Collection<MetaController> metaControllers;
+
+    /** Controllers, replaced as a whole when they're changed at runtime. */
+    private volatile Collection<MetaController> metaControllers;
+
+    /** Classes that use one of our stereotypes, they may still be vetoed or disabled. */
+    private Set<Class<?>> candidates;
+
+    /** Candidates that are enabled beans, in the order they were discovered. */
+    private List<Class<?>> components;
+
+    /** Metadata generated at compile time, so controllers don't have to be reflected over. */
+    private MetadataIndex metadataIndex;
+
+    /** If discovery has finished, and the collections are immutable. */
+    private boolean frozen;
 
     public CommandlerExtension() {
         dispatcherTypes = new ArrayList<>();
@@ -67,16 +91,62 @@ public class CommandlerExtension implements Extension {
         metaAdapters = new ArrayList<>();
         metaMessengers = new ArrayList<>();
         metaControllers = new ArrayList<>();
+        candidates = new HashSet<>();
+        components = new ArrayList<>();
+        metadataIndex = MetadataIndex.load(getClassLoader());
+    }
+
+    /**
+     * @return Class loader that can see the resources of the application.
+     */
+    private static ClassLoader getClassLoader() {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        return (classLoader != null) ? classLoader : CommandlerExtension.class.getClassLoader();
     }
 
-    public void processBean(@Observes final ProcessBean<?> processBean) throws IllegalAccessException, InvocationTargetException {
-        if (!(processBean.getAnnotated() instanceof AnnotatedType)) {
+    /**
+     * Picks out the classes that may be Commandler components. Only classes
+     * that use one of our stereotypes are observed, and nothing is reflected
+     * over until all classes have been discovered.
+     *
+     * <p>A type may still be vetoed after this, or not be enabled, such as
+     * an alternative that isn't selected, so candidates are only used once
+     * {@link #processManagedBean(ProcessManagedBean)} confirms they're beans.</p>
+     *
+     * @param processAnnotatedType Event fired for each discovered class that uses a stereotype.
+     * @since 4.1.0
+     */
+    public synchronized void processAnnotatedType(@Observes @WithAnnotations({Controller.class, MessageDispatcher.class, Binder.class, ParamAdapter.class, MessageProvider.class}) final ProcessAnnotatedType<?> processAnnotatedType) {
+        Class<?> javaClazz = processAnnotatedType.getAnnotatedType().getJavaClass();
+        int modifiers = javaClazz.getModifiers();
+
+        if (javaClazz.isInterface() || Modifier.isAbstract(modifiers)) {
             return;
         }
 
-        AnnotatedType<?> annotatedType = (AnnotatedType) processBean.getAnnotated();
-        Class<?> javaClazz = annotatedType.getJavaClass();
+        if (javaClazz.isMemberClass() && !Modifier.isStatic(modifiers)) {
+            return;
+        }
 
+        candidates.add(javaClazz);
+    }
+
+    /**
+     * Confirms a candidate is an enabled bean. This is fired for every bean,
+     * so it only checks if the bean is one of the candidates.
+     *
+     * @param processManagedBean Event fired for each enabled managed bean.
+     * @since 4.1.0
+     */
+    public synchronized void processManagedBean(@Observes final ProcessManagedBean<?> processManagedBean) {
+        Class<?> javaClazz = processManagedBean.getAnnotatedBeanClass().getJavaClass();
+
+        if (candidates.remove(javaClazz)) {
+            components.add(javaClazz);
+        }
+    }
+
+    private void processComponent(Class<?> javaClazz) {
         if (javaClazz.isAnnotationPresent(MessageDispatcher.class)) {
             dispatcherTypes.add((Class<? extends Dispatcher>) javaClazz);
         }
@@ -102,7 +172,53 @@ public class CommandlerExtension implements Extension {
             MetaMessenger metaMessenger = new MetaMessenger((Class<? extends Messenger>) javaClazz, messageProvider.provides(), allCompatibleTypes);
             metaMessengers.add(metaMessenger);
         }
+    }
+
+    /**
+     * Builds the metadata of all controllers in parallel, as this is the
+     * most expensive part of discovery. Controllers are kept in the order
+     * they were discovered.
+     *
+     * @param javaClazzes Classes that may be controllers.
+     * @return Metadata of each class that is a controller.
+     */
+    private List<MetaController> convertControllers(List<Class<?>> javaClazzes) throws IllegalAccessException, InvocationTargetException {
+        try {
+            return javaClazzes.parallelStream()
+                .map((javaClazz) -> {
+                    MetaController metaController = metadataIndex.getMetaController(javaClazz);
+
+                    if (metaController != null) {
+                        return metaController;
+                    }
+
+                    try {
+                        return convertController(javaClazz);
+                    } catch (IllegalAccessException | InvocationTargetException ex) {
+                        throw new UndeclaredThrowableException(ex);
+                    }
+                })
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        } catch (UndeclaredThrowableException ex) {
+            Throwable cause = ex.getUndeclaredThrowable();
+
+            if (cause instanceof IllegalAccessException) {
+                throw (IllegalAccessException) cause;
+            }
+
+            throw (InvocationTargetException) cause;
+        }
+    }
 
+    /**
+     * Reflect over a class to build the metadata of a controller.
+     *
+     * @param javaClazz Class that may be a controller.
+     * @return Metadata of the controller, or null if the class isn't a controller.
+     * @since 4.1.0
+     */
+    public MetaController convertController(Class<?> javaClazz) throws IllegalAccessException, InvocationTargetException {
         boolean isController = Stream.of(javaClazz.getAnnotations())
             .anyMatch((annotation) -> annotation.annotationType().isAnnotationPresent(Controller.class));
 
@@ -140,8 +256,35 @@ public class CommandlerExtension implements Extension {
                 group = "{" + Miscellaneous.class.getName() + "}";
             }
 
-            metaControllers.add(new MetaController(javaClazz, group, component.name, component.description, isHidden, component.properties, commands));
+            return new MetaController(javaClazz, group, component.name, component.description, isHidden, component.properties, commands);
         }
+
+        return null;
+    }
+
+    /**
+     * Builds the metadata of all components once all beans have been
+     * discovered, then freezes it so it can be shared freely without copies.
+     *
+     * @param afterBeanDiscovery Event fired when bean discovery is complete.
+     * @since 4.1.0
+     */
+    public void freeze(@Observes final AfterBeanDiscovery afterBeanDiscovery) throws IllegalAccessException, InvocationTargetException {
+        for (Class<?> component : components) {
+            processComponent(component);
+        }
+
+        metaControllers.addAll(convertControllers(components));
+
+        dispatcherTypes = List.copyOf(dispatcherTypes);
+        headerBinderTypes = List.copyOf(headerBinderTypes);
+        metaAdapters = List.copyOf(metaAdapters);
+        metaMessengers = List.copyOf(metaMessengers);
+        metaControllers = List.copyOf(metaControllers);
+        metadataIndex = MetadataIndex.EMPTY;
+        candidates = Set.of();
+        components = List.of();
+        frozen = true;
     }
 
     private List<MetaCommand> convertCommands(Class<?> type) throws IllegalAccessException, InvocationTargetException {
@@ -165,7 +308,8 @@ public class CommandlerExtension implements Extension {
                 isHidden = method.getAnnotation(Command.class).hidden();
             }
 
-            commands.add(new MetaCommand(method, component.name, component.description, isHidden, component.properties, params));
+            CommandInvoker invoker = CommandInvoker.create(method);
+            commands.add(new MetaCommand(method, invoker, component.name, component.description, isHidden, component.properties, params));
         }
 
         return commands;
@@ -306,7 +450,7 @@ public class CommandlerExtension implements Extension {
                     }
 
                     MetaProperty property = new MetaProperty(fp.key(), value, fp.isPublic(), fp.i18n(), fp.displayName());
-                    properties.put(type.getName() + "." + fp.key(), property);
+                    properties.put(PropertyKey.of(type, fp.key()).getName(), property);
                 }
             }
         }
@@ -331,23 +475,56 @@ public class CommandlerExtension implements Extension {
     }
 
     public Collection<Class<? extends Dispatcher>> getDispatcherTypes() {
-        return Collections.unmodifiableCollection(dispatcherTypes);
+        return unmodifiable(dispatcherTypes);
     }
 
     public Collection<Class<? extends HeaderBinder>> getHeaderBinders() {
-        return Collections.unmodifiableCollection(headerBinderTypes);
+        return unmodifiable(headerBinderTypes);
     }
 
     public Collection<MetaAdapter> getMetaAdapters() {
-        return Collections.unmodifiableCollection(metaAdapters);
+        return unmodifiable(metaAdapters);
     }
 
     public Collection<MetaMessenger> getMetaMessengers() {
-        return Collections.unmodifiableCollection(metaMessengers);
+        return unmodifiable(metaMessengers);
     }
 
+    /**
+     * Controllers can be changed at runtime with the {@link ControllerRegistry},
+     * this always returns a consistent snapshot that's never modified.
+     *
+     * @return Metadata of all controllers.
+     */
     public Collection<MetaController> getMetaControllers() {
-        return Collections.unmodifiableCollection(metaControllers);
+        return unmodifiable(metaControllers);
+    }
+
+    /**
+     * Replaces all controllers at once, readers see either all or none of
+     * the change.
+     *
+     * @param metaControllers Controllers to replace the current controllers with.
+     * @return Controllers before they were replaced.
+     * @throws IllegalStateException If discovery hasn't finished yet.
+     * @since 4.1.0
+     */
+    synchronized Collection<MetaController> setMetaControllers(Collection<MetaController> metaControllers) {
+        if (!frozen) {
+            throw new IllegalStateException("Controllers can't be changed until discovery has finished.");
+        }
+
+        Collection<MetaController> previous = this.metaControllers;
+        this.metaControllers = List.copyOf(metaControllers);
+        return previous;
+    }
+
+    /**
+     * @param collection Collection of metadata.
+     * @return Collection as is once frozen, otherwise an unmodifiable view of it.
+     */
+    private <T> Collection<T> unmodifiable(Collection<T> collection) {
+        return (frozen) ? collection : Collections.unmodifiableCollection(collection);
     }
 
     /**
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2019-2025 Seth Falco and Commandler Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package fun.falco.commandler;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.control.RequestContextController;
+import javax.enterprise.inject.Instance;
+import javax.enterprise.inject.spi.Bean;
+import javax.enterprise.inject.spi.BeanManager;
+import javax.inject.Inject;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import fun.falco.commandler.api.Integration;
+import fun.falco.commandler.event.ActionEvent;
+import fun.falco.commandler.event.WarmupEvent;
+import fun.falco.commandler.i18n.CommandlerMessageResolver;
+import fun.falco.commandler.managers.AdapterManager;
+import fun.falco.commandler.metadata.MetaAdapter;
+import fun.falco.commandler.metadata.MetaController;
+import fun.falco.commandler.metadata.MetaMessenger;
+
+/**
+ * Builds everything that's otherwise built lazily when the first requests
+ * are handled, so the first users don't wait for it.
+ *
+ * <p>This instantiates every controller, adapter, and messenger, and
+ * resolves every i18n message in the metadata. Then fires a
+ * {@link WarmupEvent} for other components to warm up, such as dispatchers
+ * routing synthetic requests, or validation building its metadata. Finally
+ * the parameters of every synthetic request are adapted, but no command is
+ * performed.</p>
+ *
+ * <p>This is only performed if {@link WarmupConfig#isEnabled()}.</p>
+ *
+ * @author seth@falco.fun (Seth Falco)
+ * @since 4.1.0
+ */
+@ApplicationScoped
+public class CommandlerWarmup {
+
+    private static final Logger logger = LoggerFactory.getLogger(CommandlerWarmup.class);
+
+    private final BeanManager beanManager;
+    private final CommandlerExtension extension;
+    private final CommandlerMessageResolver messageResolver;
+    private final AdapterManager adapterManager;
+    private final Instance<RequestContextController> requestContextControllers;
+    private final WarmupConfig config;
+
+    @Inject
+    public CommandlerWarmup(BeanManager beanManager, CommandlerExtension extension, CommandlerMessageResolver messageResolver, AdapterManager adapterManager, Instance<RequestContextController> requestContextControllers, WarmupConfig config) {
+        this.beanManager = Objects.requireNonNull(beanManager);
+        this.extension = Objects.requireNonNull(extension);
+        this.messageResolver = Objects.requireNonNull(messageResolver);
+        this.adapterManager = Objects.requireNonNull(adapterManager);
+        this.requestContextControllers = Objects.requireNonNull(requestContextControllers);
+        this.config = Objects.requireNonNull(config);
+    }
+
+    /**
+     * @param integrations Integrations that will be initialized once warmed up.
+     * @return How long it took to warm up, or null if warming up is disabled.
+     */
+    public Duration warmup(List<Integration<?, ?>> integrations) {
+        if (!config.isEnabled()) {
+            return null;
+        }
+
+        long start = System.nanoTime();
+        Collection<MetaController> metaControllers = extension.getMetaControllers();
+        RequestContextController requestContextController = requestContextControllers.get();
+        boolean activated = requestContextController.activate();
+
+        try {
+            for (MetaController metaController : metaControllers) {
+                instantiate(metaController.getControllerType());
+            }
+
+            for (String key : messageResolver.getMetadataKeys()) {
+                messageResolver.getMessage(key);
+            }
+
+            for (MetaAdapter metaAdapter : extension.getMetaAdapters()) {
+                instantiate(metaAdapter.getAdapterType());
+            }
+
+            for (MetaMessenger metaMessenger : extension.getMetaMessengers()) {
+                instantiate(metaMessenger.getProviderType());
+            }
+
+            WarmupEvent event = new WarmupEvent(metaControllers, integrations);
+            beanManager.getEvent().fire(event);
+
+            for (ActionEvent<?, ?> actionEvent : event.getActionEvents()) {
+                adapt(actionEvent);
+            }
+        } finally {
+            if (activated) {
+                requestContextController.deactivate();
+            }
+
+            requestContextControllers.destroy(requestContextController);
+        }
+
+        Duration duration = Duration.ofNanos(System.nanoTime() - start);
+        logger.info("Warmed up {} controllers in {} ms.", metaControllers.size(), duration.toMillis());
+        return duration;
+    }
+
+    /**
+     * Creates the contextual instance of a bean, rather than a proxy that
+     * only creates it when first used. Beans that aren't in a normal scope
+     * are skipped, as their instances would be discarded.
+     *
+     * @param type Type of the bean.
+     */
+    private void instantiate(Class<?> type) {
+        Bean<?> bean = beanManager.resolve(beanManager.getBeans(type));
+
+        if (bean == null || !beanManager.isNormalScope(bean.getScope())) {
+            logger.debug("Skipped instantiating {} as it isn't a bean in a normal scope.", type);
+            return;
+        }
+
+        create(bean);
+    }
+
+    private <T> void create(Bean<T> bean) {
+        beanManager.getContext(bean.getScope()).get(bean, beanManager.createCreationalContext(bean));
+    }
+
+    /**
+     * Adapts the parameters of an event from a synthetic request. The
+     * placeholders of the request may not be valid for every adapter, so
+     * failing to adapt them isn't an error.
+     *
+     * @param actionEvent Event routed from a synthetic request.
+     */
+    private void adapt(ActionEvent<?, ?> actionEvent) {
+        try {
+            adapterManager.adaptEvent(actionEvent);
+        } catch (RuntimeException ex) {
+            logger.debug("Failed to adapt the parameters of {} while warming up.", actionEvent.getMetaCommand(), ex);
+        }
+    }
+}
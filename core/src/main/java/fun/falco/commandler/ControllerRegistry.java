@@ -0,0 +1,143 @@
+/*
+ * Copyright 2019-2025 Seth Falco and Commandler Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package fun.falco.commandler;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.inject.spi.BeanManager;
+import javax.inject.Inject;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import fun.falco.commandler.event.ControllersChangedEvent;
+import fun.falco.commandler.metadata.MetaController;
+
+/**
+ * Adds, replaces, or removes controllers while the application is running,
+ * for example to load or reload plugins without restarting.
+ *
+ * <p>Every change builds a new set of controllers, then publishes it at once
+ * and fires a {@link ControllersChangedEvent} so dispatchers and managers
+ * can rebuild their routing tables. Requests being handled while this happens
+ * keep using the controllers they started with, and are never blocked.</p>
+ *
+ * <p>Controllers must still be beans, so they can be instantiated when
+ * they're used. Changes are serialized, but are comparatively expensive,
+ * so it's preferable to make changes in bulk with {@link #replace(Collection)}.</p>
+ *
+ * @author seth@falco.fun (Seth Falco)
+ * @since 4.1.0
+ */
+@ApplicationScoped
+public class ControllerRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(ControllerRegistry.class);
+
+    private final CommandlerExtension extension;
+    private final BeanManager beanManager;
+
+    @Inject
+    public ControllerRegistry(CommandlerExtension extension, BeanManager beanManager) {
+        this.extension = Objects.requireNonNull(extension);
+        this.beanManager = Objects.requireNonNull(beanManager);
+    }
+
+    /**
+     * Reflects over a class and registers it as a controller, replacing the
+     * existing controller of the same type if there is one.
+     *
+     * @param type Class of the controller.
+     * @return Metadata of the registered controller.
+     * @throws IllegalArgumentException If the class isn't a controller.
+     */
+    public MetaController register(Class<?> type) throws IllegalAccessException, InvocationTargetException {
+        MetaController metaController = extension.convertController(type);
+
+        if (metaController == null) {
+            throw new IllegalArgumentException(type.getName() + " is not a controller.");
+        }
+
+        register(metaController);
+        return metaController;
+    }
+
+    /**
+     * @param metaController Controller to add, or to replace the existing controller of the same type with.
+     */
+    public synchronized void register(MetaController metaController) {
+        Objects.requireNonNull(metaController);
+        List<MetaController> metaControllers = new ArrayList<>(extension.getMetaControllers());
+        int index = indexOf(metaControllers, metaController.getControllerType());
+
+        if (index == -1) {
+            metaControllers.add(metaController);
+        } else {
+            metaControllers.set(index, metaController);
+        }
+
+        publish(metaControllers);
+    }
+
+    /**
+     * @param type Class of the controller.
+     * @return If a controller was removed.
+     */
+    public synchronized boolean unregister(Class<?> type) {
+        List<MetaController> metaControllers = new ArrayList<>(extension.getMetaControllers());
+        int index = indexOf(metaControllers, type);
+
+        if (index == -1) {
+            return false;
+        }
+
+        metaControllers.remove(index);
+        publish(metaControllers);
+        return true;
+    }
+
+    /**
+     * @param metaControllers Controllers to replace all existing controllers with.
+     */
+    public synchronized void replace(Collection<MetaController> metaControllers) {
+        publish(metaControllers);
+    }
+
+    private void publish(Collection<MetaController> metaControllers) {
+        Collection<MetaController> previous = extension.setMetaControllers(metaControllers);
+        Collection<MetaController> current = extension.getMetaControllers();
+
+        long start = System.nanoTime();
+        beanManager.getEvent().fire(new ControllersChangedEvent(previous, current));
+        logger.info("Changed controllers from {} to {}, rebuilt routing in {} ms.", previous.size(), current.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private static int indexOf(List<MetaController> metaControllers, Class<?> type) {
+        for (int i = 0; i < metaControllers.size(); i++) {
+            if (metaControllers.get(i).getControllerType() == type) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+}
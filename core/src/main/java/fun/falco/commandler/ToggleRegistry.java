@@ -0,0 +1,292 @@
+/*
+ * Copyright 2019-2025 Seth Falco and Commandler Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package fun.falco.commandler;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import fun.falco.commandler.api.Integration;
+import fun.falco.commandler.event.ControllersChangedEvent;
+import fun.falco.commandler.exceptions.misuse.ModuleDisabledException;
+import fun.falco.commandler.metadata.MetaCommand;
+import fun.falco.commandler.metadata.MetaController;
+
+/**
+ * Enables or disables controllers and commands at runtime, for example to
+ * turn off a command that's misbehaving without redeploying. Commands that
+ * are disabled fail with a {@link ModuleDisabledException} before their
+ * parameters are adapted.
+ *
+ * <p>Commands can be disabled everywhere, or only for one {@link Integration}.
+ * Integrations are identified by their class, so it doesn't matter if the
+ * instance given is the integration itself or a client proxy of it.
+ * Disabling a controller disables each of its commands, so a controller
+ * that's replaced with the {@link ControllerRegistry} is enabled again.</p>
+ *
+ * <p>The state is a bit set indexed by {@link MetaCommand#getOrdinal()},
+ * copied and replaced as a whole on every change, so checking a command is
+ * a single read without any locks. Bit sets only span the ordinals of the
+ * commands that are disabled, and commands that are removed are dropped,
+ * so they stay small as controllers are replaced.</p>
+ *
+ * @author seth@falco.fun (Seth Falco)
+ * @since 4.1.0
+ */
+@ApplicationScoped
+public class ToggleRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(ToggleRegistry.class);
+
+    /** Commands that are currently disabled. */
+    private volatile Toggles toggles = Toggles.NONE;
+
+    /**
+     * @param metaCommand Command to check.
+     * @param integration Integration the command is being performed on, or null.
+     * @return If the command is enabled everywhere, and on the integration if one is given.
+     */
+    public boolean isEnabled(MetaCommand metaCommand, Integration<?, ?> integration) {
+        Toggles toggles = this.toggles;
+        int ordinal = metaCommand.getOrdinal();
+
+        if (toggles.disabled.isSet(ordinal)) {
+            return false;
+        }
+
+        if (integration == null || toggles.integrations.isEmpty()) {
+            return true;
+        }
+
+        Bits bits = toggles.integrations.get(getIntegrationType(integration));
+        return bits == null || !bits.isSet(ordinal);
+    }
+
+    /**
+     * @param metaCommand Command to check.
+     * @return If the command is enabled everywhere.
+     */
+    public boolean isEnabled(MetaCommand metaCommand) {
+        return isEnabled(metaCommand, null);
+    }
+
+    /**
+     * @param metaCommand Command to enable or disable everywhere.
+     * @param enabled If the command should be enabled.
+     */
+    public void setEnabled(MetaCommand metaCommand, boolean enabled) {
+        setEnabled(null, enabled, metaCommand);
+    }
+
+    /**
+     * @param metaCommand Command to enable or disable.
+     * @param integration Integration to enable or disable the command on.
+     * @param enabled If the command should be enabled.
+     */
+    public void setEnabled(MetaCommand metaCommand, Integration<?, ?> integration, boolean enabled) {
+        setEnabled(getIntegrationType(integration), enabled, metaCommand);
+    }
+
+    /**
+     * @param metaController Controller to enable or disable all commands of everywhere.
+     * @param enabled If the commands should be enabled.
+     */
+    public void setEnabled(MetaController metaController, boolean enabled) {
+        setEnabled(null, enabled, metaController.getMetaCommands().toArray(MetaCommand[]::new));
+    }
+
+    /**
+     * @param metaController Controller to enable or disable all commands of.
+     * @param integration Integration to enable or disable the commands on.
+     * @param enabled If the commands should be enabled.
+     */
+    public void setEnabled(MetaController metaController, Integration<?, ?> integration, boolean enabled) {
+        setEnabled(getIntegrationType(integration), enabled, metaController.getMetaCommands().toArray(MetaCommand[]::new));
+    }
+
+    /**
+     * Enables all commands everywhere.
+     */
+    public synchronized void reset() {
+        toggles = Toggles.NONE;
+    }
+
+    /**
+     * Forgets the commands that were removed, as their ordinals are never
+     * used again.
+     *
+     * @param event Fired after controllers have been changed at runtime.
+     */
+    public synchronized void onControllersChanged(@Observes ControllersChangedEvent event) {
+        Toggles current = toggles;
+
+        if (current == Toggles.NONE) {
+            return;
+        }
+
+        Bits disabled = current.disabled;
+        Map<Class<?>, Bits> integrations = new HashMap<>(current.integrations);
+
+        for (MetaCommand metaCommand : event.getRemovedCommands()) {
+            disabled = disabled.with(metaCommand.getOrdinal(), false);
+            integrations.replaceAll((type, bits) -> bits.with(metaCommand.getOrdinal(), false));
+        }
+
+        integrations.values().removeIf(Bits::isEmpty);
+        toggles = new Toggles(disabled, integrations);
+    }
+
+    /**
+     * @param integrationType Class of the integration to change the commands on, or null to change them everywhere.
+     * @param enabled If the commands should be enabled.
+     * @param metaCommands Commands to enable or disable.
+     */
+    private synchronized void setEnabled(Class<?> integrationType, boolean enabled, MetaCommand... metaCommands) {
+        Toggles current = toggles;
+        Bits bits = (integrationType == null) ? current.disabled : current.integrations.getOrDefault(integrationType, Bits.EMPTY);
+
+        for (MetaCommand metaCommand : metaCommands) {
+            bits = bits.with(metaCommand.getOrdinal(), !enabled);
+            logger.info("{} {}{}.", (enabled) ? "Enabled" : "Disabled", metaCommand.getMethod(), (integrationType == null) ? "" : " on " + integrationType.getName());
+        }
+
+        if (integrationType == null) {
+            toggles = new Toggles(bits, current.integrations);
+        } else {
+            Map<Class<?>, Bits> integrations = new HashMap<>(current.integrations);
+
+            if (bits.isEmpty()) {
+                integrations.remove(integrationType);
+            } else {
+                integrations.put(integrationType, bits);
+            }
+
+            toggles = new Toggles(current.disabled, integrations);
+        }
+    }
+
+    /**
+     * Client proxies are generated subclasses of the bean class, and are
+     * marked as synthetic, so they're skipped.
+     *
+     * @param integration Integration, or a client proxy of one.
+     * @return Class of the integration.
+     */
+    private static Class<?> getIntegrationType(Integration<?, ?> integration) {
+        Class<?> type = Objects.requireNonNull(integration).getClass();
+
+        while (type.isSynthetic() && type.getSuperclass() != Object.class) {
+            type = type.getSuperclass();
+        }
+
+        return type;
+    }
+
+    /**
+     * Commands that are disabled everywhere, and on each integration.
+     */
+    private static final class Toggles {
+
+        private static final Toggles NONE = new Toggles(Bits.EMPTY, Map.of());
+
+        private final Bits disabled;
+        private final Map<Class<?>, Bits> integrations;
+
+        private Toggles(Bits disabled, Map<Class<?>, Bits> integrations) {
+            this.disabled = disabled;
+            this.integrations = Map.copyOf(integrations);
+        }
+    }
+
+    /**
+     * Immutable bit set of ordinals, that only stores the words from the
+     * lowest to the highest bit that's set.
+     */
+    private static final class Bits {
+
+        private static final Bits EMPTY = new Bits(0, new long[0]);
+
+        /** Index of the first word. */
+        private final int offset;
+
+        /** Words from the offset, never modified and never starting or ending with 0. */
+        private final long[] words;
+
+        private Bits(int offset, long[] words) {
+            this.offset = offset;
+            this.words = words;
+        }
+
+        private boolean isSet(int ordinal) {
+            int word = (ordinal >>> 6) - offset;
+            return word >= 0 && word < words.length && (words[word] & (1L << ordinal)) != 0;
+        }
+
+        private boolean isEmpty() {
+            return words.length == 0;
+        }
+
+        /**
+         * @param ordinal Ordinal to set or clear.
+         * @param set If the bit should be set.
+         * @return Bits with the ordinal set or cleared, or this if it was already.
+         */
+        private Bits with(int ordinal, boolean set) {
+            if (isSet(ordinal) == set) {
+                return this;
+            }
+
+            int word = ordinal >>> 6;
+            int start = word;
+            int end = word + 1;
+
+            if (!isEmpty()) {
+                start = Math.min(offset, word);
+                end = Math.max(offset + words.length, end);
+            }
+
+            long[] copy = new long[end - start];
+            System.arraycopy(words, 0, copy, (isEmpty()) ? 0 : offset - start, words.length);
+
+            if (set) {
+                copy[word - start] |= 1L << ordinal;
+            } else {
+                copy[word - start] &= ~(1L << ordinal);
+            }
+
+            int from = 0;
+            int to = copy.length;
+
+            while (from < to && copy[from] == 0) {
+                from++;
+            }
+
+            while (to > from && copy[to - 1] == 0) {
+                to--;
+            }
+
+            return (from == to) ? EMPTY : new Bits(start + from, Arrays.copyOfRange(copy, from, to));
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2019-2025 Seth Falco and Commandler Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package fun.falco.commandler;
+
+import org.apache.deltaspike.core.api.config.ConfigProperty;
+import org.apache.deltaspike.core.api.config.Configuration;
+
+import fun.falco.commandler.api.Integration;
+
+/**
+ * The configuration for the {@link CommandlerWarmup}.
+ *
+ * @author seth@falco.fun (Seth Falco)
+ * @since 4.1.0
+ */
+@Configuration(prefix = "commandler.warmup.")
+public interface WarmupConfig {
+
+    /**
+     * If enabled, everything that's otherwise built when the first requests
+     * are handled is built before any {@link Integration} is initialized.
+     *
+     * <p>This is disabled by default, as it makes startup slower.</p>
+     *
+     * @return If Commandler should warm up before accepting requests.
+     */
+    @ConfigProperty(name = "enabled", defaultValue = "false")
+    Boolean isEnabled();
+}
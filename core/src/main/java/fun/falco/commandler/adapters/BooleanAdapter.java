@@ -21,6 +21,7 @@ import java.util.List;
 
 import fun.falco.commandler.annotation.stereotypes.ParamAdapter;
 import fun.falco.commandler.api.Adapter;
+import fun.falco.commandler.api.PrimitiveAdapter;
 import fun.falco.commandler.event.ActionEvent;
 import fun.falco.commandler.metadata.MetaParam;
 
@@ -28,7 +29,7 @@ import fun.falco.commandler.metadata.MetaParam;
  * @author seth@falco.fun (Seth Falco)
  */
 @ParamAdapter(Boolean.class)
-public class BooleanAdapter implements Adapter<Boolean> {
+public class BooleanAdapter implements Adapter<Boolean>, PrimitiveAdapter.OfBoolean {
 
     private static final Collection<String> TRUE = List.of(
         "true", "t", // Formal responses
@@ -60,4 +61,15 @@ public class BooleanAdapter implements Adapter<Boolean> {
 
         return null;
     }
+
+    @Override
+    public boolean adaptBoolean(CharSequence input) {
+        Boolean value = adapt(input.toString(), boolean.class, null, null);
+
+        if (value == null) {
+            throw new IllegalArgumentException("Input is not a boolean: " + input);
+        }
+
+        return value;
+    }
 }
@@ -18,6 +18,7 @@ package fun.falco.commandler.adapters;
 
 import fun.falco.commandler.annotation.stereotypes.ParamAdapter;
 import fun.falco.commandler.api.Adapter;
+import fun.falco.commandler.api.PrimitiveAdapter;
 import fun.falco.commandler.event.ActionEvent;
 import fun.falco.commandler.metadata.MetaParam;
 
@@ -25,7 +26,7 @@ import fun.falco.commandler.metadata.MetaParam;
  * @author seth@falco.fun (Seth Falco)
  */
 @ParamAdapter(Character.class)
-public class CharAdapter implements Adapter<Character> {
+public class CharAdapter implements Adapter<Character>, PrimitiveAdapter.OfChar {
 
     @Override
     public Character adapt(String input, Class<? extends Character> type, MetaParam data, ActionEvent<?, ?> event) {
@@ -43,4 +44,15 @@ public class CharAdapter implements Adapter<Character> {
 
         return null;
     }
+
+    @Override
+    public char adaptChar(CharSequence input) {
+        Character value = adapt(input.toString(), char.class, null, null);
+
+        if (value == null) {
+            throw new IllegalArgumentException("Input is not a character: " + input);
+        }
+
+        return value;
+    }
 }
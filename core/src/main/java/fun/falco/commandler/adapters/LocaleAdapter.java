@@ -16,12 +16,17 @@
 
 package fun.falco.commandler.adapters;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.MissingResourceException;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.enterprise.context.RequestScoped;
 import javax.inject.Inject;
@@ -35,6 +40,14 @@ import fun.falco.commandler.metadata.MetaParam;
 import fun.falco.commandler.utils.ChatUtils;
 
 /**
+ * Finds a locale by its language tag, language or country code, ISO3 code,
+ * display name in English, itself, or the current locale, or the flag
+ * emoji of its country.
+ *
+ * <p>Every string that's accepted is indexed once per current locale, with
+ * the locale it resolves to, so adapting is a single lookup. Indexes are
+ * immutable and shared by all instances.</p>
+ *
  * @author seth@falco.fun (Seth Falco)
  */
 @RequestScoped
@@ -43,12 +56,12 @@ public class LocaleAdapter implements Adapter<Locale> {
 
     private static final Locale[] LOCALES = Locale.getAvailableLocales();
 
-    /** The length of a country flag emoji string, available on most operation systems or social media. */
-    private static final int COUNTRY_FLAG_EMOJI_LENGTH = 4;
-
     /** The max number of acceptable strings we're expecting to have. */
     private static final int ACCEPTABLE_STRINGS_INITIAL_SIZE = 11;
 
+    /** Index of each current locale, built when first required. */
+    private static final Map<Locale, Map<String, Locale>> INDEXES = new ConcurrentHashMap<>();
+
     private final Locale currentLocale;
 
     public LocaleAdapter() {
@@ -67,87 +80,182 @@ public class LocaleAdapter implements Adapter<Locale> {
     @Override
     public Locale adapt(final String input, Class<? extends Locale> type, MetaParam metaParam, ActionEvent<?, ?> event) {
         Objects.requireNonNull(input);
+        Map<String, Locale> index = INDEXES.computeIfAbsent(currentLocale, LocaleAdapter::buildIndex);
+        return index.get(fold(input.replace('_', '-')));
+    }
+
+    /**
+     * Folds the case of a string, so strings that are
+     * {@link String#equalsIgnoreCase(String) equal ignoring case} are equal.
+     *
+     * @param string String to fold.
+     * @return String with each character in the same case.
+     */
+    private static String fold(String string) {
+        StringBuilder builder = new StringBuilder(string.length());
+        string.codePoints().forEach((codePoint) -> builder.appendCodePoint(Character.toLowerCase(Character.toUpperCase(codePoint))));
+        return builder.toString();
+    }
 
-        String query = input.replace('_', '-');
+    /**
+     * Collects every locale each string matches in the order of
+     * {@link #LOCALES}, then resolves each string to a locale with the
+     * same rules as if the locales were searched for that string.
+     *
+     * @param currentLocale Locale to accept display names in, as well as English and the locale itself.
+     * @return Locale that each folded string resolves to.
+     */
+    private static Map<String, Locale> buildIndex(Locale currentLocale) {
+        Map<String, Matches> matches = new HashMap<>();
 
-        String countryEmoji = null;
+        for (Locale locale : LOCALES) {
+            matches.computeIfAbsent(fold(locale.toLanguageTag()), (key) -> new Matches()).matchTag(locale);
+
+            Set<String> languageStrings = new HashSet<>();
+            languageStrings.add(locale.getLanguage());
+            languageStrings.add(locale.getDisplayLanguage(Locale.US));
+            languageStrings.add(locale.getDisplayLanguage(locale));
+            languageStrings.add(locale.getDisplayLanguage(currentLocale));
+
+            try {
+                languageStrings.add(locale.getISO3Language());
+            } catch (MissingResourceException ex) {
+                // Do nothing, there's nothing wrong with this.
+            }
 
-        if (query.length() == COUNTRY_FLAG_EMOJI_LENGTH) {
-            countryEmoji = ChatUtils.replaceFromIndicators(query);
-        }
+            Set<String> countryStrings = new HashSet<>();
+            String country = locale.getCountry();
 
-        Set<Locale> candidates = null;
-        Locale languageLocale = null;
-        Locale countryLocale = null;
+            if (!country.isBlank()) {
+                countryStrings.add(country);
+                countryStrings.add(locale.getDisplayCountry(Locale.US));
+                countryStrings.add(locale.getDisplayCountry(locale));
+                countryStrings.add(locale.getDisplayCountry(currentLocale));
 
-        for (Locale locale : LOCALES) {
-            if (query.equalsIgnoreCase(locale.toLanguageTag())) {
-                return locale;
+                try {
+                    countryStrings.add(locale.getISO3Country());
+                } catch (MissingResourceException ex) {
+                    // Do nothing, there's nothing wrong with this.
+                }
+
+                if (country.length() == 2 && country.chars().allMatch((c) -> c >= 'A' && c <= 'Z')) {
+                    countryStrings.add(ChatUtils.replaceWithIndicators(country));
+                }
             }
 
-            if (candidates == null) {
-                candidates = new HashSet<>(ACCEPTABLE_STRINGS_INITIAL_SIZE);
+            Set<String> languageKeys = new HashSet<>();
+            Set<String> countryKeys = new HashSet<>();
+            languageStrings.forEach((string) -> languageKeys.add(fold(string)));
+            countryStrings.forEach((string) -> countryKeys.add(fold(string)));
+
+            for (String key : languageKeys) {
+                matches.computeIfAbsent(key, (k) -> new Matches()).matchLanguage(locale, countryKeys.contains(key));
             }
 
-            Set<String> acceptableStrings = new HashSet<>();
-            acceptableStrings.add(locale.getLanguage());
-            acceptableStrings.add(locale.getDisplayLanguage(Locale.US));
-            acceptableStrings.add(locale.getDisplayLanguage(locale));
-            acceptableStrings.add(locale.getDisplayLanguage(currentLocale));
-            acceptableStrings.add(locale.getISO3Language());
+            for (String key : countryKeys) {
+                if (!languageKeys.contains(key)) {
+                    matches.computeIfAbsent(key, (k) -> new Matches()).matchCountry(locale);
+                }
+            }
+        }
+
+        Map<String, Locale> index = new HashMap<>();
+
+        for (Map.Entry<String, Matches> entry : matches.entrySet()) {
+            Locale locale = entry.getValue().resolve();
 
-            if (acceptableStrings.stream().anyMatch(query::equalsIgnoreCase)) {
-                candidates.add(locale);
-                languageLocale = locale;
+            if (locale != null) {
+                index.put(entry.getKey(), locale);
             }
+        }
 
-            acceptableStrings.clear();
+        return Map.copyOf(index);
+    }
 
-            if (!locale.getCountry().isBlank()) {
-                acceptableStrings.add(locale.getCountry());
-                acceptableStrings.add(locale.getDisplayCountry(Locale.US));
-                acceptableStrings.add(locale.getDisplayCountry(locale));
-                acceptableStrings.add(locale.getDisplayCountry(currentLocale));
+    /**
+     * Every locale a single string matches, in the order they were matched.
+     */
+    private static final class Matches {
 
-                try {
-                    acceptableStrings.add(locale.getISO3Country());
-                } catch (MissingResourceException ex) {
-                    // Do nothing, there's nothing wrong with this.
-                }
+        /** First locale with this language tag. */
+        private Locale tagLocale;
+
+        /** Last locale whose language matches. */
+        private Locale languageLocale;
+
+        /** Last locale whose country matches. */
+        private Locale countryLocale;
+
+        /** All locales that matched, in order. */
+        private final List<Locale> candidates = new ArrayList<>();
+
+        private void matchTag(Locale locale) {
+            if (tagLocale == null) {
+                tagLocale = locale;
             }
+        }
 
-            if (acceptableStrings.stream().anyMatch(query::equalsIgnoreCase) || locale.getCountry().equals(countryEmoji)) {
-                candidates.add(locale);
+        /**
+         * @param locale Locale whose language matches.
+         * @param isCountry If the country of the locale matches too.
+         */
+        private void matchLanguage(Locale locale, boolean isCountry) {
+            candidates.add(locale);
+            languageLocale = locale;
+
+            if (isCountry) {
                 countryLocale = locale;
             }
         }
 
-        if (countryLocale == languageLocale) {
-            return countryLocale;
+        private void matchCountry(Locale locale) {
+            candidates.add(locale);
+            countryLocale = locale;
         }
 
-        if (languageLocale != null && countryLocale == null) {
-            String ll = languageLocale.getLanguage();
-            Optional<Locale> test = candidates.stream()
-                .filter((l) -> ll.equalsIgnoreCase(l.getLanguage()) && l.getCountry().isBlank())
-                .findAny();
+        /**
+         * Prefers the language tag, then a locale that matches by both
+         * language and country, then the locale without a country for a
+         * language, then the locale whose language code is the same as the
+         * country code for a country.
+         *
+         * @return Locale this string resolves to, or null if it doesn't match any.
+         */
+        private Locale resolve() {
+            if (tagLocale != null) {
+                return tagLocale;
+            }
 
-            if (test.isPresent()) {
-                return test.get();
+            if (countryLocale == languageLocale) {
+                return countryLocale;
             }
-        }
 
-        if (languageLocale == null) {
-            String cc = countryLocale.getCountry();
-            Optional<Locale> test = candidates.stream()
-                .filter((l) -> l.getLanguage().equalsIgnoreCase(cc) && l.getCountry().equals(cc))
-                .findAny();
+            Set<Locale> candidates = new HashSet<>(ACCEPTABLE_STRINGS_INITIAL_SIZE);
+            candidates.addAll(this.candidates);
 
-            if (test.isPresent()) {
-                return test.get();
+            if (languageLocale != null && countryLocale == null) {
+                String ll = languageLocale.getLanguage();
+                Optional<Locale> test = candidates.stream()
+                    .filter((l) -> ll.equalsIgnoreCase(l.getLanguage()) && l.getCountry().isBlank())
+                    .findAny();
+
+                if (test.isPresent()) {
+                    return test.get();
+                }
             }
-        }
 
-        return (countryLocale != null) ? countryLocale : languageLocale;
+            if (languageLocale == null) {
+                String cc = countryLocale.getCountry();
+                Optional<Locale> test = candidates.stream()
+                    .filter((l) -> l.getLanguage().equalsIgnoreCase(cc) && l.getCountry().equals(cc))
+                    .findAny();
+
+                if (test.isPresent()) {
+                    return test.get();
+                }
+            }
+
+            return (countryLocale != null) ? countryLocale : languageLocale;
+        }
     }
 }
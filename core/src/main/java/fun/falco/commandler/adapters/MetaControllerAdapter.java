@@ -57,7 +57,7 @@ public class MetaControllerAdapter implements Adapter<MetaController> {
                 return controller;
             }
 
-            String aliases = resolver.getMessage(controller.getProperty(StandardDispatcher.class, "aliases").getValue());
+            String aliases = resolver.getMessage(controller.getProperty(StandardDispatcher.ALIASES).getValue());
 
             if (aliases.equalsIgnoreCase(input)) {
                 return controller;
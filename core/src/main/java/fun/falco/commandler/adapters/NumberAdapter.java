@@ -16,6 +16,8 @@
 
 package fun.falco.commandler.adapters;
 
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
 import java.text.NumberFormat;
 import java.text.ParsePosition;
 import java.util.Objects;
@@ -24,24 +26,96 @@ import javax.inject.Inject;
 
 import fun.falco.commandler.annotation.stereotypes.ParamAdapter;
 import fun.falco.commandler.api.Adapter;
+import fun.falco.commandler.api.PrimitiveAdapter;
 import fun.falco.commandler.event.ActionEvent;
 import fun.falco.commandler.metadata.MetaParam;
 
 /**
+ * Parses plain numbers with ASCII digits, an optional minus sign, and the
+ * grouping and decimal separators of the format directly, without
+ * allocating. Anything else, or anything that would overflow the type, is
+ * parsed by the {@link NumberFormat}, so results are always the same as
+ * parsing with the {@link NumberFormat}.
+ *
+ * <p>Arrays of primitive numbers are adapted through the
+ * {@link PrimitiveAdapter} methods, which don't box plain numbers at all.</p>
+ *
  * @author seth@falco.fun (Seth Falco)
  */
 @ParamAdapter({Long.class, Integer.class, Short.class, Byte.class, Double.class, Float.class})
-public class NumberAdapter implements Adapter<Number> {
+public class NumberAdapter implements Adapter<Number>, PrimitiveAdapter.OfByte, PrimitiveAdapter.OfShort, PrimitiveAdapter.OfInt, PrimitiveAdapter.OfLong, PrimitiveAdapter.OfFloat, PrimitiveAdapter.OfDouble {
+
+    /** Returned by the fast path if the input must be parsed by the format. */
+    private static final long NOT_PLAIN = Long.MIN_VALUE;
+
+    /** Largest mantissa that a double represents exactly. */
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+    /** Powers of 10 that a double represents exactly. */
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    /** Powers of 10 that a long can hold, a mantissa can't have more digits than these. */
+    private static final long[] LONG_POWERS_OF_TEN = {
+        1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L,
+        1_000_000_000L, 10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L,
+        10_000_000_000_000L, 100_000_000_000_000L, 1_000_000_000_000_000L
+    };
 
     private NumberFormat defaultFormat;
 
+    /** If the format is simple enough to parse plain numbers without it. */
+    private final boolean isFastPath;
+
+    private final char minusSign;
+    private final char decimalSeparator;
+
+    /** Grouping separator, only accepted if the format uses grouping. */
+    private final boolean isGroupingUsed;
+    private final char groupingSeparator;
+
     public NumberAdapter() {
         this(NumberFormat.getInstance());
     }
 
     @Inject
     public NumberAdapter(NumberFormat defaultFormat) {
+        this(defaultFormat, true);
+    }
+
+    /**
+     * @param defaultFormat Format to parse numbers with.
+     * @param isFastPath If plain numbers may be parsed without the format, if it's supported.
+     * @since 4.1.0
+     */
+    NumberAdapter(NumberFormat defaultFormat, boolean isFastPath) {
         this.defaultFormat = defaultFormat;
+
+        if (isFastPath && defaultFormat instanceof DecimalFormat) {
+            DecimalFormat format = (DecimalFormat) defaultFormat;
+            DecimalFormatSymbols symbols = format.getDecimalFormatSymbols();
+            this.minusSign = symbols.getMinusSign();
+            this.decimalSeparator = symbols.getDecimalSeparator();
+            this.groupingSeparator = symbols.getGroupingSeparator();
+            this.isGroupingUsed = format.isGroupingUsed();
+            this.isFastPath = format.getMultiplier() == 1
+                && !format.isParseBigDecimal()
+                && !format.isParseIntegerOnly()
+                && format.getPositivePrefix().isEmpty()
+                && format.getPositiveSuffix().isEmpty()
+                && format.getNegativeSuffix().isEmpty()
+                && format.getNegativePrefix().equals(String.valueOf(minusSign))
+                && !isAsciiDigit(minusSign) && !isAsciiDigit(decimalSeparator) && !isAsciiDigit(groupingSeparator)
+                && minusSign != decimalSeparator && minusSign != groupingSeparator && decimalSeparator != groupingSeparator;
+        } else {
+            this.minusSign = '-';
+            this.decimalSeparator = '.';
+            this.groupingSeparator = ',';
+            this.isGroupingUsed = false;
+            this.isFastPath = false;
+        }
     }
 
     @Override
@@ -49,10 +123,17 @@ public class NumberAdapter implements Adapter<Number> {
         Objects.requireNonNull(input);
         Objects.requireNonNull(type);
 
-        ParsePosition position = new ParsePosition(0);
-        Number number = defaultFormat.parse(input, position);
+        if (isFastPath) {
+            Number number = parseAscii(input, type);
 
-        if (position.getErrorIndex() != -1 || input.length() != position.getIndex()) {
+            if (number != null) {
+                return number;
+            }
+        }
+
+        Number number = parse(input);
+
+        if (number == null) {
             return null;
         }
 
@@ -79,6 +160,226 @@ public class NumberAdapter implements Adapter<Number> {
         throw new IllegalStateException(NumberAdapter.class + " does not support the type " + type + ".");
     }
 
+    @Override
+    public byte adaptByte(CharSequence input) {
+        long value = parseAsciiLong(input);
+        return (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) ? (byte) value : parseRequired(input).byteValue();
+    }
+
+    @Override
+    public short adaptShort(CharSequence input) {
+        long value = parseAsciiLong(input);
+        return (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) ? (short) value : parseRequired(input).shortValue();
+    }
+
+    @Override
+    public int adaptInt(CharSequence input) {
+        long value = parseAsciiLong(input);
+        return (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) ? (int) value : parseRequired(input).intValue();
+    }
+
+    @Override
+    public long adaptLong(CharSequence input) {
+        long value = parseAsciiLong(input);
+        return (value != NOT_PLAIN) ? value : parseRequired(input).longValue();
+    }
+
+    @Override
+    public float adaptFloat(CharSequence input) {
+        double value = parseAsciiDouble(input);
+        return (!Double.isNaN(value)) ? (float) value : parseRequired(input).floatValue();
+    }
+
+    @Override
+    public double adaptDouble(CharSequence input) {
+        double value = parseAsciiDouble(input);
+        return (!Double.isNaN(value)) ? value : parseRequired(input).doubleValue();
+    }
+
+    /**
+     * @param input Parameter input.
+     * @return Number parsed by the format, or null if the format couldn't parse all of it.
+     */
+    private Number parse(String input) {
+        ParsePosition position = new ParsePosition(0);
+        Number number = defaultFormat.parse(input, position);
+
+        if (position.getErrorIndex() != -1 || input.length() != position.getIndex()) {
+            return null;
+        }
+
+        return number;
+    }
+
+    /**
+     * @param input Parameter input.
+     * @return Number parsed by the format.
+     * @throws NumberFormatException If the format couldn't parse all of it.
+     */
+    private Number parseRequired(CharSequence input) {
+        Number number = parse(input.toString());
+
+        if (number == null) {
+            throw new NumberFormatException("Input is not a number: " + input);
+        }
+
+        return number;
+    }
+
+    /**
+     * Parses a plain number directly into the type.
+     *
+     * @param input Parameter input.
+     * @param type Type of number to parse.
+     * @return
+     *     Number, or null if the input isn't a plain number, doesn't fit
+     *     in the type, or may be rounded differently than the format would.
+     */
+    private Number parseAscii(String input, Class<? extends Number> type) {
+        if (type == Double.class || type == double.class) {
+            double value = parseAsciiDouble(input);
+            return (!Double.isNaN(value)) ? value : null;
+        }
+        if (type == Float.class || type == float.class) {
+            double value = parseAsciiDouble(input);
+            return (!Double.isNaN(value)) ? (float) value : null;
+        }
+
+        long value = parseAsciiLong(input);
+
+        if (value == NOT_PLAIN) {
+            return null;
+        }
+
+        if (type == Long.class || type == long.class) {
+            return value;
+        }
+        if ((type == Integer.class || type == int.class) && value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+            return (int) value;
+        }
+        if ((type == Short.class || type == short.class) && value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) {
+            return (short) value;
+        }
+        if ((type == Byte.class || type == byte.class) && value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) {
+            return (byte) value;
+        }
+
+        return null;
+    }
+
+    /**
+     * @param input Parameter input.
+     * @return
+     *     Integer, or {@link #NOT_PLAIN} if the input isn't a plain integer,
+     *     or the fast path isn't supported.
+     */
+    private long parseAsciiLong(CharSequence input) {
+        if (!isFastPath) {
+            return NOT_PLAIN;
+        }
+
+        int length = input.length();
+        boolean isNegative = length > 0 && input.charAt(0) == minusSign;
+        long value = parseDigits(input, (isNegative) ? 1 : 0, length, isGroupingUsed);
+
+        // The format parses negative zero as a double, leave it to the format.
+        if (value == -1 || (isNegative && value == 0)) {
+            return NOT_PLAIN;
+        }
+
+        return (isNegative) ? -value : value;
+    }
+
+    /**
+     * @param input Parameter input.
+     * @return
+     *     Number, or NaN if the input isn't a plain number, may be rounded
+     *     differently than the format would, or the fast path isn't supported.
+     */
+    private double parseAsciiDouble(CharSequence input) {
+        if (!isFastPath) {
+            return Double.NaN;
+        }
+
+        int length = input.length();
+        boolean isNegative = length > 0 && input.charAt(0) == minusSign;
+        int start = (isNegative) ? 1 : 0;
+        int separator = start;
+
+        while (separator < length && input.charAt(separator) != decimalSeparator) {
+            separator++;
+        }
+
+        long integer = parseDigits(input, start, separator, isGroupingUsed);
+        long fraction = 0;
+        int scale = 0;
+
+        if (separator != length) {
+            fraction = parseDigits(input, separator + 1, length, false);
+            scale = length - separator - 1;
+        }
+
+        if (integer == -1 || fraction == -1 || scale >= LONG_POWERS_OF_TEN.length) {
+            return Double.NaN;
+        }
+
+        long power = LONG_POWERS_OF_TEN[scale];
+
+        if (integer > (MAX_EXACT_MANTISSA - fraction) / power) {
+            return Double.NaN;
+        }
+
+        long mantissa = integer * power + fraction;
+
+        // The format parses negative zero as a double, leave it to the format.
+        if (isNegative && mantissa == 0) {
+            return Double.NaN;
+        }
+
+        // Both are exact, so division is correctly rounded like Double.parseDouble.
+        double value = mantissa / POWERS_OF_TEN[scale];
+        return (isNegative) ? -value : value;
+    }
+
+    /**
+     * Grouping separators are only accepted between two digits.
+     *
+     * @param input Parameter input.
+     * @param start Index of the first digit.
+     * @param end Index after the last digit.
+     * @param isGrouped If grouping separators are accepted.
+     * @return Value of the digits, or -1 if there are none, anything else is in the range, or the value overflows.
+     */
+    private long parseDigits(CharSequence input, int start, int end, boolean isGrouped) {
+        if (start >= end) {
+            return -1;
+        }
+
+        long value = 0;
+
+        for (int i = start; i < end; i++) {
+            char c = input.charAt(i);
+
+            if (isAsciiDigit(c)) {
+                int digit = c - '0';
+
+                if (value > (Long.MAX_VALUE - digit) / 10) {
+                    return -1;
+                }
+
+                value = value * 10 + digit;
+            } else if (!isGrouped || c != groupingSeparator || i == start || i + 1 >= end || !isAsciiDigit(input.charAt(i - 1)) || !isAsciiDigit(input.charAt(i + 1))) {
+                return -1;
+            }
+        }
+
+        return value;
+    }
+
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
     /**
      * Calls {@link #adapt(String, Class, MetaParam)} but uses the default type
      * of {@link Integer}.
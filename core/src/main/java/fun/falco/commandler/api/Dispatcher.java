@@ -40,6 +40,23 @@ public interface Dispatcher {
      */
     <S, M> boolean isValid(Request<S, M> request);
 
+    /**
+     * Cheap check on the content alone, before a {@link Request} is created
+     * or any headers are bound. This can be used to drop messages that can't
+     * possibly be commands before doing any other work.
+     *
+     * <p>This must never return false for content that could be valid,
+     * including content that would only be valid depending on the headers of
+     * the request. If in doubt, return true.</p>
+     *
+     * @param content Content of the message that was received.
+     * @return If the content could be a command for this dispatcher.
+     * @since 4.1.0
+     */
+    default boolean isCandidate(String content) {
+        return true;
+    }
+
     /**
      * Break the command down into it's individual components.
      *
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2019-2025 Seth Falco and Commandler Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package fun.falco.commandler.api;
+
+/**
+ * Optional interfaces for an {@link Adapter} to adapt input directly into
+ * primitives, so arrays of primitives can be filled without boxing each
+ * item.
+ *
+ * <p>Unlike {@link Adapter}, these can't return null if the input can't be
+ * adapted, so they throw an {@link IllegalArgumentException} instead. This
+ * should only happen when a user gives invalid input.</p>
+ *
+ * @author seth@falco.fun (Seth Falco)
+ * @since 4.1.0
+ */
+public interface PrimitiveAdapter {
+
+    interface OfBoolean extends PrimitiveAdapter {
+
+        /**
+         * @param input Input from the user.
+         * @return Parsed value.
+         * @throws IllegalArgumentException If the input can't be adapted.
+         */
+        boolean adaptBoolean(CharSequence input);
+    }
+
+    interface OfChar extends PrimitiveAdapter {
+
+        /**
+         * @param input Input from the user.
+         * @return Parsed value.
+         * @throws IllegalArgumentException If the input can't be adapted.
+         */
+        char adaptChar(CharSequence input);
+    }
+
+    interface OfByte extends PrimitiveAdapter {
+
+        /**
+         * @param input Input from the user.
+         * @return Parsed value.
+         * @throws IllegalArgumentException If the input can't be adapted.
+         */
+        byte adaptByte(CharSequence input);
+    }
+
+    interface OfShort extends PrimitiveAdapter {
+
+        /**
+         * @param input Input from the user.
+         * @return Parsed value.
+         * @throws IllegalArgumentException If the input can't be adapted.
+         */
+        short adaptShort(CharSequence input);
+    }
+
+    interface OfInt extends PrimitiveAdapter {
+
+        /**
+         * @param input Input from the user.
+         * @return Parsed value.
+         * @throws IllegalArgumentException If the input can't be adapted.
+         */
+        int adaptInt(CharSequence input);
+    }
+
+    interface OfLong extends PrimitiveAdapter {
+
+        /**
+         * @param input Input from the user.
+         * @return Parsed value.
+         * @throws IllegalArgumentException If the input can't be adapted.
+         */
+        long adaptLong(CharSequence input);
+    }
+
+    interface OfFloat extends PrimitiveAdapter {
+
+        /**
+         * @param input Input from the user.
+         * @return Parsed value.
+         * @throws IllegalArgumentException If the input can't be adapted.
+         */
+        float adaptFloat(CharSequence input);
+    }
+
+    interface OfDouble extends PrimitiveAdapter {
+
+        /**
+         * @param input Input from the user.
+         * @return Parsed value.
+         * @throws IllegalArgumentException If the input can't be adapted.
+         */
+        double adaptDouble(CharSequence input);
+    }
+}
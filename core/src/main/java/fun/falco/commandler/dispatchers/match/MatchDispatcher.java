@@ -18,26 +18,38 @@ package fun.falco.commandler.dispatchers.match;
 
 import java.io.Serializable;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import javax.enterprise.event.Observes;
 import javax.inject.Inject;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import fun.falco.commandler.CommandlerExtension;
 import fun.falco.commandler.annotation.stereotypes.MessageDispatcher;
 import fun.falco.commandler.api.Dispatcher;
 import fun.falco.commandler.api.Integration;
 import fun.falco.commandler.event.Action;
 import fun.falco.commandler.event.ActionEvent;
+import fun.falco.commandler.event.ControllersChangedEvent;
 import fun.falco.commandler.event.Request;
 import fun.falco.commandler.exceptions.misuse.ParamCountMismatchException;
 import fun.falco.commandler.metadata.MetaCommand;
 import fun.falco.commandler.metadata.MetaController;
 import fun.falco.commandler.metadata.MetaProperty;
+import fun.falco.commandler.utils.AhoCorasick;
+import fun.falco.commandler.utils.DeadlineCharSequence;
+import fun.falco.commandler.utils.DeadlineCharSequence.DeadlineExceededException;
 
 /**
  * The {@link MatchDispatcher} is a {@link Dispatcher} implementation which uses
@@ -56,23 +68,36 @@ import fun.falco.commandler.metadata.MetaProperty;
  * <p>In each case the parameters would be the capture groups, in this case
  * capturing a numeric value, then the units next to it.</p>
  *
+ * <p>All patterns are compiled once when the dispatcher is created. Where a
+ * pattern requires some literal text, such as <code>KG</code> in
+ * <code>(?i)\b\d+KG\b</code>, the literals of all patterns are searched for
+ * in a single pass first, and only patterns whose literal appears in the
+ * message are run. If multiple patterns match, the first command wins.
+ * If controllers change at runtime, the patterns are compiled again and
+ * replace the previous patterns at once.</p>
+ *
+ * <p>Patterns with nested quantifiers are logged when the dispatcher is
+ * created, as they may backtrack catastrophically. To bound the damage,
+ * {@link MatchDispatcherConfig#getTimeout()} can limit how long a pattern
+ * may spend on a message.</p>
+ *
  * @author seth@falco.fun (Seth Falco)
  */
 @MessageDispatcher
 public class MatchDispatcher implements Dispatcher {
 
-    /**
-     * Rather than compiling patterns each time they're required,
-     * we can store them in a map as we compile them and get them back,
-     * when required again.
-     */
-    private static final Map<String, Pattern> PATTERNS = new HashMap<>();
+    private static final Logger logger = LoggerFactory.getLogger(MatchDispatcher.class);
 
-    private final CommandlerExtension commmanderExtension;
+    private final MatchDispatcherConfig config;
+
+    /** Patterns and prefilter of all match commands, replaced as a whole if controllers change. */
+    private volatile MatchTable table;
 
     @Inject
-    public MatchDispatcher(CommandlerExtension commmanderExtension) {
-        this.commmanderExtension = Objects.requireNonNull(commmanderExtension);
+    public MatchDispatcher(CommandlerExtension commmanderExtension, MatchDispatcherConfig config) {
+        Objects.requireNonNull(commmanderExtension);
+        this.config = Objects.requireNonNull(config);
+        this.table = MatchTable.build(commmanderExtension.getMetaControllers());
     }
 
     /**
@@ -89,53 +114,104 @@ public class MatchDispatcher implements Dispatcher {
         return true;
     }
 
+    /**
+     * @param content Content of the message that was received.
+     * @return
+     *     False if every pattern requires some literal text, and none
+     *     appear in the content.
+     */
+    @Override
+    public boolean isCandidate(String content) {
+        MatchTable table = this.table;
+        return !table.prefilterComplete || table.prefilter.containsAny(content);
+    }
+
     @Override
     public <S, M> ActionEvent<S, M> parse(Request<S, M> request) {
-        MetaController selectedMetaController = null;
-        MetaCommand selectedMetaCommand = null;
-        List<List<String>> parameters = null;
+        String content = request.getContent();
+        MatchTable table = this.table;
+        BitSet literals = table.prefilter.findAll(content);
+        long timeout = TimeUnit.MILLISECONDS.toNanos(config.getTimeout());
 
-        for (MetaController metaController : commmanderExtension.getMetaControllers()) {
-            for (MetaCommand metaCommand : metaController.getMetaCommands()) {
-                MetaProperty patternProperty = metaCommand.getProperty(this.getClass(), "pattern");
+        for (MatchRoute route : table.routes) {
+            if (route.literalId != -1 && !literals.get(route.literalId)) {
+                continue;
+            }
 
-                if (patternProperty == null) {
-                    continue;
-                }
+            Matcher matcher = find(route, content, timeout);
 
-                String patternString = patternProperty.getValue();
-                final Pattern pattern;
+            if (matcher == null) {
+                continue;
+            }
 
-                if (!PATTERNS.containsKey(patternString)) {
-                    pattern = Pattern.compile(patternString);
-                    PATTERNS.put(patternString, pattern);
-                } else {
-                    pattern = PATTERNS.get(patternString);
-                }
+            List<List<String>> parameters = new ArrayList<>();
 
-                Matcher matcher = pattern.matcher(request.getContent());
+            for (int i = 0; i < matcher.groupCount(); i++) {
+                String group = matcher.group(i + 1);
+                parameters.add(List.of(group));
+            }
 
-                if (!matcher.find()) {
-                    return null;
-                }
+            return createEvent(request, route, parameters);
+        }
 
-                selectedMetaController = metaController;
-                selectedMetaCommand = metaCommand;
-                parameters = new ArrayList<>();
+        return null;
+    }
 
-                for (int i = 0; i < matcher.groupCount(); i++) {
-                    String group = matcher.group(i + 1);
-                    parameters.add(List.of(group));
-                }
+    /**
+     * @return
+     *     Number of times matching each command has timed out, only includes
+     *     commands that have timed out at least once.
+     */
+    public Map<MetaCommand, Long> getTimeouts() {
+        MatchTable table = this.table;
+        Map<MetaCommand, Long> timeouts = new LinkedHashMap<>();
+
+        for (MatchRoute route : table.routes) {
+            long count = route.timeouts.sum();
 
-                break;
+            if (count > 0) {
+                timeouts.put(route.metaCommand, count);
             }
         }
 
-        if (selectedMetaController == null) {
+        return timeouts;
+    }
+
+    /**
+     * Compiles the patterns of the new controllers, then replaces the
+     * previous patterns at once. Messages already being matched finish
+     * with the patterns they started with.
+     *
+     * @param event Fired after controllers have been changed at runtime.
+     * @since 4.1.0
+     */
+    public void onControllersChanged(@Observes ControllersChangedEvent event) {
+        table = MatchTable.build(event.getMetaControllers());
+    }
+
+    /**
+     * @param timeout Timeout in nanoseconds, or 0 to never time out.
+     * @return Matcher positioned at the first match, or null if the pattern didn't match or timed out.
+     */
+    private Matcher find(MatchRoute route, String content, long timeout) {
+        if (timeout <= 0) {
+            Matcher matcher = route.pattern.matcher(content);
+            return (matcher.find()) ? matcher : null;
+        }
+
+        try {
+            Matcher matcher = route.pattern.matcher(new DeadlineCharSequence(content, timeout));
+            return (matcher.find()) ? matcher : null;
+        } catch (DeadlineExceededException ex) {
+            route.timeouts.increment();
+            logger.warn("Pattern for {} timed out after {}ms: {}", route.metaCommand.getMethod(), config.getTimeout(), route.pattern);
             return null;
         }
+    }
 
+    private <S, M> ActionEvent<S, M> createEvent(Request<S, M> request, MatchRoute route, List<List<String>> parameters) {
+        MetaController selectedMetaController = route.metaController;
+        MetaCommand selectedMetaCommand = route.metaCommand;
         Serializable id = request.getIntegration().getActionId(request.getSource());
 
         if (id == null) {
@@ -151,4 +227,83 @@ public class MatchDispatcher implements Dispatcher {
 
         return e;
     }
+
+    /**
+     * Compiled patterns of all match commands, and the prefilter for them.
+     */
+    private static final class MatchTable {
+
+        /** Patterns of all match commands, in the order they should be tried. */
+        private final List<MatchRoute> routes;
+
+        /** Finds the required literals of all patterns in a message at once. */
+        private final AhoCorasick prefilter;
+
+        /** If every pattern has a required literal, so messages without any can be ruled out. */
+        private final boolean prefilterComplete;
+
+        private MatchTable(List<MatchRoute> routes, List<String> literals) {
+            this.routes = List.copyOf(routes);
+            this.prefilter = new AhoCorasick(literals);
+            this.prefilterComplete = literals.size() == routes.size();
+        }
+
+        private static MatchTable build(Collection<MetaController> metaControllers) {
+            List<MatchRoute> routes = new ArrayList<>();
+            List<String> literals = new ArrayList<>();
+
+            for (MetaController metaController : metaControllers) {
+                for (MetaCommand metaCommand : metaController.getMetaCommands()) {
+                    MetaProperty patternProperty = metaCommand.getProperty(MatchDispatcher.class, "pattern");
+
+                    if (patternProperty == null) {
+                        continue;
+                    }
+
+                    String patternString = patternProperty.getValue();
+                    Pattern pattern = Pattern.compile(patternString);
+
+                    if (MatchPatternAnalyzer.hasNestedQuantifier(patternString)) {
+                        logger.warn("Pattern for {} has nested quantifiers and may backtrack catastrophically: {}", metaCommand.getMethod(), patternString);
+                    }
+
+                    String literal = MatchPatternAnalyzer.getRequiredLiteral(patternString);
+                    int literalId = -1;
+
+                    if (literal != null) {
+                        literalId = literals.size();
+                        literals.add(literal);
+                    }
+
+                    routes.add(new MatchRoute(metaController, metaCommand, pattern, literalId));
+                }
+            }
+
+            return new MatchTable(routes, literals);
+        }
+    }
+
+    /**
+     * Compiled pattern of a match command, and the command it routes to.
+     */
+    private static final class MatchRoute {
+
+        private final MetaController metaController;
+        private final MetaCommand metaCommand;
+        private final Pattern pattern;
+
+        /** Index of the required literal in the prefilter, or -1 if it has none. */
+        private final int literalId;
+
+        /** Number of times matching this pattern has timed out. */
+        private final LongAdder timeouts;
+
+        private MatchRoute(MetaController metaController, MetaCommand metaCommand, Pattern pattern, int literalId) {
+            this.metaController = metaController;
+            this.metaCommand = metaCommand;
+            this.pattern = pattern;
+            this.literalId = literalId;
+            this.timeouts = new LongAdder();
+        }
+    }
 }
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2019-2025 Seth Falco and Commandler Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package fun.falco.commandler.dispatchers.match;
+
+import org.apache.deltaspike.core.api.config.ConfigProperty;
+import org.apache.deltaspike.core.api.config.Configuration;
+
+/**
+ * The configuration for the {@link MatchDispatcher}.
+ *
+ * @author seth@falco.fun (Seth Falco)
+ * @since 4.1.0
+ */
+@Configuration(prefix = "commandler.match-dispatcher.")
+public interface MatchDispatcherConfig {
+
+    /**
+     * Maximum time a single pattern may take to match a message. If a
+     * pattern takes longer, it's treated as if it didn't match and the
+     * timeout is logged and recorded against the command.
+     *
+     * @return Timeout in milliseconds, or 0 to never time out.
+     */
+    @ConfigProperty(name = "timeout", defaultValue = "0")
+    Long getTimeout();
+}
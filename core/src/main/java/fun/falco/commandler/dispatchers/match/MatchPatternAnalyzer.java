@@ -0,0 +1,504 @@
+/*
+ * Copyright 2019-2025 Seth Falco and Commandler Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package fun.falco.commandler.dispatchers.match;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.regex.Pattern;
+
+/**
+ * Static analysis of the regular expressions used by the
+ * {@link MatchDispatcher}, without compiling or running them.
+ *
+ * <p>This is intentionally conservative, anything that isn't understood
+ * is treated as if it could match anything.</p>
+ *
+ * @author seth@falco.fun (Seth Falco)
+ * @since 4.1.0
+ */
+public final class MatchPatternAnalyzer {
+
+    private MatchPatternAnalyzer() {
+        // Do nothing
+    }
+
+    /**
+     * Find the longest run of literal text that must appear in any match
+     * of the pattern. Only the top level of the pattern is considered,
+     * groups and character classes are skipped over as if they could
+     * match anything.
+     *
+     * <p>The literal may differ in case from the text it matches, if the
+     * pattern is case insensitive, so it should be compared regardless
+     * of case.</p>
+     *
+     * @param regex Regular expression as it would be passed to {@link Pattern#compile(String)}.
+     * @return Literal that every match must contain, or null if one couldn't be found.
+     */
+    public static String getRequiredLiteral(String regex) {
+        if (hasCommentsFlag(regex)) {
+            return null;
+        }
+
+        String longest = "";
+        StringBuilder run = new StringBuilder();
+        boolean lastWasLiteral = false;
+        int length = regex.length();
+        int i = 0;
+
+        while (i < length) {
+            char c = regex.charAt(i);
+
+            if (c == '\\' && i + 1 < length && regex.charAt(i + 1) == 'Q') {
+                int quoteEnd = regex.indexOf("\\E", i + 2);
+                int literalEnd = (quoteEnd == -1) ? length : quoteEnd;
+
+                run.append(regex, i + 2, literalEnd);
+                lastWasLiteral = literalEnd > i + 2;
+                i = (quoteEnd == -1) ? length : quoteEnd + 2;
+                continue;
+            }
+
+            if (c == '\\') {
+                if (i + 1 >= length) {
+                    return null;
+                }
+
+                char escaped = regex.charAt(i + 1);
+                i = skipEscape(regex, i);
+
+                if (Character.isLetterOrDigit(escaped)) {
+                    longest = longer(longest, run);
+                    lastWasLiteral = false;
+                } else {
+                    run.append(escaped);
+                    lastWasLiteral = true;
+                }
+
+                continue;
+            }
+
+            switch (c) {
+                case '(':
+                    i = skipGroup(regex, i);
+                    break;
+                case '[':
+                    i = skipClass(regex, i);
+                    break;
+                case '?':
+                case '*':
+                case '{':
+                    if (lastWasLiteral) {
+                        removeLastCharacter(run);
+                    }
+
+                    i = skipQuantifier(regex, i);
+                    break;
+                case '+':
+                    i = skipQuantifier(regex, i);
+                    break;
+                case '|':
+                    return null;
+                case ')':
+                    return null;
+                case '.':
+                case '^':
+                case '$':
+                    i++;
+                    break;
+                default:
+                    run.append(c);
+                    lastWasLiteral = true;
+                    i++;
+                    continue;
+            }
+
+            if (i < 0) {
+                return null;
+            }
+
+            longest = longer(longest, run);
+            lastWasLiteral = false;
+        }
+
+        longest = longer(longest, run);
+        return (longest.isEmpty()) ? null : longest;
+    }
+
+    /**
+     * Check if the pattern repeats a group that itself contains a
+     * repetition, such as <code>(a+)+</code> or <code>(\w+\s?)*</code>. These
+     * can backtrack catastrophically on input that almost matches.
+     *
+     * <p>Atomic groups and possessive quantifiers don't backtrack, so
+     * aren't reported.</p>
+     *
+     * @param regex Regular expression as it would be passed to {@link Pattern#compile(String)}.
+     * @return If the pattern has nested quantifiers.
+     */
+    public static boolean hasNestedQuantifier(String regex) {
+        Deque<Group> groups = new ArrayDeque<>();
+        Group current = new Group(false);
+        int length = regex.length();
+        int i = 0;
+
+        while (i < length) {
+            char c = regex.charAt(i);
+
+            switch (c) {
+                case '\\':
+                    i = skipEscape(regex, i);
+                    break;
+                case '[':
+                    i = skipClass(regex, i);
+
+                    if (i == -1) {
+                        return false;
+                    }
+
+                    break;
+                case '(':
+                    groups.push(current);
+                    current = new Group(regex.startsWith("(?>", i));
+                    i = skipGroupConstruct(regex, i);
+                    break;
+                case ')':
+                    if (groups.isEmpty()) {
+                        return false;
+                    }
+
+                    Group group = current;
+                    current = groups.pop();
+                    i++;
+
+                    if (isRepeating(regex, i)) {
+                        int end = skipQuantifier(regex, i);
+
+                        if (end == -1) {
+                            return false;
+                        }
+
+                        boolean possessive = regex.charAt(end - 1) == '+' && end - 1 > i;
+
+                        if (group.repeats && !group.atomic && !possessive) {
+                            return true;
+                        }
+
+                        current.repeats = true;
+                        i = end;
+                    } else {
+                        current.repeats |= group.repeats;
+                    }
+
+                    break;
+                case '*':
+                case '+':
+                case '{':
+                    current.repeats = true;
+                    i = skipQuantifier(regex, i);
+
+                    if (i == -1) {
+                        return false;
+                    }
+
+                    break;
+                default:
+                    i++;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * @return If there is a quantifier at this index that can repeat more than once.
+     */
+    private static boolean isRepeating(String regex, int index) {
+        if (index >= regex.length()) {
+            return false;
+        }
+
+        char c = regex.charAt(index);
+        return c == '*' || c == '+' || c == '{';
+    }
+
+    /**
+     * @param start Index of the opening parenthesis.
+     * @return Index of the first character inside the group, after any construct such as <code>?:</code>.
+     */
+    private static int skipGroupConstruct(String regex, int start) {
+        int i = start + 1;
+        int length = regex.length();
+
+        if (i >= length || regex.charAt(i) != '?') {
+            return i;
+        }
+
+        i++;
+
+        if (i >= length) {
+            return i;
+        }
+
+        char c = regex.charAt(i);
+
+        if (c == ':' || c == '=' || c == '!' || c == '>') {
+            return i + 1;
+        }
+
+        if (c == '<') {
+            if (i + 1 < length && (regex.charAt(i + 1) == '=' || regex.charAt(i + 1) == '!')) {
+                return i + 2;
+            }
+
+            return skipPast(regex, i, '>');
+        }
+
+        while (i < length && (Character.isLetter(regex.charAt(i)) || regex.charAt(i) == '-')) {
+            i++;
+        }
+
+        return (i < length && regex.charAt(i) == ':') ? i + 1 : i;
+    }
+
+    /**
+     * @return Longest of the two, the run is always cleared.
+     */
+    private static String longer(String longest, StringBuilder run) {
+        String result = (run.length() > longest.length()) ? run.toString() : longest;
+        run.setLength(0);
+        return result;
+    }
+
+    /**
+     * Remove the last character, or both halves of a surrogate pair, as a
+     * quantifier applies to the whole code point.
+     */
+    private static void removeLastCharacter(StringBuilder run) {
+        int length = run.length();
+
+        if (length >= 2 && Character.isSurrogatePair(run.charAt(length - 2), run.charAt(length - 1))) {
+            run.setLength(length - 2);
+        } else if (length > 0) {
+            run.setLength(length - 1);
+        }
+    }
+
+    /**
+     * @param start Index of the quantifier.
+     * @return Index after the quantifier and any lazy or possessive modifier, or -1 if it's malformed.
+     */
+    private static int skipQuantifier(String regex, int start) {
+        int i = start + 1;
+
+        if (regex.charAt(start) == '{') {
+            int close = regex.indexOf('}', i);
+
+            if (close == -1) {
+                return -1;
+            }
+
+            i = close + 1;
+        }
+
+        if (i < regex.length() && (regex.charAt(i) == '?' || regex.charAt(i) == '+')) {
+            i++;
+        }
+
+        return i;
+    }
+
+    /**
+     * @param start Index of the opening parenthesis.
+     * @return Index after the closing parenthesis, or -1 if it's malformed.
+     */
+    private static int skipGroup(String regex, int start) {
+        int depth = 0;
+        int i = start;
+        int length = regex.length();
+
+        while (i < length) {
+            char c = regex.charAt(i);
+
+            if (c == '\\') {
+                i = skipEscape(regex, i);
+                continue;
+            }
+
+            if (c == '[') {
+                i = skipClass(regex, i);
+
+                if (i == -1) {
+                    return -1;
+                }
+
+                continue;
+            }
+
+            if (c == '(') {
+                depth++;
+            } else if (c == ')' && --depth == 0) {
+                return i + 1;
+            }
+
+            i++;
+        }
+
+        return -1;
+    }
+
+    /**
+     * @param start Index of the opening bracket.
+     * @return Index after the closing bracket, or -1 if it's malformed.
+     */
+    private static int skipClass(String regex, int start) {
+        int depth = 0;
+        int i = start;
+        int length = regex.length();
+
+        while (i < length) {
+            char c = regex.charAt(i);
+
+            if (c == '\\') {
+                i = skipEscape(regex, i);
+                continue;
+            }
+
+            if (c == '[') {
+                depth++;
+            } else if (c == ']' && --depth == 0) {
+                return i + 1;
+            }
+
+            i++;
+        }
+
+        return -1;
+    }
+
+    /**
+     * @param start Index of the backslash.
+     * @return Index after the escape sequence, or after the end of a quoted section.
+     */
+    private static int skipEscape(String regex, int start) {
+        int length = regex.length();
+        int i = start + 2;
+
+        if (start + 1 >= length) {
+            return length;
+        }
+
+        switch (regex.charAt(start + 1)) {
+            case 'Q':
+                int quoteEnd = regex.indexOf("\\E", i);
+                return (quoteEnd == -1) ? length : quoteEnd + 2;
+            case '0':
+                return skipWhile(regex, i, Math.min(i + 3, length), "01234567");
+            case 'x':
+                if (i < length && regex.charAt(i) == '{') {
+                    return skipPast(regex, i, '}');
+                }
+
+                return Math.min(i + 2, length);
+            case 'u':
+                return Math.min(i + 4, length);
+            case 'c':
+                return Math.min(i + 1, length);
+            case 'k':
+                return skipPast(regex, i, '>');
+            case 'p':
+            case 'P':
+            case 'N':
+                if (i < length && regex.charAt(i) == '{') {
+                    return skipPast(regex, i, '}');
+                }
+
+                return Math.min(i + 1, length);
+            default:
+                if (Character.isDigit(regex.charAt(start + 1))) {
+                    return skipWhile(regex, i, length, "0123456789");
+                }
+
+                return i;
+        }
+    }
+
+    /**
+     * @return Index of the first character from the start that isn't one of the characters.
+     */
+    private static int skipWhile(String regex, int start, int end, String characters) {
+        int i = start;
+
+        while (i < end && characters.indexOf(regex.charAt(i)) != -1) {
+            i++;
+        }
+
+        return i;
+    }
+
+    /**
+     * @return Index after the next occurrence of the character, or the end of the pattern.
+     */
+    private static int skipPast(String regex, int start, char c) {
+        int index = regex.indexOf(c, start);
+        return (index == -1) ? regex.length() : index + 1;
+    }
+
+    /**
+     * This errs on the side of caution, and may report the flag even if
+     * it's escaped or in a character class.
+     *
+     * @return If any group enables the comments flag, where whitespace and comments in the pattern are ignored.
+     */
+    private static boolean hasCommentsFlag(String regex) {
+        int i = regex.indexOf("(?");
+
+        while (i != -1) {
+            for (int j = i + 2; j < regex.length(); j++) {
+                char c = regex.charAt(j);
+
+                if (c == 'x') {
+                    return true;
+                }
+
+                if (!Character.isLetter(c) && c != '-') {
+                    break;
+                }
+            }
+
+            i = regex.indexOf("(?", i + 2);
+        }
+
+        return false;
+    }
+
+    /**
+     * State of a group while looking for nested quantifiers.
+     */
+    private static final class Group {
+
+        /** If this is an atomic group, which never backtracks. */
+        private final boolean atomic;
+
+        /** If anything in this group can repeat. */
+        private boolean repeats;
+
+        private Group(boolean atomic) {
+            this.atomic = atomic;
+        }
+    }
+}
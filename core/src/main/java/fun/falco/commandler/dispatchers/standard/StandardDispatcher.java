@@ -17,38 +17,49 @@
 package fun.falco.commandler.dispatchers.standard;
 
 import java.io.Serializable;
-import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
-import java.util.regex.Matcher;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
+import javax.enterprise.event.Observes;
 import javax.inject.Inject;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import fun.falco.commandler.Commandler;
 import fun.falco.commandler.CommandlerExtension;
 import fun.falco.commandler.annotation.stereotypes.MessageDispatcher;
 import fun.falco.commandler.api.Dispatcher;
 import fun.falco.commandler.api.Integration;
+import fun.falco.commandler.dispatchers.standard.StandardDispatcherIndex.CommandRoute;
+import fun.falco.commandler.dispatchers.standard.StandardDispatcherIndex.ControllerRoute;
 import fun.falco.commandler.event.Action;
 import fun.falco.commandler.event.ActionEvent;
+import fun.falco.commandler.event.ControllersChangedEvent;
 import fun.falco.commandler.event.Request;
+import fun.falco.commandler.event.WarmupEvent;
+import fun.falco.commandler.exceptions.misuse.AbstractMisuseException;
 import fun.falco.commandler.exceptions.misuse.ModuleNotFoundException;
 import fun.falco.commandler.exceptions.misuse.NoDefaultCommandException;
-import fun.falco.commandler.exceptions.misuse.OnlyPrefixException;
 import fun.falco.commandler.exceptions.misuse.ParamCountMismatchException;
 import fun.falco.commandler.i18n.CommandlerMessageResolver;
 import fun.falco.commandler.metadata.MetaCommand;
-import fun.falco.commandler.metadata.MetaComponent;
 import fun.falco.commandler.metadata.MetaController;
 import fun.falco.commandler.metadata.MetaProperty;
+import fun.falco.commandler.metadata.PropertyKey;
 
 /**
  * The default implementation of the StandardDispatcher, this implementation
- * heavily relies on regular expression to match content and map the tokens
- * to command input. This assumes a standard formatted command:<br>
+ * splits content on the configured delimiter and maps the tokens to command
+ * input by their offsets. This assumes a standard formatted command:<br>
  * <code>{prefix}{module} {command} {params}</code>
  * with exceptional circumstances such as default or static commands.
  *
@@ -57,8 +68,37 @@ import fun.falco.commandler.metadata.MetaProperty;
 @MessageDispatcher
 public class StandardDispatcher implements Dispatcher {
 
-    /** Variable for handling key/value pairs with default value. ${key:default-value} */
-    private static final Pattern VAR_PATTERN = Pattern.compile("(?i)^\\$\\{(?<KEY>[A-Z\\d_-]+)(?::(?<DEFAULT>.*))?}$");
+    private static final Logger logger = LoggerFactory.getLogger(StandardDispatcher.class);
+
+    /**
+     * Property with the alias of a controller or command.
+     *
+     * @since 4.1.0
+     */
+    public static final PropertyKey ALIASES = PropertyKey.of(StandardDispatcher.class, "aliases");
+
+    /**
+     * Property that's true if a command can be performed without the alias of its controller.
+     *
+     * @since 4.1.0
+     */
+    public static final PropertyKey STATIC = PropertyKey.of(StandardDispatcher.class, "static");
+
+    /**
+     * Property that's true if a command is performed when only the alias of its controller is given.
+     *
+     * @since 4.1.0
+     */
+    public static final PropertyKey DEFAULT = PropertyKey.of(StandardDispatcher.class, "default");
+
+    /** Name of the {@link Request} attribute that holds the result of matching the prefix. */
+    private static final String PREFIX_ATTRIBUTE = StandardDispatcher.class.getName() + ".prefix";
+
+    /** ID of the actions of synthetic requests, as they have no source event to get an ID from. */
+    private static final String SYNTHETIC_ACTION_ID = "synthetic";
+
+    /** Value of each parameter in synthetic requests. */
+    private static final String SYNTHETIC_PARAM = "0";
 
     private final StandardDispatcherParameterParser parameterParser;
 
@@ -71,6 +111,17 @@ public class StandardDispatcher implements Dispatcher {
     /** Get localized strings for prefixes and aliases. */
     private final CommandlerMessageResolver messageResolver;
 
+    /**
+     * Controllers, the routing index for each locale aliases have been
+     * resolved in, and the cache of parsed messages. Replaced as a whole
+     * whenever an index is added or the controllers change, so requests
+     * always route with one consistent snapshot.
+     */
+    private final AtomicReference<Routing> routing;
+
+    /** Prefixes compiled from the configuration. */
+    private volatile StandardDispatcherPrefixes prefixes;
+
     /**
      * @param parameterParser Controls how parameters are parsed by this dispatcher.
      * @param standardDispatcherConfig
@@ -85,23 +136,24 @@ public class StandardDispatcher implements Dispatcher {
         this.standardDispatcherConfig = Objects.requireNonNull(standardDispatcherConfig);
         this.commandlerExtension = Objects.requireNonNull(commandlerExtension);
         this.messageResolver = Objects.requireNonNull(messageResolver);
+        this.routing = new AtomicReference<>(new Routing(commandlerExtension.getMetaControllers(), Map.of(), createCache()));
     }
 
     @Override
     public <S, M> boolean isValid(Request<S, M> request) {
-        List<String> prefixes = getPrefixes(request);
-
-        if (prefixes.isEmpty()) {
-            return true;
-        }
-
-        for (String prefix : prefixes) {
-            if (request.getContent().startsWith(prefix)) {
-                return true;
-            }
-        }
+        return matchPrefix(request) != StandardDispatcherPrefixes.NO_MATCH;
+    }
 
-        return false;
+    /**
+     * Rejects content that doesn't start with any literal prefix, if all
+     * prefixes are literal.
+     *
+     * @param content Content of the message that was received.
+     * @return If the content could be a command for this dispatcher.
+     */
+    @Override
+    public boolean isCandidate(String content) {
+        return getPrefixes().isCandidate(content);
     }
 
     /**
@@ -118,124 +170,288 @@ public class StandardDispatcher implements Dispatcher {
      */
     @Override
     public <S, M> ActionEvent<S, M> parse(Request<S, M> request) {
-        String prefix = parsePrefix(request);
+        int prefixLength = matchPrefix(request);
+
+        if (prefixLength == StandardDispatcherPrefixes.NO_MATCH) {
+            throw new IllegalStateException("Do not call the #parse method if the command is invalid.");
+        }
+
+        return parse(request, prefixLength, false);
+    }
+
+    /**
+     * Parses a request that no user sent, such as while warming up. The
+     * content must not start with a prefix, the cache is neither read nor
+     * written, and the integration isn't asked for an ID as there is no
+     * source event.
+     *
+     * @param request Request to parse, which may not have a source event.
+     * @param <S> Type of source event from the integration.
+     * @param <M> Type of message that was received.
+     * @return ActionEvent the request routes to.
+     * @since 4.1.0
+     */
+    public <S, M> ActionEvent<S, M> parseSynthetic(Request<S, M> request) {
+        return parse(request, StandardDispatcherPrefixes.NO_PREFIXES, true);
+    }
+
+    /**
+     * @param request Action request containing all request info and headers.
+     * @param prefixLength Length of the prefix the content starts with.
+     * @param isSynthetic If no user sent the request, so it mustn't be cached.
+     * @return ActionEvent the request routes to.
+     */
+    private <S, M> ActionEvent<S, M> parse(Request<S, M> request, int prefixLength, boolean isSynthetic) {
         String content = request.getContent();
+        int start = 0;
+        int end = content.length();
 
-        if (prefix != null) {
-            content = content.substring(prefix.length()).trim();
+        if (prefixLength != StandardDispatcherPrefixes.NO_PREFIXES) {
+            start = trimStart(content, prefixLength, end);
+            end = trimEnd(content, start, end);
         }
 
         Pattern delimiter = standardDispatcherConfig.getDelimiter();
-        String[] command = delimiter.split(content, 3);
+        Locale locale = messageResolver.getLocale();
+        Routing current = routing.get();
+        StandardDispatcherCache cache = (isSynthetic) ? null : current.cache;
+        StandardDispatcherCache.Entry entry;
+        List<List<String>> parameters;
+
+        if (cache != null) {
+            StandardDispatcherCache.Key key = new StandardDispatcherCache.Key(content, prefixLength, delimiter.pattern(), locale);
+            entry = cache.get(key);
+
+            if (entry == null) {
+                entry = resolve(getIndex(current, locale), content, start, end, delimiter);
+                parameters = entry.getParameters();
+                cache.put(key, entry);
+            } else {
+                parameters = entry.copyParameters();
+            }
+        } else {
+            entry = resolve(getIndex(current, locale), content, start, end, delimiter);
+            parameters = entry.getParameters();
+        }
+
+        MetaController selectedMetaController = entry.getMetaController();
+        MetaCommand selectedMetaCommand = entry.getMetaCommand();
+        Serializable id = (isSynthetic) ? SYNTHETIC_ACTION_ID : request.getIntegration().getActionId(request.getSource());
 
-        if (command.length == 0) {
-            throw new OnlyPrefixException("This message only contained the prefix, but no other content.");
+        if (id == null) {
+            throw new IllegalStateException("All user interactions must be associated with a serializable ID.");
         }
 
-        String arg1 = command[0];
-        MetaController selectedMetaController = null;
-        MetaCommand selectedMetaCommand = null;
-        String params = null;
+        Action action = new Action(id, request.getContent(), selectedMetaController.getControllerType(), selectedMetaCommand.getMethod().getName(), parameters);
+        ActionEvent<S, M> e = new ActionEvent<>(request, action, selectedMetaController, selectedMetaCommand);
 
-        for (MetaController metaController : commandlerExtension.getMetaControllers()) {
-            String controllerAliases = getAliases(metaController);
+        if (!selectedMetaCommand.isValidParamCount(parameters.size())) {
+            throw new ParamCountMismatchException(e);
+        }
 
-            if (controllerAliases == null) {
-                continue;
-            }
+        return e;
+    }
 
-            boolean controllerMatch = controllerAliases.equalsIgnoreCase(arg1.toLowerCase());
+    /**
+     * Route the command to a controller and command, and parse the
+     * parameters.
+     *
+     * @param index Index to route with.
+     * @param content Content of the message.
+     * @param start Index of the first character after the prefix.
+     * @param end Index after the last character of the command.
+     * @param delimiter Pattern that separates the controller, command, and parameters.
+     * @return Controller, command, and parameters the message resolved to.
+     */
+    private StandardDispatcherCache.Entry resolve(StandardDispatcherIndex index, String content, int start, int end, Pattern delimiter) {
+        StandardDispatcherTokens tokens = StandardDispatcherTokens.tokenize(delimiter, content, start, end);
+        MetaController selectedMetaController;
+        MetaCommand selectedMetaCommand;
+        int paramsStart;
 
-            if (controllerMatch) {
-                selectedMetaController = metaController;
+        ControllerRoute controllerRoute = index.getController(content, tokens.getStart(0), tokens.getEnd(0));
 
-                if (command.length > 1) {
-                    for (MetaCommand metaCommand : metaController.getMetaCommands()) {
-                        String controlAliases = getAliases(metaCommand);
+        if (controllerRoute != null) {
+            selectedMetaController = controllerRoute.getMetaController();
+            selectedMetaCommand = (tokens.size() > 1) ? controllerRoute.getCommand(content, tokens.getStart(1), tokens.getEnd(1)) : null;
 
-                        if (controlAliases == null) {
-                            continue;
-                        }
+            if (selectedMetaCommand != null) {
+                paramsStart = (tokens.size() > 2) ? tokens.getStart(2) : end;
+            } else {
+                selectedMetaCommand = controllerRoute.getDefaultCommand();
 
-                        boolean controlMatch = controlAliases.equalsIgnoreCase(command[1].toLowerCase());
+                if (selectedMetaCommand == null) {
+                    List<String> suggestions = (tokens.size() > 1) ? controllerRoute.getSuggestions(tokens.getToken(1)) : List.of();
+                    throw new NoDefaultCommandException(selectedMetaController, suggestions);
+                }
 
-                        if (controlMatch) {
-                            selectedMetaCommand = metaCommand;
-                            params = content
-                                .replaceFirst("\\Q" + command[0] + "\\E", "")
-                                .replaceFirst("\\Q" + command[1] + "\\E", "")
-                                .trim();
-                            break;
-                        }
-                    }
+                paramsStart = (tokens.size() > 1) ? tokens.getStart(1) : end;
+            }
+        } else {
+            CommandRoute commandRoute = index.getStaticCommand(content, tokens.getStart(0), tokens.getEnd(0));
 
-                    if (selectedMetaCommand == null) {
-                        selectedMetaCommand = getDefaultCommand(metaController);
+            if (commandRoute == null) {
+                String alias = tokens.getToken(0);
+                throw new ModuleNotFoundException(alias, index.getSuggestions(alias));
+            }
 
-                        if (selectedMetaCommand == null) {
-                            throw new NoDefaultCommandException(selectedMetaController);
-                        } else {
-                            params = content.replaceFirst("\\Q" + command[0] + "\\E", "").trim();
-                        }
-                    }
-                } else {
-                    MetaCommand data = getDefaultCommand(metaController);
+            selectedMetaController = commandRoute.getMetaController();
+            selectedMetaCommand = commandRoute.getMetaCommand();
+            paramsStart = (tokens.size() > 1) ? tokens.getStart(1) : end;
+        }
 
-                    if (data != null) {
-                        selectedMetaCommand = data;
-                    } else {
-                        throw new NoDefaultCommandException(metaController);
-                    }
+        paramsStart = trimStart(content, paramsStart, end);
+        List<List<String>> parameters = parameterParser.parse(content, paramsStart, trimEnd(content, paramsStart, end));
+        return new StandardDispatcherCache.Entry(selectedMetaController, selectedMetaCommand, parameters);
+    }
 
-                    params = content
-                        .replaceFirst("\\Q" + command[0] + "\\E", "")
-                        .trim();
-                }
+    /**
+     * Compiles the prefixes, then routes a synthetic request for every
+     * command of every integration, as if a user sent the aliases of the
+     * command and a placeholder for each parameter. This builds the index for
+     * the current locale and runs the lexer, without caching anything.
+     *
+     * <p>The events are added to the {@link WarmupEvent}, so their
+     * parameters can be adapted. Commands that can't be routed to with the
+     * placeholders are skipped.</p>
+     *
+     * @param event Fired before any integration is initialized.
+     * @since 4.1.0
+     */
+    public void onWarmup(@Observes WarmupEvent event) {
+        getPrefixes();
 
-                break;
+        Locale locale = messageResolver.getLocale();
+        getIndex(locale);
+
+        for (MetaController metaController : event.getMetaControllers()) {
+            MetaProperty controllerAliases = metaController.getProperty(ALIASES);
+
+            if (controllerAliases == null) {
+                continue;
             }
 
-            for (MetaCommand metaCommand : getStaticCommands(metaController)) {
-                String controlAliases = getAliases(metaCommand);
+            String controllerAlias = messageResolver.getMessage(controllerAliases.getValue(), locale);
+
+            for (MetaCommand metaCommand : metaController.getMetaCommands()) {
+                MetaProperty commandAliases = metaCommand.getProperty(ALIASES);
 
-                if (controlAliases == null) {
+                if (commandAliases == null) {
                     continue;
                 }
 
-                boolean controlMatch = controlAliases.equalsIgnoreCase(command[0].toLowerCase());
-
-                if (controlMatch) {
-                    selectedMetaController = metaController;
-                    selectedMetaCommand = metaCommand;
+                StringBuilder content = new StringBuilder(controllerAlias).append(' ').append(messageResolver.getMessage(commandAliases.getValue(), locale));
 
-                    params = content
-                        .replaceFirst("\\Q" + command[0] + "\\E", "")
-                        .trim();
+                for (int i = 0; i < metaCommand.getMetaParams().size(); i++) {
+                    content.append(' ').append(SYNTHETIC_PARAM);
+                }
 
-                    break;
+                for (Integration<?, ?> integration : event.getIntegrations()) {
+                    try {
+                        event.addActionEvent(parseSynthetic(new Request<>(integration, null, null, content.toString())));
+                    } catch (AbstractMisuseException ex) {
+                        logger.debug("Failed to route {} while warming up.", content, ex);
+                    }
                 }
             }
         }
+    }
+
+    /**
+     * @return Routing index for the current locale, built on first use.
+     */
+    public StandardDispatcherIndex getIndex() {
+        return getIndex(messageResolver.getLocale());
+    }
 
-        if (selectedMetaController == null) {
-            throw new ModuleNotFoundException();
+    /**
+     * @param locale Locale to resolve aliases in.
+     * @return Routing index for the locale, built on first use.
+     * @since 4.1.0
+     */
+    public StandardDispatcherIndex getIndex(Locale locale) {
+        return getIndex(routing.get(), locale);
+    }
+
+    /**
+     * Builds the index if it's missing, and adds it to the routing unless
+     * the controllers have changed since, in which case it's only used by
+     * the request that built it.
+     *
+     * @param current Routing the request started with.
+     * @param locale Locale to resolve aliases in.
+     * @return Routing index for the locale, for the controllers of the routing.
+     */
+    private StandardDispatcherIndex getIndex(Routing current, Locale locale) {
+        StandardDispatcherIndex index = current.indexes.get(locale);
+
+        if (index != null) {
+            return index;
         }
 
-        List<List<String>> parameters = parameterParser.parse(params);
-        Serializable id = request.getIntegration().getActionId(request.getSource());
+        index = buildIndex(current.metaControllers, locale);
+        Routing observed = current;
 
-        if (id == null) {
-            throw new IllegalStateException("All user interactions must be associated with a serializable ID.");
+        while (observed.metaControllers == current.metaControllers && !observed.indexes.containsKey(locale)) {
+            Map<Locale, StandardDispatcherIndex> indexes = new HashMap<>(observed.indexes);
+            indexes.put(locale, index);
+
+            if (routing.compareAndSet(observed, new Routing(observed.metaControllers, indexes, observed.cache))) {
+                break;
+            }
+
+            observed = routing.get();
         }
 
-        Action action = new Action(id, request.getContent(), selectedMetaController.getControllerType(), selectedMetaCommand.getMethod().getName(), parameters);
-        ActionEvent<S, M> e = new ActionEvent<>(request, action, selectedMetaController, selectedMetaCommand);
+        return index;
+    }
 
-        if (!selectedMetaCommand.isValidParamCount(parameters.size())) {
-            throw new ParamCountMismatchException(e);
+    /**
+     * Builds the index of every locale that was already built, then
+     * replaces the controllers, indexes, and cache at once. The cache starts
+     * empty, as it may refer to controllers that no longer exist. Requests
+     * already being routed finish with the routing they started with.
+     *
+     * @param event Fired after controllers have been changed at runtime.
+     * @since 4.1.0
+     */
+    public void onControllersChanged(@Observes ControllersChangedEvent event) {
+        Collection<MetaController> metaControllers = event.getMetaControllers();
+        Map<Locale, StandardDispatcherIndex> indexes = new HashMap<>();
+
+        for (Locale locale : routing.get().indexes.keySet()) {
+            indexes.put(locale, buildIndex(metaControllers, locale));
         }
 
-        return e;
+        routing.set(new Routing(metaControllers, indexes, createCache()));
+    }
+
+    /**
+     * @return Locales that an index has been built for.
+     * @since 4.1.0
+     */
+    public Set<Locale> getIndexedLocales() {
+        return routing.get().indexes.keySet();
+    }
+
+    private StandardDispatcherIndex buildIndex(Collection<MetaController> metaControllers, Locale locale) {
+        return new StandardDispatcherIndex(metaControllers, (message) -> messageResolver.getMessage(message, locale));
+    }
+
+    /**
+     * @return Cache of parsed messages, or null if caching is disabled.
+     * @since 4.1.0
+     */
+    public StandardDispatcherCache getCache() {
+        return routing.get().cache;
+    }
+
+    /**
+     * @return New empty cache, or null if caching is disabled.
+     */
+    private StandardDispatcherCache createCache() {
+        int cacheSize = standardDispatcherConfig.getCacheSize();
+        return (cacheSize > 0) ? new StandardDispatcherCache(cacheSize) : null;
     }
 
     /**
@@ -245,87 +461,86 @@ public class StandardDispatcher implements Dispatcher {
      */
     public List<MetaCommand> getStaticCommands(MetaController controller) {
         return controller.getMetaCommands().stream()
-            .filter((command) -> command.getProperties().containsKey(StandardDispatcher.class.getName() + ".static"))
-            .filter((command) -> command.getProperty(StandardDispatcher.class, "static").getValue().equals("true"))
+            .filter((command) -> command.getProperty(STATIC) != null)
+            .filter((command) -> command.getProperty(STATIC).getValue().equals("true"))
             .collect(Collectors.toUnmodifiableList());
     }
 
     /**
-     * @return Default command, or null if this module doesn't have one.
+     * @return Index of the first character after any leading whitespace, the same as {@link String#trim()}.
      */
-    private MetaCommand getDefaultCommand(MetaController controller) {
-        return controller.getMetaCommands().stream()
-            .filter((command) -> command.getProperties().containsKey(StandardDispatcher.class.getName() + ".default"))
-            .filter((command) -> command.getProperty(StandardDispatcher.class, "default").getValue().equals("true"))
-            .findAny().orElse(null);
+    private static int trimStart(CharSequence text, int start, int end) {
+        while (start < end && text.charAt(start) <= ' ') {
+            start++;
+        }
+
+        return start;
     }
 
     /**
-     * @param request Action request container all request info and headers.
-     * @return
-     *     List of prefixes valid for this {@link Request}, or null if no
-     *     prefixes are configured.
+     * @return Index after the last character before any trailing whitespace, the same as {@link String#trim()}.
      */
-    private List<String> getPrefixes(Request<?, ?> request) {
-        List<String> prefixConfig = standardDispatcherConfig.getPrefixes();
-
-        List<String> prefixes = new ArrayList<>();
-
-        if (prefixConfig == null || prefixConfig.isEmpty()) {
-            return prefixes;
+    private static int trimEnd(CharSequence text, int start, int end) {
+        while (end > start && text.charAt(end - 1) <= ' ') {
+            end--;
         }
 
-        for (String config : prefixConfig) {
-            Matcher matcher = VAR_PATTERN.matcher(config);
-
-            if (matcher.find()) {
-                String key = matcher.group("KEY");
-                String value = request.getHeaders().get(key);
+        return end;
+    }
 
-                if (value == null || value.isBlank()) {
-                    String defaultValue = matcher.group("DEFAULT");
+    /**
+     * The prefix is matched at most once per {@link Request}, and is
+     * shared by {@link #isValid(Request)} and {@link #parse(Request)}.
+     *
+     * @param request Action request containing all request info and headers.
+     * @return
+     *     Length of the prefix that was used, or one of
+     *     {@link StandardDispatcherPrefixes#NO_PREFIXES} or
+     *     {@link StandardDispatcherPrefixes#NO_MATCH}.
+     */
+    private int matchPrefix(Request<?, ?> request) {
+        Object cached = request.getAttribute(PREFIX_ATTRIBUTE);
 
-                    if (defaultValue != null) {
-                        prefixes.add(defaultValue);
-                    }
-                } else {
-                    prefixes.add(value);
-                }
-            } else {
-                prefixes.add(config);
-            }
+        if (cached != null) {
+            return (Integer) cached;
         }
 
-        return prefixes;
+        int length = getPrefixes().match(request.getContent(), request.getHeaders());
+        request.setAttribute(PREFIX_ATTRIBUTE, length);
+        return length;
     }
 
     /**
-     * @param request Action request containing all request info and headers.
-     * @return Prefix that was used, or null if no prefix was used.
+     * @return Prefixes compiled from the configuration, compiled again only if the configuration changes.
      */
-    private <S, M> String parsePrefix(Request<S, M> request) {
-        List<String> prefixes = getPrefixes(request);
+    private StandardDispatcherPrefixes getPrefixes() {
+        List<String> config = standardDispatcherConfig.getPrefixes();
+        StandardDispatcherPrefixes current = prefixes;
 
-        if (!prefixes.isEmpty()) {
-            Optional<String> optPrefix = prefixes.stream()
-                .filter(request.getContent()::startsWith)
-                .findAny();
-
-            return optPrefix.orElseThrow(
-                () -> new IllegalStateException("Do not call the #parse method if the command is invalid.")
-            );
+        if (current == null || !current.isCompiledFrom(config)) {
+            current = StandardDispatcherPrefixes.compile(config);
+            prefixes = current;
         }
 
-        return null;
+        return current;
     }
 
-    private String getAliases(MetaComponent component) {
-        MetaProperty aliasesProperty = component.getProperty(this.getClass(), "aliases");
+    /**
+     * Controllers, the indexes of each locale built from them, and the cache
+     * of messages parsed with them.
+     */
+    private static final class Routing {
 
-        if (aliasesProperty == null) {
-            return null;
-        }
+        private final Collection<MetaController> metaControllers;
+        private final Map<Locale, StandardDispatcherIndex> indexes;
 
-        return messageResolver.getMessage(aliasesProperty.getValue());
+        /** Cache of parsed messages, or null if caching is disabled. */
+        private final StandardDispatcherCache cache;
+
+        private Routing(Collection<MetaController> metaControllers, Map<Locale, StandardDispatcherIndex> indexes, StandardDispatcherCache cache) {
+            this.metaControllers = metaControllers;
+            this.indexes = Map.copyOf(indexes);
+            this.cache = cache;
+        }
     }
 }
@@ -0,0 +1,231 @@
+/*
+ * Copyright 2019-2025 Seth Falco and Commandler Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package fun.falco.commandler.dispatchers.standard;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import fun.falco.commandler.metadata.MetaCommand;
+import fun.falco.commandler.metadata.MetaController;
+
+/**
+ * Bounded cache of how the {@link StandardDispatcher} parsed a message, so
+ * identical messages such as <code>$help</code> are only parsed once.
+ *
+ * <p>Entries are evicted in the order they were added once the cache is
+ * full. This is safe to use from multiple threads, though under contention
+ * the cache may briefly exceed it's maximum size.</p>
+ *
+ * @author seth@falco.fun (Seth Falco)
+ * @since 4.1.0
+ */
+public class StandardDispatcherCache {
+
+    /** Maximum number of entries to keep. */
+    private final int maxSize;
+
+    private final Map<Key, Entry> entries;
+
+    /** Keys in the order they were added, to evict the oldest first. */
+    private final Queue<Key> insertionOrder;
+
+    private final LongAdder hits;
+    private final LongAdder misses;
+
+    /**
+     * @param maxSize Maximum number of entries to keep.
+     */
+    public StandardDispatcherCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be greater than 0.");
+        }
+
+        this.maxSize = maxSize;
+        this.entries = new ConcurrentHashMap<>();
+        this.insertionOrder = new ConcurrentLinkedQueue<>();
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+    }
+
+    /**
+     * @param key Message and everything else that affected how it was parsed.
+     * @return How the message was parsed, or null if it isn't cached.
+     */
+    public Entry get(Key key) {
+        Entry entry = entries.get(key);
+
+        if (entry != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+
+        return entry;
+    }
+
+    /**
+     * Stores a copy of the entry, so the parameters of the request that
+     * was parsed can still be modified.
+     *
+     * @param key Message and everything else that affected how it was parsed.
+     * @param entry How the message was parsed.
+     */
+    public void put(Key key, Entry entry) {
+        Entry copy = new Entry(entry.metaController, entry.metaCommand, entry.parameters.stream()
+            .map(List::copyOf)
+            .collect(Collectors.toUnmodifiableList()));
+
+        if (entries.putIfAbsent(key, copy) != null) {
+            return;
+        }
+
+        insertionOrder.add(key);
+
+        while (entries.size() > maxSize) {
+            Key oldest = insertionOrder.poll();
+
+            if (oldest == null) {
+                break;
+            }
+
+            entries.remove(oldest);
+        }
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Everything that determines how a message is parsed, besides the
+     * metadata which doesn't change at runtime.
+     */
+    public static final class Key {
+
+        private final String content;
+        private final int prefixLength;
+        private final String delimiter;
+        private final Locale locale;
+        private final int hashCode;
+
+        /**
+         * @param content Content of the message.
+         * @param prefixLength Length of the prefix that was matched.
+         * @param delimiter Delimiter that was configured.
+         * @param locale Locale aliases were resolved in.
+         */
+        public Key(String content, int prefixLength, String delimiter, Locale locale) {
+            this.content = Objects.requireNonNull(content);
+            this.prefixLength = prefixLength;
+            this.delimiter = Objects.requireNonNull(delimiter);
+            this.locale = Objects.requireNonNull(locale);
+            this.hashCode = Objects.hash(content, prefixLength, delimiter, locale);
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (this == object) {
+                return true;
+            }
+
+            if (!(object instanceof Key)) {
+                return false;
+            }
+
+            Key key = (Key) object;
+
+            return prefixLength == key.prefixLength
+                && content.equals(key.content)
+                && delimiter.equals(key.delimiter)
+                && locale.equals(key.locale);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    /**
+     * Result of parsing a message.
+     */
+    public static final class Entry {
+
+        private final MetaController metaController;
+        private final MetaCommand metaCommand;
+        private final List<List<String>> parameters;
+
+        /**
+         * @param metaController Controller the message was routed to.
+         * @param metaCommand Command the message was routed to.
+         * @param parameters Parameters that were parsed.
+         */
+        public Entry(MetaController metaController, MetaCommand metaCommand, List<List<String>> parameters) {
+            this.metaController = Objects.requireNonNull(metaController);
+            this.metaCommand = Objects.requireNonNull(metaCommand);
+            this.parameters = Objects.requireNonNull(parameters);
+        }
+
+        public MetaController getMetaController() {
+            return metaController;
+        }
+
+        public MetaCommand getMetaCommand() {
+            return metaCommand;
+        }
+
+        /**
+         * @return Parameters that were parsed, these can't be modified if this entry was cached.
+         */
+        public List<List<String>> getParameters() {
+            return parameters;
+        }
+
+        /**
+         * @return Copy of the parameters that were parsed, which can be modified.
+         */
+        public List<List<String>> copyParameters() {
+            List<List<String>> copy = new ArrayList<>(parameters.size());
+
+            for (List<String> param : parameters) {
+                copy.add(new ArrayList<>(param));
+            }
+
+            return copy;
+        }
+    }
+}
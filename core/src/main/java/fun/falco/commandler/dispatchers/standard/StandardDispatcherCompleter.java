@@ -0,0 +1,122 @@
+/*
+ * Copyright 2019-2025 Seth Falco and Commandler Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package fun.falco.commandler.dispatchers.standard;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import fun.falco.commandler.dispatchers.standard.StandardDispatcherIndex.ControllerRoute;
+
+/**
+ * Completes partial commands for the {@link StandardDispatcher}, for
+ * integrations that support autocomplete.
+ *
+ * <p>Completions are looked up in the same per-locale index the dispatcher
+ * routes commands with, so completing never has to resolve i18n messages or
+ * iterate controllers. Hidden controllers and commands are never
+ * completed.</p>
+ *
+ * @author seth@falco.fun (Seth Falco)
+ * @since 4.1.0
+ */
+@ApplicationScoped
+public class StandardDispatcherCompleter {
+
+    private final StandardDispatcher dispatcher;
+    private final StandardDispatcherConfig config;
+
+    /**
+     * @param dispatcher Dispatcher to complete commands for.
+     * @param config Configuration of the dispatcher.
+     */
+    @Inject
+    public StandardDispatcherCompleter(StandardDispatcher dispatcher, StandardDispatcherConfig config) {
+        this.dispatcher = Objects.requireNonNull(dispatcher);
+        this.config = Objects.requireNonNull(config);
+    }
+
+    /**
+     * Complete the controller, static command, or command the user is
+     * currently typing.
+     *
+     * <p>The input should not contain the prefix, the completions are the
+     * input with the alias being typed completed. If the user has started
+     * typing parameters, there is nothing to complete.</p>
+     *
+     * @param input Partial command the user has typed so far, without the prefix.
+     * @param limit Maximum number of completions.
+     * @return Completed inputs, shortest first.
+     */
+    public List<String> complete(String input, int limit) {
+        Objects.requireNonNull(input);
+
+        if (limit <= 0) {
+            return List.of();
+        }
+
+        int start = 0;
+        int end = input.length();
+
+        while (start < end && input.charAt(start) <= ' ') {
+            start++;
+        }
+
+        StandardDispatcherTokens tokens = StandardDispatcherTokens.tokenize(config.getDelimiter(), input, start, end);
+        StandardDispatcherIndex index = dispatcher.getIndex();
+
+        if (tokens.size() == 1) {
+            return prepend(input, start, index.getCompletions(input, tokens.getStart(0), tokens.getEnd(0), limit));
+        }
+
+        if (tokens.size() > 2) {
+            return List.of();
+        }
+
+        ControllerRoute route = index.getController(input, tokens.getStart(0), tokens.getEnd(0));
+
+        if (route == null || route.getMetaController().isHidden()) {
+            return List.of();
+        }
+
+        return prepend(input, tokens.getStart(1), route.getCompletions(input, tokens.getStart(1), tokens.getEnd(1), limit));
+    }
+
+    /**
+     * @param input Partial command the user has typed so far.
+     * @param start Index the alias being completed starts at.
+     * @param aliases Completed aliases.
+     * @return Input with the partial alias replaced with each completed alias.
+     */
+    private static List<String> prepend(String input, int start, List<String> aliases) {
+        if (start == 0) {
+            return aliases;
+        }
+
+        List<String> completions = new ArrayList<>(aliases.size());
+        String head = input.substring(0, start);
+
+        for (String alias : aliases) {
+            completions.add(head + alias);
+        }
+
+        return completions;
+    }
+}
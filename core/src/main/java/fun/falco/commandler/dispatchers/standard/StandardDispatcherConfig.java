@@ -45,4 +45,34 @@ public interface StandardDispatcherConfig {
      */
     @ConfigProperty(name = "delimiter", defaultValue = "\\s+", converter = PatternConverter.class)
     Pattern getDelimiter();
+
+    /**
+     * @return
+     *     Maximum number of characters in the parameters of a single command,
+     *     or a negative number for no limit.
+     * @since 4.1.0
+     */
+    @ConfigProperty(name = "max-param-length", defaultValue = "16384")
+    Integer getMaxParamLength();
+
+    /**
+     * @return
+     *     Maximum number of items across all parameters of a single command,
+     *     or a negative number for no limit.
+     * @since 4.1.0
+     */
+    @ConfigProperty(name = "max-param-items", defaultValue = "1024")
+    Integer getMaxParamItems();
+
+    /**
+     * Identical messages are only parsed once if caching is enabled,
+     * which helps if most messages are a handful of common commands.
+     *
+     * @return
+     *     Maximum number of parsed messages to cache, or 0 to disable
+     *     caching.
+     * @since 4.1.0
+     */
+    @ConfigProperty(name = "cache-size", defaultValue = "0")
+    Integer getCacheSize();
 }
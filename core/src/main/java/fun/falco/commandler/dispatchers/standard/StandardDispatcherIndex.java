@@ -0,0 +1,328 @@
+/*
+ * Copyright 2019-2025 Seth Falco and Commandler Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package fun.falco.commandler.dispatchers.standard;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+import fun.falco.commandler.metadata.MetaCommand;
+import fun.falco.commandler.metadata.MetaComponent;
+import fun.falco.commandler.metadata.MetaController;
+import fun.falco.commandler.metadata.MetaProperty;
+import fun.falco.commandler.metadata.PropertyKey;
+import fun.falco.commandler.utils.BkTree;
+import fun.falco.commandler.utils.Trie;
+
+/**
+ * Routing table for the {@link StandardDispatcher}, maps the aliases of
+ * controllers, commands, and static commands straight to their metadata.
+ *
+ * <p>Aliases may be localized, so an index is built for a single locale with
+ * all aliases resolved ahead of time. This means routing a message never has
+ * to look up i18n messages, and takes time relative to the length of the alias
+ * rather than the number of controllers.</p>
+ *
+ * <p>Aliases are also indexed by how they're spelt, so if a message doesn't
+ * match any alias, similar aliases can be suggested to the user instead, and
+ * partial aliases can be completed.</p>
+ *
+ * <p>This is immutable once built, and safe to share between threads.</p>
+ *
+ * @author seth@falco.fun (Seth Falco)
+ * @since 4.1.0
+ */
+public class StandardDispatcherIndex {
+
+    /** Maximum number of suggestions to return when an alias isn't found. */
+    public static final int MAX_SUGGESTIONS = 3;
+
+    /** Controllers by their alias, if two share an alias the first wins. */
+    private final Trie<ControllerRoute> controllers;
+
+    /** Static commands by their alias, if two share an alias the last controller wins. */
+    private final Trie<CommandRoute> staticCommands;
+
+    /** Aliases of controllers and static commands, for suggestions. */
+    private final BkTree aliases;
+
+    /** Aliases of controllers and static commands, for completions. */
+    private final Trie<String> completions;
+
+    /**
+     * @param metaControllers Controllers to index in the order they should be matched.
+     * @param messageResolver Resolves the value of an alias property into the alias.
+     */
+    public StandardDispatcherIndex(Collection<MetaController> metaControllers, Function<String, String> messageResolver) {
+        Objects.requireNonNull(metaControllers);
+        Objects.requireNonNull(messageResolver);
+
+        controllers = new Trie<>(true);
+        staticCommands = new Trie<>(true);
+        aliases = new BkTree();
+        completions = new Trie<>(true);
+
+        for (MetaController metaController : metaControllers) {
+            String controllerAlias = getAlias(metaController, messageResolver);
+
+            if (controllerAlias == null) {
+                continue;
+            }
+
+            Trie<MetaCommand> commands = new Trie<>(true);
+            BkTree commandAliases = new BkTree();
+            Trie<String> commandCompletions = new Trie<>(true);
+            Trie<CommandRoute> controllerStatics = new Trie<>(true);
+            List<CommandRoute> statics = new ArrayList<>();
+            MetaCommand defaultCommand = null;
+
+            for (MetaCommand metaCommand : metaController.getMetaCommands()) {
+                if (defaultCommand == null && isTrue(metaCommand, StandardDispatcher.DEFAULT)) {
+                    defaultCommand = metaCommand;
+                }
+
+                String commandAlias = getAlias(metaCommand, messageResolver);
+
+                if (commandAlias == null) {
+                    continue;
+                }
+
+                commands.putIfAbsent(commandAlias, metaCommand);
+
+                if (!metaCommand.isHidden()) {
+                    commandAliases.add(commandAlias);
+                    commandCompletions.putIfAbsent(commandAlias, commandAlias);
+                }
+
+                if (isTrue(metaCommand, StandardDispatcher.STATIC)) {
+                    CommandRoute route = new CommandRoute(metaController, metaCommand, commandAlias);
+
+                    if (controllerStatics.putIfAbsent(commandAlias, route) == null) {
+                        statics.add(route);
+                    }
+                }
+            }
+
+            controllers.putIfAbsent(controllerAlias, new ControllerRoute(metaController, commands, commandAliases, commandCompletions, defaultCommand));
+
+            if (!metaController.isHidden()) {
+                aliases.add(controllerAlias);
+                completions.putIfAbsent(controllerAlias, controllerAlias);
+            }
+
+            for (CommandRoute route : statics) {
+                staticCommands.put(route.alias, route);
+
+                if (!metaController.isHidden() && !route.metaCommand.isHidden()) {
+                    aliases.add(route.alias);
+                    completions.putIfAbsent(route.alias, route.alias);
+                }
+            }
+        }
+    }
+
+    /**
+     * @param alias Alias of the controller.
+     * @return Route to the controller, or null if no controller has this alias.
+     */
+    public ControllerRoute getController(CharSequence alias) {
+        return controllers.get(alias);
+    }
+
+    /**
+     * @param text Text containing the alias.
+     * @param start Index of the first character of the alias, inclusive.
+     * @param end Index after the last character of the alias, exclusive.
+     * @return Route to the controller, or null if no controller has this alias.
+     */
+    public ControllerRoute getController(CharSequence text, int start, int end) {
+        return controllers.get(text, start, end);
+    }
+
+    /**
+     * @param alias Alias of the static command.
+     * @return Route to the command, or null if no static command has this alias.
+     */
+    public CommandRoute getStaticCommand(CharSequence alias) {
+        return staticCommands.get(alias);
+    }
+
+    /**
+     * @param text Text containing the alias.
+     * @param start Index of the first character of the alias, inclusive.
+     * @param end Index after the last character of the alias, exclusive.
+     * @return Route to the command, or null if no static command has this alias.
+     */
+    public CommandRoute getStaticCommand(CharSequence text, int start, int end) {
+        return staticCommands.get(text, start, end);
+    }
+
+    /**
+     * @param alias Alias that didn't match a controller or static command.
+     * @return
+     *     Aliases of controllers and static commands that are spelt
+     *     similarly, closest first.
+     */
+    public List<String> getSuggestions(CharSequence alias) {
+        return suggest(aliases, alias);
+    }
+
+    /**
+     * @param text Text containing the partial alias.
+     * @param start Index of the first character of the partial alias, inclusive.
+     * @param end Index after the last character of the partial alias, exclusive.
+     * @param limit Maximum number of completions.
+     * @return
+     *     Aliases of controllers and static commands that start with the
+     *     partial alias, shortest first.
+     */
+    public List<String> getCompletions(CharSequence text, int start, int end, int limit) {
+        return completions.getByPrefix(text, start, end, limit);
+    }
+
+    /**
+     * Hidden controllers and commands are never suggested, short aliases
+     * are only suggested for one typo, and longer ones for up to two.
+     */
+    private static List<String> suggest(BkTree tree, CharSequence alias) {
+        int maxDistance = Math.min(alias.length() / 3, 2);
+
+        if (maxDistance == 0) {
+            return List.of();
+        }
+
+        return tree.search(alias, maxDistance, MAX_SUGGESTIONS);
+    }
+
+    /**
+     * @param component Controller or command to get the alias of.
+     * @param messageResolver Resolves the value of an alias property into the alias.
+     * @return Alias of the component, or null if it isn't a standard component.
+     */
+    private static String getAlias(MetaComponent component, Function<String, String> messageResolver) {
+        MetaProperty aliasesProperty = component.getProperty(StandardDispatcher.ALIASES);
+
+        if (aliasesProperty == null) {
+            return null;
+        }
+
+        return messageResolver.apply(aliasesProperty.getValue());
+    }
+
+    private static boolean isTrue(MetaComponent component, PropertyKey key) {
+        MetaProperty property = component.getProperty(key);
+        return property != null && property.getValue().equals("true");
+    }
+
+    /**
+     * Route to a controller, and the commands that can be performed under it.
+     */
+    public static final class ControllerRoute {
+
+        private final MetaController metaController;
+        private final Trie<MetaCommand> commands;
+        private final BkTree commandAliases;
+        private final Trie<String> commandCompletions;
+        private final MetaCommand defaultCommand;
+
+        private ControllerRoute(MetaController metaController, Trie<MetaCommand> commands, BkTree commandAliases, Trie<String> commandCompletions, MetaCommand defaultCommand) {
+            this.metaController = metaController;
+            this.commands = commands;
+            this.commandAliases = commandAliases;
+            this.commandCompletions = commandCompletions;
+            this.defaultCommand = defaultCommand;
+        }
+
+        public MetaController getMetaController() {
+            return metaController;
+        }
+
+        /**
+         * @param text Text containing the alias.
+         * @param start Index of the first character of the alias, inclusive.
+         * @param end Index after the last character of the alias, exclusive.
+         * @return Command in this controller, or null if no command has this alias.
+         */
+        public MetaCommand getCommand(CharSequence text, int start, int end) {
+            return commands.get(text, start, end);
+        }
+
+        /**
+         * @param alias Alias of the command.
+         * @return Command in this controller, or null if no command has this alias.
+         */
+        public MetaCommand getCommand(CharSequence alias) {
+            return commands.get(alias);
+        }
+
+        /**
+         * @param alias Alias that didn't match a command in this controller.
+         * @return
+         *     Aliases of commands in this controller that are spelt
+         *     similarly, closest first.
+         */
+        public List<String> getSuggestions(CharSequence alias) {
+            return suggest(commandAliases, alias);
+        }
+
+        /**
+         * @param text Text containing the partial alias.
+         * @param start Index of the first character of the partial alias, inclusive.
+         * @param end Index after the last character of the partial alias, exclusive.
+         * @param limit Maximum number of completions.
+         * @return
+         *     Aliases of commands in this controller that start with the
+         *     partial alias, shortest first.
+         */
+        public List<String> getCompletions(CharSequence text, int start, int end, int limit) {
+            return commandCompletions.getByPrefix(text, start, end, limit);
+        }
+
+        /**
+         * @return Default command, or null if this controller doesn't have one.
+         */
+        public MetaCommand getDefaultCommand() {
+            return defaultCommand;
+        }
+    }
+
+    /**
+     * Route to a static command, and the controller it belongs to.
+     */
+    public static final class CommandRoute {
+
+        private final MetaController metaController;
+        private final MetaCommand metaCommand;
+        private final String alias;
+
+        private CommandRoute(MetaController metaController, MetaCommand metaCommand, String alias) {
+            this.metaController = metaController;
+            this.metaCommand = metaCommand;
+            this.alias = alias;
+        }
+
+        public MetaController getMetaController() {
+            return metaController;
+        }
+
+        public MetaCommand getMetaCommand() {
+            return metaCommand;
+        }
+    }
+}
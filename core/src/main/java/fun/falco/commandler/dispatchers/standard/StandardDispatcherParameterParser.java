@@ -18,44 +18,108 @@ package fun.falco.commandler.dispatchers.standard;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Objects;
+
+import javax.inject.Inject;
+
+import fun.falco.commandler.exceptions.misuse.ParamLimitException;
 
 /**
+ * Splits the parameters of a command into parameters, and each parameter
+ * into it's items.
+ *
+ * <p>Parameters are separated by whitespace. Items of a list parameter are
+ * separated by a comma followed by whitespace, so <code>20,000</code> is a
+ * single item, but <code>20, 000</code> is two. Text wrapped in quotes is
+ * taken literally, including any whitespace or commas.</p>
+ *
+ * <p>This reads the input in a single pass and never backtracks, so parsing
+ * takes linear time regardless of what the user sends.</p>
+ *
  * @author seth@falco.fun (Seth Falco)
  * @since 4.0.1
  */
 public class StandardDispatcherParameterParser {
 
+    /** Default maximum number of characters that will be parsed. */
+    public static final int DEFAULT_MAX_LENGTH = 16384;
+
+    /** Default maximum number of items that will be parsed. */
+    public static final int DEFAULT_MAX_ITEMS = 1024;
+
+    /** Maximum number of characters that will be parsed, or negative for no limit. */
+    private final int maxLength;
+
+    /** Maximum number of items across all parameters, or negative for no limit. */
+    private final int maxItems;
+
+    /**
+     * Create a parser with the default limits.
+     */
+    public StandardDispatcherParameterParser() {
+        this(DEFAULT_MAX_LENGTH, DEFAULT_MAX_ITEMS);
+    }
+
     /**
-     * This matches every argument in the commands, any comma separated
-     * <strong>args</strong> will be split by {@link #itemsPattern} as a list.
+     * @param config Configuration to take the limits from.
+     * @since 4.1.0
      */
-    private static final Pattern paramsPattern = Pattern.compile("(?:(?:\"(?:[^\"])*\"|[^\\s,]+)(?:\\s*,\\s*)?)+");
+    @Inject
+    public StandardDispatcherParameterParser(StandardDispatcherConfig config) {
+        this(config.getMaxParamLength(), config.getMaxParamItems());
+    }
 
     /**
-     * Item regex, this matches every item within a list of parameters. This is
-     * for list parameters as a single parameter can contain multiple items.
+     * @param maxLength Maximum number of characters that will be parsed, or negative for no limit.
+     * @param maxItems Maximum number of items across all parameters, or negative for no limit.
+     * @since 4.1.0
      */
-    private static final Pattern itemsPattern = Pattern.compile("(?<!\\\\)\"(?<quote>.*?)(?<!\\\\)\"|(?<word>[^\\s]+(?<!,))");
+    public StandardDispatcherParameterParser(int maxLength, int maxItems) {
+        this.maxLength = maxLength;
+        this.maxItems = maxItems;
+    }
 
     /**
-     * @param paramString String of parameters provided by the ser.
+     * @param paramString String of parameters provided by the user.
      * @return List of list of strings that represent all params and items.
+     * @throws ParamLimitException If the parameters exceed the configured limits.
      */
     public List<List<String>> parse(String paramString) {
+        return parse(paramString, 0, paramString.length());
+    }
+
+    /**
+     * Parse a region of a larger text as the parameters, this avoids
+     * copying the parameters out of the message first.
+     *
+     * @param text Text containing the parameters provided by the user.
+     * @param start Index of the first character of the parameters, inclusive.
+     * @param end Index after the last character of the parameters, exclusive.
+     * @return List of list of strings that represent all params and items.
+     * @throws ParamLimitException If the parameters exceed the configured limits.
+     * @since 4.1.0
+     */
+    public List<List<String>> parse(CharSequence text, int start, int end) {
+        Objects.checkFromToIndex(start, end, text.length());
         List<List<String>> params = new ArrayList<>();
 
-        if (paramString.isBlank()) {
+        if (isBlank(text, start, end)) {
             return params;
         }
 
-        Matcher paramMatcher = paramsPattern.matcher(paramString);
+        checkLength(end - start);
+        Lexer lexer = new Lexer(text, end);
+        int i = start;
 
-        while (paramMatcher.find()) {
-            String group = paramMatcher.group();
-            List<String> parameterItems = parseItems(group);
-            params.add(parameterItems);
+        while (i < end) {
+            if (!isTokenStart(text.charAt(i))) {
+                i++;
+                continue;
+            }
+
+            int groupStart = i;
+            i = lexer.skipGroup(i);
+            params.add(lexer.readItems(groupStart, i));
         }
 
         return params;
@@ -64,22 +128,238 @@ public class StandardDispatcherParameterParser {
     /**
      * @param param Parameter, or list of items to parse.
      * @return Parameter split into it's individual items.
+     * @throws ParamLimitException If the parameter exceeds the configured limits.
      */
     public List<String> parseItems(String param) {
         if (param == null || param.isBlank()) {
             throw new IllegalStateException("Can't have parameter with no items.");
         }
 
-        List<String> list = new ArrayList<>();
-        Matcher splitMatcher = itemsPattern.matcher(param);
+        checkLength(param.length());
+        return new Lexer(param, param.length()).readItems(0, param.length());
+    }
+
+    private void checkLength(int length) {
+        if (maxLength >= 0 && length > maxLength) {
+            throw new ParamLimitException("Parameters can be at most " + maxLength + " characters long.", maxLength);
+        }
+    }
+
+    /**
+     * @return If the region only contains whitespace, the same as {@link String#isBlank()}.
+     */
+    private static boolean isBlank(CharSequence text, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (!Character.isWhitespace(text.charAt(i))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * @return If this is a character that a parameter can start with.
+     */
+    private static boolean isTokenStart(char c) {
+        return !isWhitespace(c) && c != ',';
+    }
+
+    /**
+     * @return If this is a whitespace character, as defined by <code>\s</code> in {@link java.util.regex.Pattern}.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == 0x0B || c == '\f' || c == '\r';
+    }
+
+    /**
+     * @return If this character ends a line, in which case a quote can't continue past it.
+     */
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == 0x85 || c == 0x2028 || c == 0x2029;
+    }
+
+    /**
+     * Holds the state of parsing a single input, mostly to remember where
+     * earlier searches for quotes ended so the same characters are never
+     * searched twice.
+     */
+    private final class Lexer {
+
+        private final CharSequence text;
+        private final int end;
+
+        /** Index of the next quote, or -1 if there are no more quotes. */
+        private int nextQuote;
+
+        /** Index a closing item quote was last searched from and not found. */
+        private int failedQuoteFrom;
+
+        /** Index the last failed search for a closing item quote stopped at. */
+        private int failedQuoteUntil;
+
+        /** Number of items read so far across all parameters. */
+        private int items;
+
+        private Lexer(CharSequence text, int end) {
+            this.text = text;
+            this.end = end;
+            this.nextQuote = Integer.MIN_VALUE;
+            this.failedQuoteFrom = Integer.MAX_VALUE;
+            this.failedQuoteUntil = -1;
+        }
+
+        /**
+         * A parameter is a sequence of words or quoted text, which may be
+         * separated by commas but not by whitespace alone.
+         *
+         * @param start Index of the first character of the parameter.
+         * @return Index after the last character of the parameter, including any trailing comma.
+         */
+        private int skipGroup(int start) {
+            int i = start;
+
+            while (i < end && isTokenStart(text.charAt(i))) {
+                int close = (text.charAt(i) == '"') ? findQuote(i + 1) : -1;
+
+                if (close != -1) {
+                    i = close + 1;
+                } else {
+                    while (i < end && isTokenStart(text.charAt(i))) {
+                        i++;
+                    }
+                }
+
+                int separator = i;
+
+                while (separator < end && isWhitespace(text.charAt(separator))) {
+                    separator++;
+                }
+
+                if (separator < end && text.charAt(separator) == ',') {
+                    separator++;
+
+                    while (separator < end && isWhitespace(text.charAt(separator))) {
+                        separator++;
+                    }
+
+                    i = separator;
+                }
+            }
+
+            return i;
+        }
+
+        /**
+         * @param from Index to start searching from.
+         * @return Index of the next quote, or -1 if there isn't one.
+         */
+        private int findQuote(int from) {
+            if (nextQuote != -1 && nextQuote < from) {
+                nextQuote = from;
+
+                while (nextQuote < end && text.charAt(nextQuote) != '"') {
+                    nextQuote++;
+                }
 
-        while (splitMatcher.find()) {
-            String quote = splitMatcher.group("quote");
-            String toAdd = (quote != null) ? quote : splitMatcher.group("word");
+                if (nextQuote == end) {
+                    nextQuote = -1;
+                }
+            }
 
-            list.add(toAdd);
+            return nextQuote;
         }
 
-        return list;
+        /**
+         * Items are either quoted text, or words with any trailing commas
+         * removed. Quotes preceded by a backslash don't start or end quoted
+         * text, and quoted text can't span multiple lines.
+         *
+         * @param start Index of the first character of the parameter.
+         * @param groupEnd Index after the last character of the parameter.
+         * @return All items in the parameter.
+         */
+        private List<String> readItems(int start, int groupEnd) {
+            List<String> list = new ArrayList<>();
+            failedQuoteFrom = Integer.MAX_VALUE;
+            failedQuoteUntil = -1;
+            int i = start;
+
+            while (i < groupEnd) {
+                char c = text.charAt(i);
+
+                if (c == '"' && (i == start || text.charAt(i - 1) != '\\')) {
+                    int close = findClosingQuote(i + 1, groupEnd);
+
+                    if (close != -1) {
+                        addItem(list, i + 1, close);
+                        i = close + 1;
+                        continue;
+                    }
+                }
+
+                if (isWhitespace(c)) {
+                    i++;
+                    continue;
+                }
+
+                int wordEnd = i;
+
+                while (wordEnd < groupEnd && !isWhitespace(text.charAt(wordEnd))) {
+                    wordEnd++;
+                }
+
+                int trimmedEnd = wordEnd;
+
+                while (trimmedEnd > i && text.charAt(trimmedEnd - 1) == ',') {
+                    trimmedEnd--;
+                }
+
+                if (trimmedEnd > i) {
+                    addItem(list, i, trimmedEnd);
+                }
+
+                i = wordEnd;
+            }
+
+            return list;
+        }
+
+        /**
+         * @param from Index after the opening quote.
+         * @param groupEnd Index after the last character of the parameter.
+         * @return Index of the closing quote, or -1 if the quote isn't closed.
+         */
+        private int findClosingQuote(int from, int groupEnd) {
+            if (from >= failedQuoteFrom && from <= failedQuoteUntil) {
+                return -1;
+            }
+
+            for (int i = from; i < groupEnd; i++) {
+                char c = text.charAt(i);
+
+                if (c == '"' && text.charAt(i - 1) != '\\') {
+                    return i;
+                }
+
+                if (isLineTerminator(c)) {
+                    failedQuoteFrom = from;
+                    failedQuoteUntil = i;
+                    return -1;
+                }
+            }
+
+            failedQuoteFrom = from;
+            failedQuoteUntil = groupEnd;
+            return -1;
+        }
+
+        private void addItem(List<String> list, int start, int itemEnd) {
+            if (maxItems >= 0 && ++items > maxItems) {
+                throw new ParamLimitException("Parameters can have at most " + maxItems + " items.", maxItems);
+            }
+
+            list.add(text.subSequence(start, itemEnd).toString());
+        }
     }
 }
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2019-2025 Seth Falco and Commandler Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package fun.falco.commandler.dispatchers.standard;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import fun.falco.commandler.utils.Trie;
+
+/**
+ * Compiled form of {@link StandardDispatcherConfig#getPrefixes()}, parsed once
+ * so that matching a message against hundreds of prefixes doesn't have to
+ * parse the configuration or check each prefix one at a time.
+ *
+ * <p>Literal prefixes are stored in a {@link Trie}, and prefixes in the form
+ * <code>${key:default-value}</code> are kept as references to a header of the
+ * {@link fun.falco.commandler.event.Request}.</p>
+ *
+ * <p>If a message starts with multiple prefixes, the prefix that was
+ * configured first wins.</p>
+ *
+ * @author seth@falco.fun (Seth Falco)
+ * @since 4.1.0
+ */
+public final class StandardDispatcherPrefixes {
+
+    /** Returned by {@link #match(String, Map)} if no prefixes apply to this request. */
+    public static final int NO_PREFIXES = -1;
+
+    /** Returned by {@link #match(String, Map)} if the content doesn't start with any prefix. */
+    public static final int NO_MATCH = -2;
+
+    /** Variable for handling key/value pairs with default value. ${key:default-value} */
+    private static final Pattern VAR_PATTERN = Pattern.compile("(?i)^\\$\\{(?<KEY>[A-Z\\d_-]+)(?::(?<DEFAULT>.*))?}$");
+
+    /** Copy of the configuration this was compiled from. */
+    private final List<String> source;
+
+    /**
+     * Literal prefixes, each mapped to the first configured prefix
+     * that's also a prefix of it.
+     */
+    private final Trie<LiteralPrefix> literals;
+
+    /** Prefixes that are resolved from headers, in the order they were configured. */
+    private final List<HeaderPrefix> headerPrefixes;
+
+    private StandardDispatcherPrefixes(List<String> source, Trie<LiteralPrefix> literals, List<HeaderPrefix> headerPrefixes) {
+        this.source = source;
+        this.literals = literals;
+        this.headerPrefixes = headerPrefixes;
+    }
+
+    /**
+     * @param config Prefixes as configured, may be null.
+     * @return Compiled prefixes.
+     */
+    public static StandardDispatcherPrefixes compile(List<String> config) {
+        List<String> source = (config != null) ? List.copyOf(config) : List.of();
+        List<LiteralPrefix> literalPrefixes = new ArrayList<>();
+        List<HeaderPrefix> headerPrefixes = new ArrayList<>();
+
+        for (int ordinal = 0; ordinal < source.size(); ordinal++) {
+            String prefix = source.get(ordinal);
+            Matcher matcher = VAR_PATTERN.matcher(prefix);
+
+            if (matcher.find()) {
+                headerPrefixes.add(new HeaderPrefix(ordinal, matcher.group("KEY"), matcher.group("DEFAULT")));
+            } else {
+                literalPrefixes.add(new LiteralPrefix(ordinal, prefix.length()));
+            }
+        }
+
+        // Shorter prefixes first, so each can inherit any earlier prefix that's also a prefix of it.
+        literalPrefixes.sort(Comparator.comparingInt(LiteralPrefix::getLength));
+        Trie<LiteralPrefix> literals = new Trie<>();
+
+        for (LiteralPrefix literal : literalPrefixes) {
+            String prefix = source.get(literal.ordinal);
+            LiteralPrefix shorter = literals.getLongestPrefix(prefix, 0, prefix.length());
+
+            if (shorter != null && shorter.ordinal < literal.ordinal) {
+                literals.putIfAbsent(prefix, shorter);
+            } else {
+                literals.putIfAbsent(prefix, literal);
+            }
+        }
+
+        return new StandardDispatcherPrefixes(source, literals, List.copyOf(headerPrefixes));
+    }
+
+    /**
+     * The configuration is read again on every request, so this only
+     * compares the prefixes, which is far cheaper than compiling them.
+     *
+     * @param config Prefixes as configured, may be null.
+     * @return If this was compiled from the same prefixes in the same order.
+     */
+    public boolean isCompiledFrom(List<String> config) {
+        return source.equals((config != null) ? config : List.of());
+    }
+
+    /**
+     * Check the content against literal prefixes only, without the headers
+     * of a request. If any prefixes are resolved from headers, this can't
+     * rule anything out.
+     *
+     * @param content Content of the message.
+     * @return If the content could start with one of the prefixes.
+     */
+    public boolean isCandidate(String content) {
+        if (!headerPrefixes.isEmpty() || literals.isEmpty()) {
+            return true;
+        }
+
+        return literals.getLongestPrefix(content, 0, content.length()) != null;
+    }
+
+    /**
+     * @param content Content of the message.
+     * @param headers Headers of the request, used to resolve header prefixes.
+     * @return
+     *     Length of the prefix the content starts with, {@link #NO_PREFIXES}
+     *     if no prefixes apply to this request, or {@link #NO_MATCH} if the
+     *     content doesn't start with any prefix.
+     */
+    public int match(String content, Map<String, String> headers) {
+        LiteralPrefix literal = literals.getLongestPrefix(content, 0, content.length());
+        boolean hasPrefixes = !literals.isEmpty();
+
+        for (HeaderPrefix headerPrefix : headerPrefixes) {
+            if (literal != null && literal.ordinal < headerPrefix.ordinal) {
+                break;
+            }
+
+            String prefix = headerPrefix.resolve(headers);
+
+            if (prefix == null) {
+                continue;
+            }
+
+            if (content.startsWith(prefix)) {
+                return prefix.length();
+            }
+
+            hasPrefixes = true;
+        }
+
+        if (literal != null) {
+            return literal.length;
+        }
+
+        return (hasPrefixes) ? NO_MATCH : NO_PREFIXES;
+    }
+
+    /**
+     * Literal prefix and the position it was configured in.
+     */
+    private static final class LiteralPrefix {
+
+        private final int ordinal;
+        private final int length;
+
+        private LiteralPrefix(int ordinal, int length) {
+            this.ordinal = ordinal;
+            this.length = length;
+        }
+
+        private int getLength() {
+            return length;
+        }
+    }
+
+    /**
+     * Prefix that's taken from a header, or a default value if the header isn't set.
+     */
+    private static final class HeaderPrefix {
+
+        private final int ordinal;
+        private final String key;
+        private final String defaultValue;
+
+        private HeaderPrefix(int ordinal, String key, String defaultValue) {
+            this.ordinal = ordinal;
+            this.key = Objects.requireNonNull(key);
+            this.defaultValue = defaultValue;
+        }
+
+        /**
+         * @return Prefix for this request, or null if there is none.
+         */
+        private String resolve(Map<String, String> headers) {
+            String value = headers.get(key);
+            return (value == null || value.isBlank()) ? defaultValue : value;
+        }
+    }
+}
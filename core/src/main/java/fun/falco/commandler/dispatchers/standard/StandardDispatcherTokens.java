@@ -0,0 +1,120 @@
+/*
+ * Copyright 2019-2025 Seth Falco and Commandler Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package fun.falco.commandler.dispatchers.standard;
+
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Splits a command into at most 3 tokens; the controller, the command, and
+ * the remaining parameters. Only the offsets of each token are recorded, so
+ * tokenizing never copies the message.
+ *
+ * <p>Tokens are split the same way as {@link Pattern#split(CharSequence, int)}
+ * with a limit of 3.</p>
+ *
+ * @author seth@falco.fun (Seth Falco)
+ * @since 4.1.0
+ */
+public final class StandardDispatcherTokens {
+
+    /** Maximum number of tokens a command is split into. */
+    public static final int MAX_TOKENS = 3;
+
+    private final CharSequence text;
+    private final int[] starts;
+    private final int[] ends;
+    private int size;
+
+    private StandardDispatcherTokens(CharSequence text) {
+        this.text = text;
+        this.starts = new int[MAX_TOKENS];
+        this.ends = new int[MAX_TOKENS];
+    }
+
+    /**
+     * @param delimiter Delimiter between the controller, command, and parameters.
+     * @param text Text containing the command.
+     * @param start Index of the first character of the command, inclusive.
+     * @param end Index after the last character of the command, exclusive.
+     * @return Offsets of each token in the text.
+     */
+    public static StandardDispatcherTokens tokenize(Pattern delimiter, CharSequence text, int start, int end) {
+        Objects.requireNonNull(delimiter);
+        Objects.checkFromToIndex(start, end, text.length());
+
+        StandardDispatcherTokens tokens = new StandardDispatcherTokens(text);
+        Matcher matcher = delimiter.matcher(text).region(start, end);
+        int index = start;
+
+        while (tokens.size < MAX_TOKENS - 1 && matcher.find()) {
+            if (index == start && matcher.start() == start && matcher.end() == start) {
+                continue;
+            }
+
+            tokens.add(index, matcher.start());
+            index = matcher.end();
+        }
+
+        tokens.add(index, end);
+        return tokens;
+    }
+
+    private void add(int start, int end) {
+        starts[size] = start;
+        ends[size] = end;
+        size++;
+    }
+
+    public CharSequence getText() {
+        return text;
+    }
+
+    /**
+     * @return Number of tokens, this is always at least 1.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param token Index of the token.
+     * @return Index of the first character of the token in the text, inclusive.
+     */
+    public int getStart(int token) {
+        Objects.checkIndex(token, size);
+        return starts[token];
+    }
+
+    /**
+     * @param token Index of the token.
+     * @return Index after the last character of the token in the text, exclusive.
+     */
+    public int getEnd(int token) {
+        Objects.checkIndex(token, size);
+        return ends[token];
+    }
+
+    /**
+     * @param token Index of the token.
+     * @return Token as a string, this copies the characters out of the text.
+     */
+    public String getToken(int token) {
+        return text.subSequence(getStart(token), getEnd(token)).toString();
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2019-2025 Seth Falco and Commandler Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package fun.falco.commandler.event;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import fun.falco.commandler.ControllerRegistry;
+import fun.falco.commandler.metadata.MetaCommand;
+import fun.falco.commandler.metadata.MetaController;
+
+/**
+ * Fired by the {@link ControllerRegistry} after controllers have been
+ * changed at runtime, so components that derive anything from the
+ * controllers can rebuild it.
+ *
+ * <p>Observers are notified synchronously on the thread that changed the
+ * controllers, so rebuilding stays off the path of requests. Requests that
+ * are already being handled keep using the previous controllers.</p>
+ *
+ * @author seth@falco.fun (Seth Falco)
+ * @since 4.1.0
+ */
+public class ControllersChangedEvent {
+
+    /** Controllers before the change. */
+    private final Collection<MetaController> previous;
+
+    /** Controllers after the change. */
+    private final Collection<MetaController> metaControllers;
+
+    public ControllersChangedEvent(Collection<MetaController> previous, Collection<MetaController> metaControllers) {
+        this.previous = previous;
+        this.metaControllers = metaControllers;
+    }
+
+    public Collection<MetaController> getPrevious() {
+        return previous;
+    }
+
+    public Collection<MetaController> getMetaControllers() {
+        return metaControllers;
+    }
+
+    /**
+     * @return Commands that were removed, including commands of controllers that were replaced.
+     */
+    public List<MetaCommand> getRemovedCommands() {
+        return difference(previous, metaControllers);
+    }
+
+    /**
+     * @return Commands that were added, including commands of controllers that replaced another.
+     */
+    public List<MetaCommand> getAddedCommands() {
+        return difference(metaControllers, previous);
+    }
+
+    private static List<MetaCommand> difference(Collection<MetaController> from, Collection<MetaController> excluding) {
+        Set<MetaCommand> excluded = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        for (MetaController metaController : excluding) {
+            excluded.addAll(metaController.getMetaCommands());
+        }
+
+        return from.stream()
+            .flatMap((metaController) -> metaController.getMetaCommands().stream())
+            .filter((metaCommand) -> !excluded.contains(metaCommand))
+            .collect(Collectors.toUnmodifiableList());
+    }
+}
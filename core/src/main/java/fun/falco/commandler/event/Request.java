@@ -61,6 +61,12 @@ public class Request<S, M> {
     /** Headers that define how this request is processed. */
     private final Map<String, String> headers;
 
+    /**
+     * Values derived while processing this request, so they don't have
+     * to be computed again. This is only created if it's used.
+     */
+    private Map<String, Object> attributes;
+
     public Request(Integration<S, M> integration, S source, M message, String content) {
         this.integration = integration;
         this.source = source;
@@ -104,6 +110,33 @@ public class Request<S, M> {
         return Collections.unmodifiableMap(headers);
     }
 
+    /**
+     * @param name Name of the attribute.
+     * @return Value of the attribute, or null if it hasn't been set.
+     * @since 4.1.0
+     */
+    public Object getAttribute(String name) {
+        return (attributes != null) ? attributes.get(name) : null;
+    }
+
+    /**
+     * Attributes hold values that were derived while processing this
+     * request, such as by a {@link fun.falco.commandler.api.Dispatcher}, so
+     * they can be reused later in the same request. Unlike headers, these
+     * aren't configuration and can be overridden.
+     *
+     * @param name Name of the attribute, prefix with a class name to avoid conflicts.
+     * @param value Value of the attribute.
+     * @since 4.1.0
+     */
+    public void setAttribute(String name, Object value) {
+        if (attributes == null) {
+            attributes = new HashMap<>();
+        }
+
+        attributes.put(name, value);
+    }
+
     @Override
     public String toString() {
         StringJoiner joiner = new StringJoiner(", ");
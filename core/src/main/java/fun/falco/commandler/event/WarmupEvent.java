@@ -0,0 +1,75 @@
+/*
+ * Copyright 2019-2025 Seth Falco and Commandler Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package fun.falco.commandler.event;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import fun.falco.commandler.CommandlerWarmup;
+import fun.falco.commandler.api.Integration;
+import fun.falco.commandler.metadata.MetaController;
+
+/**
+ * Fired by the {@link CommandlerWarmup} before any {@link Integration} is
+ * initialized, so components can build anything they'd otherwise build
+ * lazily when the first requests are handled.
+ *
+ * <p>Observers must not perform any commands. Dispatchers may route
+ * synthetic requests, and add the events they route to with
+ * {@link #addActionEvent(ActionEvent)}, so the parameters of each command
+ * can be adapted once observers are done.</p>
+ *
+ * @author seth@falco.fun (Seth Falco)
+ * @since 4.1.0
+ */
+public class WarmupEvent {
+
+    /** Controllers to warm up. */
+    private final Collection<MetaController> metaControllers;
+
+    /** Integrations that will be initialized once warmed up. */
+    private final List<Integration<?, ?>> integrations;
+
+    /** Events routed from synthetic requests, that no user sent. */
+    private final List<ActionEvent<?, ?>> actionEvents;
+
+    public WarmupEvent(Collection<MetaController> metaControllers, List<Integration<?, ?>> integrations) {
+        this.metaControllers = metaControllers;
+        this.integrations = List.copyOf(integrations);
+        this.actionEvents = new CopyOnWriteArrayList<>();
+    }
+
+    public Collection<MetaController> getMetaControllers() {
+        return metaControllers;
+    }
+
+    public List<Integration<?, ?>> getIntegrations() {
+        return integrations;
+    }
+
+    /**
+     * @param actionEvent Event routed from a synthetic request, that mustn't be performed.
+     */
+    public void addActionEvent(ActionEvent<?, ?> actionEvent) {
+        actionEvents.add(actionEvent);
+    }
+
+    public List<ActionEvent<?, ?>> getActionEvents() {
+        return List.copyOf(actionEvents);
+    }
+}
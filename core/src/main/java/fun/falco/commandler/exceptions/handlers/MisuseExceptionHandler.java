@@ -16,6 +16,7 @@
 
 package fun.falco.commandler.exceptions.handlers;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
@@ -30,8 +31,10 @@ import fun.falco.commandler.event.ActionEvent;
 import fun.falco.commandler.exceptions.misuse.AbstractMisuseException;
 import fun.falco.commandler.exceptions.misuse.ListUnsupportedException;
 import fun.falco.commandler.exceptions.misuse.ModuleDisabledException;
+import fun.falco.commandler.exceptions.misuse.ModuleNotFoundException;
 import fun.falco.commandler.exceptions.misuse.NoDefaultCommandException;
 import fun.falco.commandler.exceptions.misuse.ParamCountMismatchException;
+import fun.falco.commandler.exceptions.misuse.ParamLimitException;
 import fun.falco.commandler.exceptions.misuse.ParamParseException;
 import fun.falco.commandler.i18n.CommandlerMessageResolver;
 import fun.falco.commandler.metadata.MetaCommand;
@@ -81,6 +84,19 @@ public class MisuseExceptionHandler {
         ex.handled();
     }
 
+    /**
+     * @param ex Exception that occurred.
+     */
+    public void onParamLimit(@Handles ExceptionEvent<ParamLimitException> ex) {
+        Objects.requireNonNull(ex);
+        String format =
+            "Command failed; the parameters provided were too large.\n" +
+            "%s";
+
+        sender.send(String.format(format, ex.getException().getMessage()));
+        ex.handled();
+    }
+
     /**
      * @param ex Exception that occurred.
      */
@@ -90,16 +106,42 @@ public class MisuseExceptionHandler {
             "Command failed; this module has no default command.\n" +
             "Module: %s\n" +
             "\n" +
+            "%s" +
             "Possibilities:\n" +
             "%s\n" +
             "\n" +
             "See the help command for more information.";
 
         MetaController metaController = ex.getException().getModule();
+        List<String> suggestions = ex.getException().getSuggestions();
         String commands = metaController.getPublicCommands().stream()
             .map(MetaCommand::toString)
             .collect(Collectors.joining("\n"));
-        sender.send(String.format(format, metaController.getName(), commands));
+        String didYouMean = (suggestions.isEmpty()) ? "" : "Did you mean: " + String.join(", ", suggestions) + "?\n\n";
+        sender.send(String.format(format, metaController.getName(), didYouMean, commands));
+        ex.handled();
+    }
+
+    /**
+     * Only responds if there are similar aliases to suggest, otherwise
+     * messages that were never meant for the bot would get a response.
+     *
+     * @param ex Exception that occurred.
+     * @since 4.1.0
+     */
+    public void onModuleNotFound(@Handles ExceptionEvent<ModuleNotFoundException> ex) {
+        Objects.requireNonNull(ex);
+        List<String> suggestions = ex.getException().getSuggestions();
+
+        if (suggestions.isEmpty()) {
+            return;
+        }
+
+        String format =
+            "Command failed; I couldn't find '%s'.\n" +
+            "Did you mean: %s?";
+
+        sender.send(String.format(format, ex.getException().getAlias(), String.join(", ", suggestions)));
         ex.handled();
     }
 
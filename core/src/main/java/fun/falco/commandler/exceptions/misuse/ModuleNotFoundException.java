@@ -16,20 +16,62 @@
 
 package fun.falco.commandler.exceptions.misuse;
 
+import java.util.List;
+import java.util.Objects;
+
 /**
  * @author seth@falco.fun (Seth Falco)
  */
 public class ModuleNotFoundException extends AbstractMisuseException {
 
+    /** Alias the user tried to use, if known. */
+    private final String alias;
+
+    /** Similar aliases the user may have meant. */
+    private final List<String> suggestions;
+
     public ModuleNotFoundException() {
         super();
+        this.alias = null;
+        this.suggestions = List.of();
     }
 
     public ModuleNotFoundException(String message) {
         super(message);
+        this.alias = null;
+        this.suggestions = List.of();
     }
 
     public ModuleNotFoundException(String message, Throwable throwable) {
         super(message, throwable);
+        this.alias = null;
+        this.suggestions = List.of();
+    }
+
+    /**
+     * @param alias Alias the user tried to use.
+     * @param suggestions Similar aliases the user may have meant, closest first.
+     * @since 4.1.0
+     */
+    public ModuleNotFoundException(String alias, List<String> suggestions) {
+        super();
+        this.alias = Objects.requireNonNull(alias);
+        this.suggestions = List.copyOf(suggestions);
+    }
+
+    /**
+     * @return Alias the user tried to use, or null if unknown.
+     * @since 4.1.0
+     */
+    public String getAlias() {
+        return alias;
+    }
+
+    /**
+     * @return Similar aliases the user may have meant, closest first.
+     * @since 4.1.0
+     */
+    public List<String> getSuggestions() {
+        return suggestions;
     }
 }
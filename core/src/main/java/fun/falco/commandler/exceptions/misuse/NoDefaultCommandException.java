@@ -16,6 +16,7 @@
 
 package fun.falco.commandler.exceptions.misuse;
 
+import java.util.List;
 import java.util.Objects;
 
 import fun.falco.commandler.metadata.MetaController;
@@ -27,8 +28,22 @@ public class NoDefaultCommandException extends AbstractMisuseException {
 
     private final transient MetaController module;
 
+    /** Similar command aliases the user may have meant. */
+    private final List<String> suggestions;
+
     public NoDefaultCommandException(MetaController module) {
-        this(module, null);
+        this(module, (String) null);
+    }
+
+    /**
+     * @param module Controller the user tried to use.
+     * @param suggestions Similar command aliases the user may have meant, closest first.
+     * @since 4.1.0
+     */
+    public NoDefaultCommandException(MetaController module, List<String> suggestions) {
+        super(null, null);
+        this.module = Objects.requireNonNull(module);
+        this.suggestions = List.copyOf(suggestions);
     }
 
     public NoDefaultCommandException(MetaController module, String message) {
@@ -38,9 +53,18 @@ public class NoDefaultCommandException extends AbstractMisuseException {
     public NoDefaultCommandException(MetaController module, String message, Throwable cause) {
         super(message, cause);
         this.module = Objects.requireNonNull(module);
+        this.suggestions = List.of();
     }
 
     public MetaController getModule() {
         return module;
     }
+
+    /**
+     * @return Similar command aliases the user may have meant, closest first.
+     * @since 4.1.0
+     */
+    public List<String> getSuggestions() {
+        return suggestions;
+    }
 }
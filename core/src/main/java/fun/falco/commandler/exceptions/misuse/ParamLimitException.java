@@ -0,0 +1,43 @@
+/*
+ * Copyright 2019-2025 Seth Falco and Commandler Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package fun.falco.commandler.exceptions.misuse;
+
+/**
+ * Thrown when the parameters of a command exceed the configured limits,
+ * either in length or in the number of items.
+ *
+ * @author seth@falco.fun (Seth Falco)
+ * @since 4.1.0
+ */
+public class ParamLimitException extends AbstractMisuseException {
+
+    /** Limit that was exceeded. */
+    private final int limit;
+
+    /**
+     * @param message Description of the limit that was exceeded.
+     * @param limit Limit that was exceeded.
+     */
+    public ParamLimitException(String message, int limit) {
+        super(message);
+        this.limit = limit;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+}
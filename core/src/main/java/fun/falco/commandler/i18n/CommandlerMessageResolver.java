@@ -16,26 +16,50 @@
 
 package fun.falco.commandler.i18n;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
 import javax.inject.Inject;
 
 import org.apache.deltaspike.core.api.message.LocaleResolver;
 import org.apache.deltaspike.core.api.message.Message;
 import org.apache.deltaspike.core.api.message.MessageContext;
 
+import fun.falco.commandler.CommandlerExtension;
 import fun.falco.commandler.annotation.Property;
+import fun.falco.commandler.event.ControllersChangedEvent;
+import fun.falco.commandler.metadata.MetaCommand;
 import fun.falco.commandler.metadata.MetaComponent;
+import fun.falco.commandler.metadata.MetaController;
+import fun.falco.commandler.metadata.MetaParam;
+import fun.falco.commandler.metadata.MetaProperty;
 
 /**
  * Used by Commandler to localize metadata for {@link MetaComponent}s or
  * {@link Property properties} with {@link Property#i18n()} set to true.
  *
+ * <p>If {@link InternationalizationConfig#isCache()} is enabled, the first
+ * message required in a locale resolves every message in the metadata of
+ * all controllers in that locale, and keeps them. Other messages are kept
+ * as they're resolved, up to {@link #MAX_LAZY_MESSAGES} for each locale.</p>
+ *
+ * <p>If {@link InternationalizationConfig#getMessageTable()} is set, keys
+ * are looked up in the {@link MessageTable} of the locale before the message
+ * bundles are parsed.</p>
+ *
  * @author seth@falco.fun (Seth Falco)
  * @since 4.0.1
  */
@@ -47,11 +71,39 @@ public class CommandlerMessageResolver {
         "fun.falco.commandler.i18n.GroupMessages"
     };
 
+    /**
+     * Maximum number of messages that aren't in the metadata to keep for
+     * each locale, so arbitrary keys can't grow the cache without bound.
+     *
+     * @since 4.1.0
+     */
+    public static final int MAX_LAZY_MESSAGES = 1024;
+
     private final MessageContext messageContext;
 
+    /** Provides the metadata to resolve messages of eagerly. */
+    private final CommandlerExtension extension;
+
+    /** If resolved messages are cached. */
+    private final boolean isCache;
+
+    /** Resource name of the compiled message tables, or null if they aren't used. */
+    private final String messageTable;
+
+    /** Compiled message table of each locale, or empty if a locale has none. */
+    private volatile Map<Locale, Optional<MessageTable>> messageTables;
+
+    /** Messages resolved in each locale, replaced with an empty map when invalidated. */
+    private volatile Map<Locale, LocaleMessages> tables;
+
     @Inject
-    public CommandlerMessageResolver(InternationalizationConfig i18nConfig, MessageContext messageContext) {
+    public CommandlerMessageResolver(InternationalizationConfig i18nConfig, MessageContext messageContext, CommandlerExtension extension) {
         this.messageContext = Objects.requireNonNull(messageContext);
+        this.extension = Objects.requireNonNull(extension);
+        this.isCache = Boolean.TRUE.equals(i18nConfig.isCache());
+        this.tables = new ConcurrentHashMap<>();
+        this.messageTable = i18nConfig.getMessageTable();
+        this.messageTables = new ConcurrentHashMap<>();
 
         List<String> messages = new ArrayList<>(i18nConfig.getMessageBundles());
         messages.addAll(Arrays.asList(DEFAULT_MESSAGES));
@@ -59,6 +111,16 @@ public class CommandlerMessageResolver {
         messageContext.messageSource(messages.toArray(String[]::new));
     }
 
+    /**
+     * @return Locale messages are currently resolved in, or the default locale if the {@link LocaleResolver} doesn't provide one.
+     * @since 4.1.0
+     */
+    public Locale getLocale() {
+        LocaleResolver localeResolver = messageContext.getLocaleResolver();
+        Locale locale = (localeResolver != null) ? localeResolver.getLocale() : null;
+        return (locale != null) ? locale : Locale.getDefault();
+    }
+
     /**
      * If the key starts and ends with {} then it'll be searched in the
      * {@link InternationalizationConfig#getMessageBundles()} path.
@@ -83,12 +145,194 @@ public class CommandlerMessageResolver {
      * @param key Resource bundle key or literal string localize.
      * @param locale
      *     Override the default locale resolver implementation to use this
-     *     locale.
+     *     locale, or null to use the {@link LocaleResolver}.
      * @return Localized string in the locale specified.
      */
     public String getMessage(String key, Locale locale) {
-        Message message = messageContext.message();
+        if (!isCache || key == null) {
+            return resolve(key, locale);
+        }
+
+        if (locale == null) {
+            locale = getLocale();
+        }
+
+        return getTable(locale).get(key);
+    }
+
+    /**
+     * Discards all cached messages, this must be called if message bundles
+     * are changed at runtime. Messages are resolved again when next required.
+     *
+     * @since 4.1.0
+     */
+    public void invalidate() {
+        tables = new ConcurrentHashMap<>();
+        messageTables = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Discards all cached messages, as the new controllers may have
+     * messages that weren't resolved eagerly.
+     *
+     * @param event Fired after controllers have been changed at runtime.
+     * @since 4.1.0
+     */
+    public void onControllersChanged(@Observes ControllersChangedEvent event) {
+        invalidate();
+    }
+
+    private String resolve(String key, Locale locale) {
+        if (messageTable != null && key != null && key.length() > 2 && key.charAt(0) == '{' && key.charAt(key.length() - 1) == '}') {
+            Locale tableLocale = (locale != null) ? locale : getLocale();
+            Optional<MessageTable> table = messageTables.computeIfAbsent(tableLocale, this::loadMessageTable);
+
+            if (table.isPresent()) {
+                String message = table.get().get(key.substring(1, key.length() - 1));
+
+                if (message != null) {
+                    return message;
+                }
+            }
+        }
+
+        MessageContext context = messageContext;
+
+        if (locale != null) {
+            context = context.clone().localeResolver(() -> locale);
+        }
+
+        Message message = context.message();
         Message template = message.template(key);
         return template.toString();
     }
+
+    /**
+     * Tables are found with the context class loader, as they're usually
+     * in the application rather than next to Commandler.
+     */
+    private Optional<MessageTable> loadMessageTable(Locale locale) {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+
+        if (classLoader == null) {
+            classLoader = CommandlerMessageResolver.class.getClassLoader();
+        }
+
+        try {
+            return Optional.ofNullable(MessageTable.load(classLoader, messageTable, locale));
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to load the compiled message table for " + locale + ".", ex);
+        }
+    }
+
+    /**
+     * Messages are resolved without holding any lock, so a slow locale
+     * never blocks another. If the cache is invalidated meanwhile, the
+     * messages are only used by the caller that resolved them.
+     *
+     * @param locale Locale to get the messages of.
+     * @return Messages of the locale, resolved on first use.
+     */
+    private LocaleMessages getTable(Locale locale) {
+        Map<Locale, LocaleMessages> tables = this.tables;
+        LocaleMessages table = tables.get(locale);
+
+        if (table != null) {
+            return table;
+        }
+
+        table = new LocaleMessages(locale);
+        LocaleMessages existing = tables.putIfAbsent(locale, table);
+        return (existing != null) ? existing : table;
+    }
+
+    /**
+     * @return Every message in the metadata of all controllers, in the order they're declared.
+     * @since 4.1.0
+     */
+    public Set<String> getMetadataKeys() {
+        Set<String> keys = new LinkedHashSet<>();
+
+        for (MetaController metaController : extension.getMetaControllers()) {
+            keys.add(metaController.getGroup());
+            addKeys(keys, metaController);
+
+            for (MetaCommand metaCommand : metaController.getMetaCommands()) {
+                addKeys(keys, metaCommand);
+
+                for (MetaParam metaParam : metaCommand.getMetaParams()) {
+                    addKeys(keys, metaParam);
+                }
+            }
+        }
+
+        keys.remove(null);
+        return keys;
+    }
+
+    private static void addKeys(Set<String> keys, MetaComponent component) {
+        keys.add(component.getName());
+        keys.add(component.getDescription());
+
+        for (MetaProperty property : component.getProperties().values()) {
+            if (property.isI18n()) {
+                keys.add(property.getValue());
+            }
+        }
+    }
+
+    /**
+     * Messages resolved in a single locale. Messages in the metadata are
+     * resolved when this is created and never change, other messages are
+     * resolved when they're first required.
+     */
+    private final class LocaleMessages {
+
+        private final Locale locale;
+
+        /** Messages in the metadata of all controllers. */
+        private final Map<String, String> messages;
+
+        /** Messages that weren't in the metadata, resolved when first required. */
+        private final Map<String, String> lazyMessages;
+
+        private LocaleMessages(Locale locale) {
+            this.locale = locale;
+            this.lazyMessages = new ConcurrentHashMap<>();
+
+            Map<String, String> messages = new HashMap<>();
+
+            for (String key : getMetadataKeys()) {
+                String message = resolve(key, locale);
+
+                if (message != null) {
+                    messages.put(key, message);
+                }
+            }
+
+            this.messages = Map.copyOf(messages);
+        }
+
+        private String get(String key) {
+            String message = messages.get(key);
+
+            if (message != null) {
+                return message;
+            }
+
+            message = lazyMessages.get(key);
+
+            if (message != null) {
+                return message;
+            }
+
+            message = resolve(key, locale);
+
+            if (message != null && lazyMessages.size() < MAX_LAZY_MESSAGES) {
+                lazyMessages.putIfAbsent(key, message);
+            }
+
+            return message;
+        }
+    }
 }
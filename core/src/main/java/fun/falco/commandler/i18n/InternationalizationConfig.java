@@ -37,4 +37,28 @@ public interface InternationalizationConfig {
      */
     @ConfigProperty(name = "message-bundles")
     List<String> getMessageBundles();
+
+    /**
+     * If enabled, messages are resolved once per locale and kept, rather than
+     * resolved again every time they're required.
+     *
+     * <p>This is disabled by default, as message bundles that change at
+     * runtime must call {@link CommandlerMessageResolver#invalidate()}.</p>
+     *
+     * @return If resolved messages should be cached for each locale.
+     * @since 4.1.0
+     */
+    @ConfigProperty(name = "cache", defaultValue = "false")
+    Boolean isCache();
+
+    /**
+     * Resource name of the tables compiled by the {@link MessageTableCompiler},
+     * without the locale or extension. Messages that aren't in the tables
+     * are still resolved from the {@link #getMessageBundles() bundles}.
+     *
+     * @return Resource name of the compiled tables, or null to not use compiled tables.
+     * @since 4.1.0
+     */
+    @ConfigProperty(name = "message-table")
+    String getMessageTable();
 }
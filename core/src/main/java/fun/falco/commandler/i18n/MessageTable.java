@@ -0,0 +1,208 @@
+/*
+ * Copyright 2019-2025 Seth Falco and Commandler Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package fun.falco.commandler.i18n;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.ResourceBundle;
+
+/**
+ * Messages of every bundle in a single locale, compiled ahead of time by the
+ * {@link MessageTableCompiler} so they don't have to be parsed when the
+ * application starts.
+ *
+ * <p>Keys and values are deduplicated into one pool of strings. Keys are
+ * decoded when the table is loaded, values are decoded from the buffer when
+ * they're first required. Each table already includes the messages it falls
+ * back to, so only the most specific table of a locale is loaded.</p>
+ *
+ * <p>The format is a magic number, the number of entries and strings, the
+ * offset of each string, the strings in UTF-8, then the ID of the key and
+ * value of each entry sorted by key.</p>
+ *
+ * @author seth@falco.fun (Seth Falco)
+ * @since 4.1.0
+ */
+public class MessageTable {
+
+    /** Identifies the format, incremented if the format changes. */
+    public static final int MAGIC = 0x434D5401;
+
+    /** File extension of compiled tables. */
+    public static final String EXTENSION = ".cmt";
+
+    private final ByteBuffer buffer;
+
+    /** Position of the first string in the buffer. */
+    private final int stringsStart;
+
+    /** Keys of all entries, sorted. */
+    private final String[] keys;
+
+    /** ID of the value of each entry, in the same order as {@link #keys}. */
+    private final int[] valueIds;
+
+    /** Strings decoded so far, by ID. */
+    private final String[] strings;
+
+    /**
+     * @param buffer Buffer positioned at the start of a compiled table.
+     * @throws IllegalArgumentException If the buffer isn't a compiled table.
+     */
+    public MessageTable(ByteBuffer buffer) {
+        this.buffer = buffer.slice().asReadOnlyBuffer();
+
+        try {
+            if (this.buffer.getInt() != MAGIC) {
+                throw new IllegalArgumentException("Buffer is not a compiled message table, or is in an unsupported format.");
+            }
+
+            int entryCount = this.buffer.getInt();
+            int stringCount = this.buffer.getInt();
+            int offsetsStart = this.buffer.position();
+            this.stringsStart = offsetsStart + (stringCount + 1) * Integer.BYTES;
+            this.strings = new String[stringCount];
+
+            int entriesStart = stringsStart + this.buffer.getInt(offsetsStart + stringCount * Integer.BYTES);
+            this.keys = new String[entryCount];
+            this.valueIds = new int[entryCount];
+
+            for (int i = 0; i < entryCount; i++) {
+                int position = entriesStart + i * 2 * Integer.BYTES;
+                keys[i] = getString(this.buffer.getInt(position));
+                valueIds[i] = this.buffer.getInt(position + Integer.BYTES);
+            }
+        } catch (BufferUnderflowException | IndexOutOfBoundsException ex) {
+            throw new IllegalArgumentException("Compiled message table is truncated.", ex);
+        }
+    }
+
+    /**
+     * @param key Key of the message, without braces.
+     * @return Message, or null if no bundle has the key.
+     */
+    public String get(String key) {
+        int index = Arrays.binarySearch(keys, key);
+        return (index >= 0) ? getString(valueIds[index]) : null;
+    }
+
+    /**
+     * @return Number of messages in this table.
+     */
+    public int size() {
+        return keys.length;
+    }
+
+    private String getString(int id) {
+        String string = strings[id];
+
+        if (string == null) {
+            int start = buffer.getInt(stringsStart - (strings.length + 1 - id) * Integer.BYTES);
+            int end = buffer.getInt(stringsStart - (strings.length - id) * Integer.BYTES);
+            byte[] bytes = new byte[end - start];
+            buffer.get(stringsStart + start, bytes);
+            string = new String(bytes, StandardCharsets.UTF_8);
+            strings[id] = string;
+        }
+
+        return string;
+    }
+
+    /**
+     * Maps a compiled table from a file, rather than reading it into the heap.
+     *
+     * @param path Path to the compiled table.
+     * @return Message table backed by the file.
+     * @throws IOException If the file couldn't be read.
+     */
+    public static MessageTable map(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return new MessageTable(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Finds the most specific table of a locale in the classpath, following
+     * the same candidates as {@link ResourceBundle}. If only the root table
+     * is found, the default locale is tried first, just as
+     * {@link ResourceBundle.Control#getFallbackLocale(String, Locale)} does,
+     * unless the root locale was requested.
+     *
+     * @param classLoader Class loader to find the table with.
+     * @param baseName Resource name of the tables, without the locale or extension.
+     * @param locale Locale to find the table of.
+     * @return Most specific table for the locale, or null if there is none.
+     * @throws IOException If a table was found, but couldn't be read.
+     */
+    public static MessageTable load(ClassLoader classLoader, String baseName, Locale locale) throws IOException {
+        ResourceBundle.Control control = ResourceBundle.Control.getControl(ResourceBundle.Control.FORMAT_PROPERTIES);
+        MessageTable table = loadSpecific(classLoader, control, baseName, locale);
+
+        if (table == null && !locale.equals(Locale.ROOT)) {
+            Locale fallback = control.getFallbackLocale(baseName, locale);
+
+            if (fallback != null) {
+                table = loadSpecific(classLoader, control, baseName, fallback);
+            }
+        }
+
+        return (table != null) ? table : loadResource(classLoader, getResourceName(baseName, Locale.ROOT));
+    }
+
+    /**
+     * @return Most specific table for the locale, or null if there's only a root table or none at all.
+     */
+    private static MessageTable loadSpecific(ClassLoader classLoader, ResourceBundle.Control control, String baseName, Locale locale) throws IOException {
+        for (Locale candidate : control.getCandidateLocales(baseName, locale)) {
+            if (candidate.equals(Locale.ROOT)) {
+                continue;
+            }
+
+            MessageTable table = loadResource(classLoader, getResourceName(baseName, candidate));
+
+            if (table != null) {
+                return table;
+            }
+        }
+
+        return null;
+    }
+
+    private static MessageTable loadResource(ClassLoader classLoader, String resourceName) throws IOException {
+        try (InputStream stream = classLoader.getResourceAsStream(resourceName)) {
+            return (stream != null) ? new MessageTable(ByteBuffer.wrap(stream.readAllBytes())) : null;
+        }
+    }
+
+    /**
+     * @param baseName Resource name of the tables, without the locale or extension.
+     * @param locale Locale of the table.
+     * @return Resource name of the table of the locale, named like the properties files of a bundle.
+     */
+    public static String getResourceName(String baseName, Locale locale) {
+        String suffix = locale.toString();
+        return (suffix.isEmpty()) ? baseName + EXTENSION : baseName + "_" + suffix + EXTENSION;
+    }
+}
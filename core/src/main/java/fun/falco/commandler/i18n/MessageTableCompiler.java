@@ -0,0 +1,169 @@
+/*
+ * Copyright 2019-2025 Seth Falco and Commandler Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package fun.falco.commandler.i18n;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Compiles message bundles into a {@link MessageTable} for each locale, so
+ * they don't have to be parsed when the application starts.
+ *
+ * <p>Bundles are searched in the order they're given, the same as the
+ * {@link CommandlerMessageResolver}, so the first bundle with a key wins.
+ * The table of each locale includes the messages of the locales it falls
+ * back to, but never the default locale of the machine compiling it.</p>
+ *
+ * <p>This is intended to run as part of the build, with the bundles on the
+ * classpath. The arguments are the output directory, the resource name of
+ * the tables, the bundles separated by commas, then the locales separated by
+ * commas. The table of the root locale is always compiled.</p>
+ *
+ * @author seth@falco.fun (Seth Falco)
+ * @since 4.1.0
+ */
+public final class MessageTableCompiler {
+
+    private static final ResourceBundle.Control CONTROL = ResourceBundle.Control.getNoFallbackControl(ResourceBundle.Control.FORMAT_PROPERTIES);
+
+    private MessageTableCompiler() {
+        // Do nothing
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3) {
+            throw new IllegalArgumentException("Usage: <output directory> <table name> <bundles> [locales]");
+        }
+
+        Path output = Paths.get(args[0]);
+        String baseName = args[1];
+        List<String> bundles = List.of(args[2].split(","));
+        Set<Locale> locales = new LinkedHashSet<>();
+        locales.add(Locale.ROOT);
+
+        if (args.length > 3 && !args[3].isBlank()) {
+            for (String locale : args[3].split(",")) {
+                locales.add(Locale.forLanguageTag(locale.strip().replace('_', '-')));
+            }
+        }
+
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+
+        for (Locale locale : locales) {
+            SortedMap<String, String> messages = collect(classLoader, bundles, locale);
+            Path path = output.resolve(MessageTable.getResourceName(baseName, locale));
+            Files.createDirectories(path.getParent());
+            Files.write(path, compile(messages));
+        }
+    }
+
+    /**
+     * @param classLoader Class loader to find the bundles with.
+     * @param bundles Base names of the bundles, in the order they're searched.
+     * @param locale Locale to collect the messages of.
+     * @return Messages of all bundles in the locale, including the locales it falls back to.
+     */
+    public static SortedMap<String, String> collect(ClassLoader classLoader, List<String> bundles, Locale locale) {
+        SortedMap<String, String> messages = new TreeMap<>();
+
+        for (String bundle : bundles) {
+            ResourceBundle resourceBundle;
+
+            try {
+                resourceBundle = ResourceBundle.getBundle(bundle.strip(), locale, classLoader, CONTROL);
+            } catch (MissingResourceException ex) {
+                continue;
+            }
+
+            Enumeration<String> keys = resourceBundle.getKeys();
+
+            while (keys.hasMoreElements()) {
+                String key = keys.nextElement();
+                messages.putIfAbsent(key, resourceBundle.getString(key));
+            }
+        }
+
+        return messages;
+    }
+
+    /**
+     * @param messages Messages sorted by key.
+     * @return Messages in the format read by {@link MessageTable}.
+     */
+    public static byte[] compile(SortedMap<String, String> messages) throws IOException {
+        Map<String, Integer> ids = new HashMap<>();
+        List<byte[]> strings = new ArrayList<>();
+        int[] entries = new int[messages.size() * 2];
+        int entry = 0;
+
+        for (Map.Entry<String, String> message : messages.entrySet()) {
+            entries[entry++] = intern(ids, strings, message.getKey());
+            entries[entry++] = intern(ids, strings, message.getValue());
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MessageTable.MAGIC);
+            out.writeInt(messages.size());
+            out.writeInt(strings.size());
+
+            int offset = 0;
+
+            for (byte[] string : strings) {
+                out.writeInt(offset);
+                offset += string.length;
+            }
+
+            out.writeInt(offset);
+
+            for (byte[] string : strings) {
+                out.write(string);
+            }
+
+            for (int id : entries) {
+                out.writeInt(id);
+            }
+        }
+
+        return bytes.toByteArray();
+    }
+
+    private static int intern(Map<String, Integer> ids, List<byte[]> strings, String string) {
+        return ids.computeIfAbsent(string, (key) -> {
+            strings.add(key.getBytes(StandardCharsets.UTF_8));
+            return strings.size() - 1;
+        });
+    }
+}
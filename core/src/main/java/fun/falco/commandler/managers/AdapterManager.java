@@ -17,19 +17,21 @@
 package fun.falco.commandler.managers;
 
 import java.lang.reflect.Array;
-import java.util.Collection;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.el.ELContext;
+import javax.el.ELException;
 import javax.el.ELManager;
 import javax.el.ExpressionFactory;
 import javax.el.StandardELContext;
 import javax.el.ValueExpression;
 import javax.el.VariableMapper;
 import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.enterprise.inject.spi.BeanManager;
 import javax.inject.Inject;
 
 import org.apache.deltaspike.core.api.provider.BeanProvider;
@@ -40,12 +42,16 @@ import fun.falco.commandler.Commandler;
 import fun.falco.commandler.CommandlerExtension;
 import fun.falco.commandler.api.Adapter;
 import fun.falco.commandler.api.Integration;
+import fun.falco.commandler.api.PrimitiveAdapter;
 import fun.falco.commandler.event.Action;
 import fun.falco.commandler.event.ActionEvent;
+import fun.falco.commandler.event.WarmupEvent;
 import fun.falco.commandler.exceptions.AdapterRequiredException;
 import fun.falco.commandler.exceptions.misuse.ListUnsupportedException;
 import fun.falco.commandler.exceptions.misuse.ParamParseException;
 import fun.falco.commandler.metadata.MetaAdapter;
+import fun.falco.commandler.metadata.MetaCommand;
+import fun.falco.commandler.metadata.MetaController;
 import fun.falco.commandler.metadata.MetaParam;
 
 /**
@@ -64,81 +70,146 @@ public class AdapterManager {
      */
     private static final Logger logger = LoggerFactory.getLogger(AdapterManager.class);
 
+    /** If each adapter class implements {@link PrimitiveAdapter} itself. */
+    private static final ClassValue<Boolean> primitiveAdapters = new ClassValue<>() {
+
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            for (Class<?> implemented : type.getInterfaces()) {
+                if (PrimitiveAdapter.class.isAssignableFrom(implemented)) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+    };
+
     /** The configuration class which contains all metadata for this instance. */
     private final CommandlerExtension extension;
 
     /** Used to evaluate expressions and build default values for parameters. */
     private final ExpressionFactory expressionFactory;
 
+    /** Checks the scope of adapters, to know if references to them can be kept. */
+    private final BeanManager beanManager;
+
+    /**
+     * Adapters resolved for each type, an adapter is only resolved when first
+     * required. This is owned by the instance, so references to beans don't
+     * outlive the container.
+     */
+    private final ConcurrentMap<Class<?>, BeanReference<Adapter<?>>> adapters;
+
     @Inject
-    public AdapterManager(final CommandlerExtension extension) {
+    public AdapterManager(final CommandlerExtension extension, final BeanManager beanManager) {
         this.extension = Objects.requireNonNull(extension);
+        this.beanManager = Objects.requireNonNull(beanManager);
         this.expressionFactory = ELManager.getExpressionFactory();
+        this.adapters = new ConcurrentHashMap<>();
     }
 
     /**
      * Take the String parameters from the message event and adapt them into the required
      * format the commands method requires to execute.
      *
+     * <p>Which parameters are injected, and which are adapted from user
+     * input, is precomputed by the {@link MetaCommand}.</p>
+     *
      * @param event Message event to take parameters from.
      * @return Array of all parameters adapted as required for the given method.
      */
     public Object[] adaptEvent(ActionEvent event) {
         Action action = event.getAction();
-        List<MetaParam> metaParams = event.getMetaCommand().getMetaParams();
-        Iterator<List<String>> userInputParameters = action.getParams().iterator();
-        Class<?>[] types = event.getMetaCommand().getMethod().getParameterTypes();
-        Object[] itemsToReturn = new Object[types.length];
-
-        for (int i = 0; i < types.length; i++) {
-            final int iFinal = i;
-
-            Optional<MetaParam> optMetaParam = metaParams.stream()
-                .filter((m) -> m.getMethodIndex() == iFinal)
-                .findAny();
-
-            if (optMetaParam.isEmpty()) {
-                itemsToReturn[i] = BeanProvider.getContextualReference(types[i]);
+        List<List<String>> userInputParameters = action.getParams();
+        MetaCommand metaCommand = event.getMetaCommand();
+        Object[] itemsToReturn = new Object[metaCommand.getMethodParamCount()];
+        int next = 0;
+
+        for (int i = 0; i < itemsToReturn.length; i++) {
+            MetaParam metaParam = metaCommand.getBoundParam(i);
+
+            if (metaParam == null) {
+                itemsToReturn[i] = BeanProvider.getContextualReference(metaCommand.getMethodParamType(i));
+            } else if (next < userInputParameters.size()) {
+                itemsToReturn[i] = adaptParam(action, event, metaParam, userInputParameters.get(next++));
             } else {
-                MetaParam metaParam = optMetaParam.get();
-                List<String> param;
+                itemsToReturn[i] = adaptDefault(action, event, metaParam);
+            }
+        }
 
-                if (userInputParameters.hasNext()) {
-                    param = userInputParameters.next();
-                } else {
-                    ELContext context = new StandardELContext(expressionFactory);
-                    VariableMapper mapper = context.getVariableMapper();
-                    mapper.setVariable("event", expressionFactory.createValueExpression(event, ActionEvent.class));
-                    mapper.setVariable("action", expressionFactory.createValueExpression(action, Action.class));
-                    mapper.setVariable("integration", expressionFactory.createValueExpression(event.getRequest().getIntegration(), Integration.class));
-                    mapper.setVariable("source", expressionFactory.createValueExpression(event.getRequest().getSource(), event.getRequest().getSource().getClass()));
-
-                    String defaultValue = metaParam.getDefaultValue();
-                    ValueExpression ve = expressionFactory.createValueExpression(context, defaultValue, Object.class);
-                    Object value = ve.getValue(context);
-                    Class<?> type = value.getClass();
-                    Class<?> parameterType = metaParam.getParameter().getType();
-
-                    if (String.class.isAssignableFrom(type)) {
-                        param = List.of((String) value);
-                    } else if (String[].class.isAssignableFrom(type)) {
-                        param = List.of((String[]) value);
-                    } else if (List.class.isAssignableFrom(type)) {
-                        param = (List<String>) value;
-                    } else if (parameterType.isAssignableFrom(type)) {
-                        itemsToReturn[i] = value;
-                        continue;
-                    } else {
-                        throw new RuntimeException("defaultValue must be assignable to String, String[], List<String> or " + parameterType + ".");
+        return itemsToReturn;
+    }
+
+    /**
+     * Resolves the adapter of every parameter, and parses every default
+     * value, so the expression language is initialized. Default values are
+     * not evaluated, as they depend on the event.
+     *
+     * @param event Fired before any integration is initialized.
+     * @since 4.1.0
+     */
+    public void onWarmup(@Observes WarmupEvent event) {
+        ELContext context = new StandardELContext(expressionFactory);
+
+        for (MetaController metaController : event.getMetaControllers()) {
+            for (MetaCommand metaCommand : metaController.getMetaCommands()) {
+                for (MetaParam metaParam : metaCommand.getMetaParams()) {
+                    Class<?> type = metaParam.getParameter().getType();
+                    getAdapter(type.isArray() ? type.getComponentType() : type);
+
+                    if (metaParam.isOptional()) {
+                        try {
+                            expressionFactory.createValueExpression(context, metaParam.getDefaultValue(), Object.class);
+                        } catch (ELException ex) {
+                            logger.warn("Failed to parse the default value of {} while warming up.", metaParam, ex);
+                        }
                     }
                 }
-
-                Object object = adaptParam(action, event, metaParam, param);
-                itemsToReturn[i] = object;
             }
         }
+    }
 
-        return itemsToReturn;
+    /**
+     * Evaluates the default value of a parameter the user didn't provide.
+     *
+     * <p>Expressions resolve variables when they're created, so this must be
+     * evaluated for each event. This only occurs when the user omits an
+     * optional parameter.</p>
+     *
+     * @param action User action that required this parsing.
+     * @param event Message event to take parameters from.
+     * @param metaParam Parameter the user didn't provide.
+     * @return Default value adapted as required for the command.
+     */
+    private Object adaptDefault(Action action, ActionEvent<?, ?> event, MetaParam metaParam) {
+        ELContext context = new StandardELContext(expressionFactory);
+        VariableMapper mapper = context.getVariableMapper();
+        mapper.setVariable("event", expressionFactory.createValueExpression(event, ActionEvent.class));
+        mapper.setVariable("action", expressionFactory.createValueExpression(action, Action.class));
+        mapper.setVariable("integration", expressionFactory.createValueExpression(event.getRequest().getIntegration(), Integration.class));
+        mapper.setVariable("source", expressionFactory.createValueExpression(event.getRequest().getSource(), event.getRequest().getSource().getClass()));
+
+        String defaultValue = metaParam.getDefaultValue();
+        ValueExpression ve = expressionFactory.createValueExpression(context, defaultValue, Object.class);
+        Object value = ve.getValue(context);
+        Class<?> type = value.getClass();
+        Class<?> parameterType = metaParam.getParameter().getType();
+        List<String> param;
+
+        if (String.class.isAssignableFrom(type)) {
+            param = List.of((String) value);
+        } else if (String[].class.isAssignableFrom(type)) {
+            param = List.of((String[]) value);
+        } else if (List.class.isAssignableFrom(type)) {
+            param = (List<String>) value;
+        } else if (parameterType.isAssignableFrom(type)) {
+            return value;
+        } else {
+            throw new RuntimeException("defaultValue must be assignable to String, String[], List<String> or " + parameterType + ".");
+        }
+
+        return adaptParam(action, event, metaParam, param);
     }
 
     /**
@@ -162,7 +233,8 @@ public class AdapterManager {
     protected Object adaptParam(Action action, ActionEvent event, MetaParam param, List<String> items) {
         Class<?> type = param.getParameter().getType();
         Class<?> componentType = type.isArray() ? type.getComponentType() : type;
-        Adapter adapter = this.getAdapter(componentType);
+        BeanReference<Adapter<?>> reference = getAdapterReference(componentType);
+        Adapter adapter = reference.get();
 
         if (adapter == null) {
             throw new RuntimeException(String.format("No adapters was created for the data-type %s.", componentType.getName()));
@@ -171,6 +243,14 @@ public class AdapterManager {
         int size = items.size();
 
         if (type.isArray()) {
+            if (componentType.isPrimitive() && primitiveAdapters.get(reference.getBeanClass())) {
+                Object output = adaptPrimitives(event, param, (PrimitiveAdapter) adapter, componentType, items);
+
+                if (output != null) {
+                    return output;
+                }
+            }
+
             Object output = Array.newInstance(componentType, size);
 
             for (int i = 0; i < size; i++) {
@@ -219,38 +299,169 @@ public class AdapterManager {
     }
 
     /**
-     * Iterate adapters and get the most appropriate one for to adapt this type.
+     * Fills an array of primitives directly, if the adapter can adapt the
+     * component type without boxing. This is only used if the bean class of
+     * the adapter implements {@link PrimitiveAdapter} itself, as a subclass,
+     * such as one that specializes a built-in adapter, may override
+     * {@link Adapter#adapt} without the primitive methods.
      *
-     * <p>Starts by looking for one with an exact compatible type, if not found
-     * then resorts to searching for adapters that work with a
-     * {@link Class#isAssignableFrom(Class)} with a compatible class.
+     * @param event Message event to take parameters from.
+     * @param param Static parameter data associated with the parameter.
+     * @param adapter Adapter of the component type.
+     * @param componentType Primitive type of the items.
+     * @param items Input provided by the user.
+     * @return Array of primitives, or null if the adapter doesn't support the component type.
+     */
+    private static Object adaptPrimitives(ActionEvent<?, ?> event, MetaParam param, PrimitiveAdapter adapter, Class<?> componentType, List<String> items) {
+        int size = items.size();
+        int i = 0;
+
+        try {
+            if (componentType == int.class && adapter instanceof PrimitiveAdapter.OfInt) {
+                PrimitiveAdapter.OfInt ofInt = (PrimitiveAdapter.OfInt) adapter;
+                int[] output = new int[size];
+
+                for (; i < size; i++) {
+                    output[i] = ofInt.adaptInt(items.get(i));
+                }
+
+                return output;
+            }
+
+            if (componentType == long.class && adapter instanceof PrimitiveAdapter.OfLong) {
+                PrimitiveAdapter.OfLong ofLong = (PrimitiveAdapter.OfLong) adapter;
+                long[] output = new long[size];
+
+                for (; i < size; i++) {
+                    output[i] = ofLong.adaptLong(items.get(i));
+                }
+
+                return output;
+            }
+
+            if (componentType == double.class && adapter instanceof PrimitiveAdapter.OfDouble) {
+                PrimitiveAdapter.OfDouble ofDouble = (PrimitiveAdapter.OfDouble) adapter;
+                double[] output = new double[size];
+
+                for (; i < size; i++) {
+                    output[i] = ofDouble.adaptDouble(items.get(i));
+                }
+
+                return output;
+            }
+
+            if (componentType == float.class && adapter instanceof PrimitiveAdapter.OfFloat) {
+                PrimitiveAdapter.OfFloat ofFloat = (PrimitiveAdapter.OfFloat) adapter;
+                float[] output = new float[size];
+
+                for (; i < size; i++) {
+                    output[i] = ofFloat.adaptFloat(items.get(i));
+                }
+
+                return output;
+            }
+
+            if (componentType == short.class && adapter instanceof PrimitiveAdapter.OfShort) {
+                PrimitiveAdapter.OfShort ofShort = (PrimitiveAdapter.OfShort) adapter;
+                short[] output = new short[size];
+
+                for (; i < size; i++) {
+                    output[i] = ofShort.adaptShort(items.get(i));
+                }
+
+                return output;
+            }
+
+            if (componentType == byte.class && adapter instanceof PrimitiveAdapter.OfByte) {
+                PrimitiveAdapter.OfByte ofByte = (PrimitiveAdapter.OfByte) adapter;
+                byte[] output = new byte[size];
+
+                for (; i < size; i++) {
+                    output[i] = ofByte.adaptByte(items.get(i));
+                }
+
+                return output;
+            }
+
+            if (componentType == boolean.class && adapter instanceof PrimitiveAdapter.OfBoolean) {
+                PrimitiveAdapter.OfBoolean ofBoolean = (PrimitiveAdapter.OfBoolean) adapter;
+                boolean[] output = new boolean[size];
+
+                for (; i < size; i++) {
+                    output[i] = ofBoolean.adaptBoolean(items.get(i));
+                }
+
+                return output;
+            }
+
+            if (componentType == char.class && adapter instanceof PrimitiveAdapter.OfChar) {
+                PrimitiveAdapter.OfChar ofChar = (PrimitiveAdapter.OfChar) adapter;
+                char[] output = new char[size];
+
+                for (; i < size; i++) {
+                    output[i] = ofChar.adaptChar(items.get(i));
+                }
+
+                return output;
+            }
+        } catch (IllegalArgumentException ex) {
+            throw new ParamParseException(event, param, items.get(i));
+        }
+
+        return null;
+    }
+
+    /**
+     * Get the most appropriate adapter to adapt this type.
+     *
+     * <p>Prefers an adapter with an exact compatible type, if not found then
+     * resorts to the adapter with the most specific compatible type that's
+     * {@link Class#isAssignableFrom(Class) assignable from} the type.
      * <strong>It's favorable not to rely on
      * {@link Class#isAssignableFrom(Class)} where possible.</strong></p>
      *
+     * <p>The adapter is only resolved once per type. References to normal
+     * scoped adapters are kept, any other adapter is looked up again each
+     * time, so it isn't shared between requests.</p>
+     *
      * @param typeRequired Type that needs adapting.
      * @return Adapter for this data into the required type.
      */
     public <T> Adapter<?> getAdapter(Class<?> typeRequired) {
-        MetaAdapter adapter = null;
-
-        for (MetaAdapter metaAdapter : extension.getMetaAdapters()) {
-            Collection<Class<?>> compatible = metaAdapter.getCompatibleTypes();
+        return getAdapterReference(typeRequired).get();
+    }
 
-            if (compatible.contains(typeRequired)) {
-                adapter = metaAdapter;
-                break;
-            }
+    /**
+     * @param typeRequired Type that needs adapting.
+     * @return Reference to the adapter for this data into the required type, resolved on first use.
+     */
+    private BeanReference<Adapter<?>> getAdapterReference(Class<?> typeRequired) {
+        BeanReference<Adapter<?>> reference = adapters.get(typeRequired);
 
-            if (compatible.stream().anyMatch(c -> c.isAssignableFrom(typeRequired))) {
-                adapter = metaAdapter;
-            }
+        if (reference != null) {
+            return reference;
         }
 
+        reference = resolveAdapter(typeRequired);
+        BeanReference<Adapter<?>> existing = adapters.putIfAbsent(typeRequired, reference);
+        return (existing != null) ? existing : reference;
+    }
+
+    /**
+     * @param typeRequired Type that needs adapting.
+     * @return Reference to the adapter for this data into the required type.
+     */
+    private BeanReference<Adapter<?>> resolveAdapter(Class<?> typeRequired) {
+        MetaAdapter adapter = TypeResolver.resolve(typeRequired, extension.getMetaAdapters(), MetaAdapter::getCompatibleTypes, MetaAdapter::getAdapterType);
+
         if (adapter == null) {
             throw new AdapterRequiredException("Adapter required for type " + typeRequired + ".");
         }
 
-        logger.debug("Using `{}` to parse parameter.", adapter.getAdapterType());
-        return BeanProvider.getContextualReference(adapter.getAdapterType());
+        logger.debug("Using `{}` to parse parameters of type `{}`.", adapter.getAdapterType(), typeRequired);
+
+        @SuppressWarnings("unchecked")
+        Class<? extends Adapter<?>> adapterType = (Class<? extends Adapter<?>>) adapter.getAdapterType();
+        return BeanReference.of(beanManager, adapterType);
     }
 }
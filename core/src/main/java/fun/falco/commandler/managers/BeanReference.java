@@ -0,0 +1,92 @@
+/*
+ * Copyright 2019-2025 Seth Falco and Commandler Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package fun.falco.commandler.managers;
+
+import java.util.Objects;
+
+import javax.enterprise.context.Dependent;
+import javax.enterprise.inject.spi.Bean;
+import javax.enterprise.inject.spi.BeanManager;
+
+import org.apache.deltaspike.core.api.provider.BeanProvider;
+
+/**
+ * Reference to a bean that can be kept after it's resolved. Normal scoped
+ * beans are referenced through a client proxy, which is kept and shared
+ * between requests. Other beans, such as {@link Dependent} beans, are
+ * looked up each time they're used, so each use gets it's own instance.
+ *
+ * @param <T> Type of the bean.
+ * @author seth@falco.fun (Seth Falco)
+ * @since 4.1.0
+ */
+final class BeanReference<T> {
+
+    /** Type of the bean. */
+    private final Class<? extends T> type;
+
+    /** Class of the bean the type resolves to, a subclass of the type if it's specialized. */
+    private final Class<?> beanClass;
+
+    /** Client proxy of the bean, or null if the bean isn't normal scoped. */
+    private final T proxy;
+
+    private BeanReference(Class<? extends T> type, Class<?> beanClass, T proxy) {
+        this.type = type;
+        this.beanClass = beanClass;
+        this.proxy = proxy;
+    }
+
+    /**
+     * @param beanManager Bean manager to check the scope of the bean with.
+     * @param type Type of the bean.
+     * @param <T> Type of the bean.
+     * @return Reference to the bean.
+     */
+    static <T> BeanReference<T> of(BeanManager beanManager, Class<? extends T> type) {
+        Objects.requireNonNull(type);
+        Bean<?> bean = beanManager.resolve(beanManager.getBeans(type));
+        Class<?> beanClass = (bean != null) ? bean.getBeanClass() : type;
+
+        if (bean != null && beanManager.isNormalScope(bean.getScope())) {
+            return new BeanReference<>(type, beanClass, BeanProvider.getContextualReference(type));
+        }
+
+        return new BeanReference<>(type, beanClass, null);
+    }
+
+    /**
+     * @return Type of the bean.
+     */
+    Class<? extends T> getType() {
+        return type;
+    }
+
+    /**
+     * @return Class of the bean the type resolves to, which may be a subclass of the type.
+     */
+    Class<?> getBeanClass() {
+        return beanClass;
+    }
+
+    /**
+     * @return Client proxy of the bean if it's normal scoped, otherwise a new reference to the bean.
+     */
+    T get() {
+        return (proxy != null) ? proxy : BeanProvider.getContextualReference(type);
+    }
+}
@@ -43,16 +43,35 @@ public class DispatcherManager {
 
     private static final Logger logger = LoggerFactory.getLogger(DispatcherManager.class);
 
-    private List<Dispatcher> dispatchers;
+    /** Dispatchers in order, replaced as a whole when dispatchers are added. */
+    private volatile List<Dispatcher> dispatchers;
 
     @Inject
     public DispatcherManager(final CommandlerExtension extension) {
-        dispatchers = new ArrayList<>();
+        List<Dispatcher> dispatchers = new ArrayList<>();
 
         for (Class<? extends Dispatcher> dispatcher : extension.getDispatcherTypes()) {
             logger.debug("Creating instance of {}.", dispatcher);
             dispatchers.add(BeanProvider.getContextualReference(dispatcher));
         }
+
+        this.dispatchers = List.copyOf(dispatchers);
+    }
+
+    /**
+     * @param content Content of the message that was received.
+     * @return If any dispatcher reports the content could be a command.
+     * @see Dispatcher#isCandidate(String)
+     * @since 4.1.0
+     */
+    public boolean isCandidate(String content) {
+        for (Dispatcher dispatcher : dispatchers) {
+            if (dispatcher.isCandidate(content)) {
+                return true;
+            }
+        }
+
+        return false;
     }
 
     public <S, M> ActionEvent<S, M> dispatch(Request<S, M> request) {
@@ -78,7 +97,9 @@ public class DispatcherManager {
         add(List.of(dispatchers));
     }
 
-    public void add(Collection<Dispatcher> dispatchers) {
-        this.dispatchers.addAll(dispatchers);
+    public synchronized void add(Collection<Dispatcher> dispatchers) {
+        List<Dispatcher> copy = new ArrayList<>(this.dispatchers);
+        copy.addAll(dispatchers);
+        this.dispatchers = List.copyOf(copy);
     }
 }
@@ -16,20 +16,31 @@
 
 package fun.falco.commandler.managers;
 
-import java.util.Collection;
+import java.lang.reflect.Modifier;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
 
 import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.enterprise.inject.spi.BeanManager;
 import javax.inject.Inject;
 
-import org.apache.deltaspike.core.api.provider.BeanProvider;
+import org.apache.commons.lang3.ClassUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import fun.falco.commandler.Commandler;
 import fun.falco.commandler.CommandlerExtension;
 import fun.falco.commandler.api.Integration;
 import fun.falco.commandler.api.Messenger;
 import fun.falco.commandler.event.ActionEvent;
+import fun.falco.commandler.event.WarmupEvent;
 import fun.falco.commandler.exceptions.AdapterRequiredException;
+import fun.falco.commandler.metadata.MetaCommand;
+import fun.falco.commandler.metadata.MetaController;
 import fun.falco.commandler.metadata.MetaMessenger;
 
 /**
@@ -38,11 +49,53 @@ import fun.falco.commandler.metadata.MetaMessenger;
 @ApplicationScoped
 public class MessengerManager {
 
+    private static final Logger logger = LoggerFactory.getLogger(MessengerManager.class);
+
     private final CommandlerExtension commandlerExtension;
 
+    /** Checks the scope of messengers, to know if references to them can be kept. */
+    private final BeanManager beanManager;
+
+    /**
+     * Messengers resolved for each type, by the type of message they build.
+     * This is owned by the instance, so references to beans don't outlive
+     * the container.
+     */
+    private final ConcurrentMap<Class<?>, ConcurrentMap<Class<?>, BeanReference<Messenger<?, ?>>>> messengers;
+
     @Inject
-    public MessengerManager(final CommandlerExtension commandlerExtension) {
+    public MessengerManager(final CommandlerExtension commandlerExtension, final BeanManager beanManager) {
         this.commandlerExtension = Objects.requireNonNull(commandlerExtension);
+        this.beanManager = Objects.requireNonNull(beanManager);
+        this.messengers = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Resolves the messenger for what each command returns, for each
+     * integration. Only concrete return types are resolved, as commands that
+     * return an interface or superclass could return anything.
+     *
+     * @param event Fired before any integration is initialized.
+     * @since 4.1.0
+     */
+    public void onWarmup(@Observes WarmupEvent event) {
+        for (Integration<?, ?> integration : event.getIntegrations()) {
+            for (MetaController metaController : event.getMetaControllers()) {
+                for (MetaCommand metaCommand : metaController.getMetaCommands()) {
+                    Class<?> type = ClassUtils.primitiveToWrapper(metaCommand.getMethod().getReturnType());
+
+                    if (type == Void.class || !Modifier.isFinal(type.getModifiers())) {
+                        continue;
+                    }
+
+                    try {
+                        getMessenger(integration, type);
+                    } catch (AdapterRequiredException ex) {
+                        logger.warn("No messenger for {} which {} returns.", type, metaCommand, ex);
+                    }
+                }
+            }
+        }
     }
 
     /**
@@ -77,6 +130,11 @@ public class MessengerManager {
      * Go through the builders and find the most appropriate adapters if one is
      * available for building an message from this data-type.
      *
+     * <p>Prefers a messenger with an exact compatible type, if not found then
+     * resorts to the messenger with the most specific compatible type. The
+     * messenger is only resolved once per message type and data-type, and
+     * only references to normal scoped messengers are kept.</p>
+     *
      * @param integration Platform that this event was received from.
      * @param typeRequired Data-type we need to load from.
      * @param <S> Source event the {@link Integration} provides.
@@ -87,29 +145,40 @@ public class MessengerManager {
      *      If no {@link Messenger} is registered for this data-type.
      */
     public <S, M, O> Messenger<O, M> getMessenger(Integration<S, M> integration, Class<O> typeRequired) {
-        MetaMessenger provider = null;
+        Class<M> messageType = integration.getMessageType();
+        ConcurrentMap<Class<?>, BeanReference<Messenger<?, ?>>> byType = messengers.computeIfAbsent(messageType, (key) -> new ConcurrentHashMap<>());
+        BeanReference<Messenger<?, ?>> reference = byType.get(typeRequired);
 
-        for (MetaMessenger metaMessenger : commandlerExtension.getMetaMessengers()) {
-            Collection<Class<?>> compatible = metaMessenger.getCompatibleTypes();
+        if (reference == null) {
+            reference = resolveMessenger(messageType, typeRequired);
+            BeanReference<Messenger<?, ?>> existing = byType.putIfAbsent(typeRequired, reference);
 
-            if (metaMessenger.getBuildType() != integration.getMessageType()) {
-                continue;
+            if (existing != null) {
+                reference = existing;
             }
+        }
 
-            if (compatible.contains(typeRequired)) {
-                provider = metaMessenger;
-                break;
-            }
+        return (Messenger<O, M>) reference.get();
+    }
 
-            if (compatible.stream().anyMatch(c -> c.isAssignableFrom(typeRequired))) {
-                provider = metaMessenger;
-            }
-        }
+    /**
+     * @param messageType Type of message the messenger must build.
+     * @param typeRequired Data-type we need to load from.
+     * @return Reference to the messenger to convert this to a message.
+     */
+    private BeanReference<Messenger<?, ?>> resolveMessenger(Class<?> messageType, Class<?> typeRequired) {
+        List<MetaMessenger> candidates = commandlerExtension.getMetaMessengers().stream()
+            .filter((metaMessenger) -> metaMessenger.getBuildType() == messageType)
+            .collect(Collectors.toList());
+
+        MetaMessenger provider = TypeResolver.resolve(typeRequired, candidates, MetaMessenger::getCompatibleTypes, MetaMessenger::getProviderType);
 
         if (provider == null) {
             throw new AdapterRequiredException(Messenger.class + " required for type " + typeRequired + ".");
         }
 
-        return BeanProvider.getContextualReference(provider.getProviderType());
+        @SuppressWarnings("unchecked")
+        Class<? extends Messenger<?, ?>> providerType = (Class<? extends Messenger<?, ?>>) provider.getProviderType();
+        return BeanReference.of(beanManager, providerType);
     }
 }
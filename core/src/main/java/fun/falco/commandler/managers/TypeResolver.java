@@ -0,0 +1,128 @@
+/*
+ * Copyright 2019-2025 Seth Falco and Commandler Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package fun.falco.commandler.managers;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Picks which of several components is most appropriate for a type, such as
+ * which adapter to use for a parameter, where each component declares the
+ * types it's compatible with.
+ *
+ * <p>A component compatible with the exact type always wins. Otherwise, the
+ * component with the most specific compatible type that the type is
+ * assignable to wins. Ties are broken by the names of the compatible type and
+ * then the component, so the result never depends on the order components
+ * were discovered in, or the iteration order of their compatible types.</p>
+ *
+ * @author seth@falco.fun (Seth Falco)
+ * @since 4.1.0
+ */
+final class TypeResolver {
+
+    private TypeResolver() {
+        // Utility class.
+    }
+
+    /**
+     * @param type Type a component is required for.
+     * @param components Components to choose from.
+     * @param compatibleTypes Gets the types a component is compatible with.
+     * @param componentType Gets the type of the component itself, to break ties.
+     * @param <T> Type of component.
+     * @return Most appropriate component for the type, or null if none are compatible.
+     */
+    static <T> T resolve(Class<?> type, Collection<T> components, Function<T, Collection<Class<?>>> compatibleTypes, Function<T, Class<?>> componentType) {
+        List<Candidate<T>> candidates = new ArrayList<>();
+
+        for (T component : components) {
+            Class<?> best = null;
+
+            for (Class<?> compatible : compatibleTypes.apply(component)) {
+                if (compatible.isAssignableFrom(type) && isBetter(compatible, best)) {
+                    best = compatible;
+                }
+            }
+
+            if (best != null) {
+                candidates.add(new Candidate<>(component, best, componentType.apply(component).getName()));
+            }
+        }
+
+        if (candidates.isEmpty()) {
+            return null;
+        }
+
+        candidates.sort(
+            Comparator.<Candidate<T>, Boolean>comparing((candidate) -> candidate.type != type)
+                .thenComparing((candidate) -> candidate.type.getName())
+                .thenComparing((candidate) -> candidate.name)
+        );
+
+        Candidate<T> selected = candidates.get(0);
+
+        for (Candidate<T> candidate : candidates) {
+            if (isBetter(candidate.type, selected.type)) {
+                selected = candidate;
+            }
+        }
+
+        return selected.component;
+    }
+
+    /**
+     * @param type Type that may be better.
+     * @param current Best type so far, or null if there isn't one.
+     * @return If the type is a subtype of the current type, or if it sorts first when unrelated.
+     */
+    private static boolean isBetter(Class<?> type, Class<?> current) {
+        if (current == null) {
+            return true;
+        }
+
+        if (type == current) {
+            return false;
+        }
+
+        if (current.isAssignableFrom(type)) {
+            return true;
+        }
+
+        if (type.isAssignableFrom(current)) {
+            return false;
+        }
+
+        return type.getName().compareTo(current.getName()) < 0;
+    }
+
+    private static final class Candidate<T> {
+
+        private final T component;
+        private final Class<?> type;
+        private final String name;
+
+        private Candidate(T component, Class<?> type, String name) {
+            this.component = component;
+            this.type = type;
+            this.name = name;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2019-2025 Seth Falco and Commandler Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package fun.falco.commandler.metadata;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Objects;
+
+/**
+ * Invokes the method of a command, built once when the command is
+ * discovered so performing a command doesn't go through reflection.
+ *
+ * <p>The method is bound as a {@link MethodHandle} that's spread to the exact
+ * number of parameters of the method. Unlike {@link Method#invoke(Object, Object...)},
+ * exceptions thrown by the command are thrown as is rather than wrapped in an
+ * {@link InvocationTargetException}.</p>
+ *
+ * <p>If the method can't be accessed with a method handle, this falls back
+ * to reflection.</p>
+ *
+ * @author seth@falco.fun (Seth Falco)
+ * @since 4.1.0
+ */
+public final class CommandInvoker {
+
+    /** Method this invokes. */
+    private final Method method;
+
+    /** Method spread to take the controller, and an array of arguments; or null to use reflection. */
+    private final MethodHandle handle;
+
+    private CommandInvoker(Method method, MethodHandle handle) {
+        this.method = method;
+        this.handle = handle;
+    }
+
+    /**
+     * @param method Method of the command.
+     * @return Invoker for the method.
+     */
+    public static CommandInvoker create(Method method) {
+        Objects.requireNonNull(method);
+        MethodHandle handle = unreflect(method);
+
+        if (handle == null) {
+            return new CommandInvoker(method, null);
+        }
+
+        if (Modifier.isStatic(method.getModifiers())) {
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+
+        int arity = method.getParameterCount();
+        MethodHandle spread = handle
+            .asType(MethodType.genericMethodType(arity + 1))
+            .asSpreader(Object[].class, arity);
+
+        return new CommandInvoker(method, spread);
+    }
+
+    /**
+     * @param method Method to get a handle for.
+     * @return Handle for the method, or null if it can't be accessed.
+     */
+    private static MethodHandle unreflect(Method method) {
+        try {
+            return MethodHandles.publicLookup().unreflect(method);
+        } catch (IllegalAccessException ex) {
+            if (!method.trySetAccessible()) {
+                return null;
+            }
+        }
+
+        try {
+            return MethodHandles.lookup().unreflect(method);
+        } catch (IllegalAccessException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * @param controller Instance of the controller to perform the command on.
+     * @param args Arguments to pass to the command, must match the method exactly.
+     * @return Value the command returned, or null if it returns void.
+     * @throws Exception Any exception thrown by the command.
+     * @throws InvocationTargetException If the command threw anything other than an {@link Exception}.
+     */
+    public Object invoke(Object controller, Object[] args) throws Exception {
+        if (handle == null) {
+            return invokeReflectively(controller, args);
+        }
+
+        try {
+            return handle.invokeExact(controller, args);
+        } catch (Exception ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new InvocationTargetException(ex);
+        }
+    }
+
+    /**
+     * Consistent with {@link #invoke(Object, Object[])}, any exception the
+     * command throws is unwrapped.
+     */
+    private Object invokeReflectively(Object controller, Object[] args) throws Exception {
+        try {
+            return method.invoke(controller, args);
+        } catch (InvocationTargetException ex) {
+            if (ex.getCause() instanceof Exception) {
+                throw (Exception) ex.getCause();
+            }
+
+            throw ex;
+        }
+    }
+
+    /**
+     * @return If this invokes the method with a method handle, rather than reflection.
+     */
+    public boolean isMethodHandle() {
+        return handle != null;
+    }
+
+    public Method getMethod() {
+        return method;
+    }
+}
@@ -17,38 +17,99 @@
 package fun.falco.commandler.metadata;
 
 import java.lang.reflect.Method;
-import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.StringJoiner;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * @author seth@falco.fun (Seth Falco)
  */
 public class MetaCommand extends MetaComponent implements Comparable<MetaCommand>, Iterable<MetaParam> {
 
+    /** Next ordinal to assign, ordinals are never reused. */
+    private static final AtomicInteger ORDINALS = new AtomicInteger();
+
+    /** Unique number of this command, assigned in the order commands are created. */
+    private final int ordinal;
+
     /** The actual method that is called when this command is performed. */
     private Method method;
 
+    /** Invokes {@link #method} when this command is performed. */
+    private CommandInvoker invoker;
+
     /** If this command is hidden from public help messages. */
     private boolean isHidden;
 
     /** The parameters this command requires. */
     private List<MetaParam> metaParams;
 
+    /** Number of parameters that are required. */
+    private int minParams;
+
+    /** Types of the parameters of {@link #method}. */
+    private Class<?>[] methodParamTypes;
+
+    /**
+     * Parameter adapted from user input for each parameter of
+     * {@link #method}, or null where the parameter is injected.
+     */
+    private MetaParam[] boundParams;
+
     public MetaCommand(Method method, String name, String help, boolean isHidden, Map<String, MetaProperty> properties, List<MetaParam> metaParams) {
+        this(method, CommandInvoker.create(method), name, help, isHidden, properties, metaParams);
+    }
+
+    /**
+     * @param method Method that is called when this command is performed.
+     * @param invoker Prebuilt invoker for the method.
+     * @param name Name of the command.
+     * @param help Description of the command.
+     * @param isHidden If this command is hidden from public help messages.
+     * @param properties Properties of the command.
+     * @param metaParams Parameters this command requires.
+     * @since 4.1.0
+     */
+    public MetaCommand(Method method, CommandInvoker invoker, String name, String help, boolean isHidden, Map<String, MetaProperty> properties, List<MetaParam> metaParams) {
         this.method = Objects.requireNonNull(method);
+        this.invoker = Objects.requireNonNull(invoker);
         this.name = Objects.requireNonNull(name);
         this.description = help;
         this.isHidden = isHidden;
-        this.properties = properties;
-        this.metaParams = Objects.requireNonNull(metaParams);
+        this.properties = freeze(properties);
+        this.metaParams = List.copyOf(metaParams);
+        this.minParams = (int) this.metaParams.stream().filter(MetaParam::isRequired).count();
+        this.methodParamTypes = method.getParameterTypes();
+        this.boundParams = new MetaParam[methodParamTypes.length];
+
+        for (MetaParam metaParam : this.metaParams) {
+            int index = metaParam.getMethodIndex();
+
+            if (boundParams[index] == null) {
+                boundParams[index] = metaParam;
+            }
+        }
+        this.ordinal = ORDINALS.getAndIncrement();
+    }
+
+    /**
+     * Ordinals are assigned in the order commands are created, and are
+     * never reused. They're dense for the commands found on startup, but
+     * commands replaced at runtime get a new ordinal, so anything indexed
+     * by them should only span the ordinals it needs.
+     *
+     * @return Unique number of this command.
+     * @since 4.1.0
+     */
+    public int getOrdinal() {
+        return ordinal;
     }
 
     public int getMinParams() {
-        return (int) metaParams.stream().filter(MetaParam::isRequired).count();
+        return minParams;
     }
 
     public int getMaxParams() {
@@ -65,16 +126,49 @@ public class MetaCommand extends MetaComponent implements Comparable<MetaCommand
      *     this command.
      */
     public boolean isValidParamCount(int count) {
-        long required = getMinParams();
-        int total = getMaxParams();
-
-        return count >= required && count <= total;
+        return count >= minParams && count <= metaParams.size();
     }
 
     public Method getMethod() {
         return method;
     }
 
+    /**
+     * @return Number of parameters of the method, including injected parameters.
+     * @since 4.1.0
+     */
+    public int getMethodParamCount() {
+        return methodParamTypes.length;
+    }
+
+    /**
+     * @param methodIndex Index of the parameter of the method.
+     * @return Type of the parameter of the method.
+     * @since 4.1.0
+     */
+    public Class<?> getMethodParamType(int methodIndex) {
+        return methodParamTypes[methodIndex];
+    }
+
+    /**
+     * @param methodIndex Index of the parameter of the method.
+     * @return
+     *     Parameter that's adapted from user input, or null if the
+     *     parameter is injected.
+     * @since 4.1.0
+     */
+    public MetaParam getBoundParam(int methodIndex) {
+        return boundParams[methodIndex];
+    }
+
+    /**
+     * @return Invoker that performs this command.
+     * @since 4.1.0
+     */
+    public CommandInvoker getInvoker() {
+        return invoker;
+    }
+
     public boolean isHidden() {
         return isHidden;
     }
@@ -84,7 +178,7 @@ public class MetaCommand extends MetaComponent implements Comparable<MetaCommand
     }
 
     public List<MetaParam> getMetaParams() {
-        return Collections.unmodifiableList(metaParams);
+        return metaParams;
     }
 
     @Override
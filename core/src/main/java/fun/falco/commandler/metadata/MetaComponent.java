@@ -22,6 +22,9 @@ import java.util.Map;
  * Abstract class that represents a type with documentable elements
  * such as a {@link MetaController}, {@link MetaCommand}, and {@link MetaParam}.
  *
+ * <p>Components are immutable once created, anything derived from them is
+ * computed in the constructor rather than on each call.</p>
+ *
  * @author seth@falco.fun (Seth Falco)
  */
 public abstract class MetaComponent {
@@ -55,7 +58,25 @@ public abstract class MetaComponent {
      * @return Property mapped under this key.
      */
     public MetaProperty getProperty(Class<?> type, String key) {
-        return getProperty(type.getName() + "." + key);
+        return getProperty(PropertyKey.of(type, key));
+    }
+
+    /**
+     * @param key Key of the property, prefixed by the class that declared it.
+     * @return Property mapped under this key.
+     * @since 4.1.0
+     */
+    public MetaProperty getProperty(PropertyKey key) {
+        return getProperty(key.getName());
+    }
+
+    /**
+     * @param properties Properties of the component, may be null.
+     * @return Immutable copy of the properties.
+     * @since 4.1.0
+     */
+    protected static Map<String, MetaProperty> freeze(Map<String, MetaProperty> properties) {
+        return (properties == null) ? Map.of() : Map.copyOf(properties);
     }
 
     /**
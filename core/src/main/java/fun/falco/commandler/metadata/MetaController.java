@@ -47,14 +47,34 @@ public class MetaController extends MetaComponent implements Comparable<MetaCont
     /** List of {@link MetaCommand} that were created inside the {@link Controller}. */
     private List<MetaCommand> metaCommands;
 
+    /** Commands where {@link MetaCommand#isHidden()} is false. */
+    private List<MetaCommand> publicCommands;
+
+    /** Commands where {@link MetaCommand#isHidden()} is true. */
+    private List<MetaCommand> hiddenCommands;
+
     public MetaController(Class<?> controllerType, String groupName, String name, String description, boolean isHidden, Map<String, MetaProperty> properties, List<MetaCommand> metaCommands) {
         this.controllerType = Objects.requireNonNull(controllerType);
         this.groupName = Objects.requireNonNull(groupName);
         this.name = Objects.requireNonNull(name);
         this.description = description;
         this.isHidden = isHidden;
-        this.properties = properties;
-        this.metaCommands = Objects.requireNonNull(metaCommands);
+        this.properties = freeze(properties);
+        this.metaCommands = List.copyOf(metaCommands);
+
+        List<MetaCommand> hidden = this.metaCommands.stream()
+            .filter(MetaCommand::isHidden)
+            .collect(Collectors.toUnmodifiableList());
+
+        if (hidden.isEmpty()) {
+            this.publicCommands = this.metaCommands;
+            this.hiddenCommands = List.of();
+        } else {
+            this.publicCommands = this.metaCommands.stream()
+                .filter(Predicate.not(MetaCommand::isHidden))
+                .collect(Collectors.toUnmodifiableList());
+            this.hiddenCommands = hidden;
+        }
     }
 
     public Class<?> getControllerType() {
@@ -74,7 +94,7 @@ public class MetaController extends MetaComponent implements Comparable<MetaCont
     }
 
     public List<MetaCommand> getMetaCommands() {
-        return List.copyOf(metaCommands);
+        return metaCommands;
     }
 
     /**
@@ -83,9 +103,7 @@ public class MetaController extends MetaComponent implements Comparable<MetaCont
      *     {@link MetaCommand#isHidden()} is false.
      */
     public List<MetaCommand> getPublicCommands() {
-        return metaCommands.stream()
-            .filter(Predicate.not(MetaCommand::isHidden))
-            .collect(Collectors.toUnmodifiableList());
+        return publicCommands;
     }
 
     /**
@@ -94,9 +112,7 @@ public class MetaController extends MetaComponent implements Comparable<MetaCont
      *     {@link MetaCommand#isHidden()} is true.
      */
     public List<MetaCommand> getHiddenCommands() {
-        return metaCommands.stream()
-            .filter(MetaCommand::isHidden)
-            .collect(Collectors.toUnmodifiableList());
+        return hiddenCommands;
     }
 
     /**
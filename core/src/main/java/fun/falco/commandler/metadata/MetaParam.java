@@ -53,7 +53,7 @@ public class MetaParam extends MetaComponent {
         this.description = description;
         this.defaultValue = defaultValue;
         this.defaultValueDisplay = defaultValueDisplay;
-        this.properties = properties;
+        this.properties = freeze(properties);
 
         isOptional = defaultValue != null;
         isList = parameter.getType().isArray();
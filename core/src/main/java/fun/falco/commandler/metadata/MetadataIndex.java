@@ -0,0 +1,490 @@
+/*
+ * Copyright 2019-2025 Seth Falco and Commandler Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package fun.falco.commandler.metadata;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.StringJoiner;
+import java.util.TreeSet;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Index of controller metadata that was generated at compile time, so
+ * controllers don't have to be reflected over when the application starts.
+ *
+ * <p>The index is a UTF-8 text resource at {@link #RESOURCE}, every JAR can
+ * contain its own. Each line is a record of tab separated fields, where the
+ * first field is the type of record:</p>
+ *
+ * <ul>
+ *   <li><code>C</code>: controller; class, group, name, description, hidden, fingerprint.</li>
+ *   <li><code>M</code>: command in the last controller; method, parameter types, name, description, hidden.</li>
+ *   <li><code>A</code>: parameter of the last command; method index, command index, name, description, default value, default value display.</li>
+ *   <li><code>P</code>: property of the last controller, command, or parameter; full key, key, value, public, i18n, display name.</li>
+ * </ul>
+ *
+ * <p>Tabs, line breaks, and backslashes in fields are escaped with a
+ * backslash, and <code>\0</code> represents null. Parameter types are
+ * separated by commas, in the format of {@link Class#getName()}.</p>
+ *
+ * <p>The fingerprint is a hash of the signatures of all public methods of the
+ * controller, see {@link #fingerprint(Class)}. If the class has changed since
+ * the index was generated, for example if only some classes were recompiled,
+ * the index is ignored for that controller and it's reflected over instead.
+ * Changes to the values of annotations of methods that already exist aren't
+ * detected, so indexes must be generated in the same compilation as the
+ * controllers they describe, which is what the annotation processor does.</p>
+ *
+ * @author seth@falco.fun (Seth Falco)
+ * @since 4.1.0
+ */
+public final class MetadataIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(MetadataIndex.class);
+
+    /** Location of the index in each JAR. */
+    public static final String RESOURCE = "META-INF/commandler/metadata.idx";
+
+    /** First line of the index, identifies the format and version of the index. */
+    public static final String HEADER = "commandler-metadata\t2";
+
+    /** Index that contains no controllers. */
+    public static final MetadataIndex EMPTY = new MetadataIndex(Map.of());
+
+    private static final Map<String, Class<?>> PRIMITIVES = Map.of(
+        "boolean", boolean.class,
+        "byte", byte.class,
+        "char", char.class,
+        "short", short.class,
+        "int", int.class,
+        "long", long.class,
+        "float", float.class,
+        "double", double.class
+    );
+
+    /** Records of each controller by the binary name of the controller class. */
+    private final Map<String, List<String[]>> controllers;
+
+    private MetadataIndex(Map<String, List<String[]>> controllers) {
+        this.controllers = controllers;
+    }
+
+    /**
+     * @param classLoader Class loader to find indexes with.
+     * @return Index of all controllers in every index found.
+     */
+    public static MetadataIndex load(ClassLoader classLoader) {
+        Objects.requireNonNull(classLoader);
+        Map<String, List<String[]>> controllers = new HashMap<>();
+
+        try {
+            Enumeration<URL> resources = classLoader.getResources(RESOURCE);
+
+            while (resources.hasMoreElements()) {
+                URL url = resources.nextElement();
+
+                try (Reader reader = new InputStreamReader(url.openStream(), StandardCharsets.UTF_8)) {
+                    read(reader, controllers);
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to read the metadata index.", ex);
+        }
+
+        if (controllers.isEmpty()) {
+            return EMPTY;
+        }
+
+        logger.debug("Loaded {} controllers from the metadata index.", controllers.size());
+        return new MetadataIndex(controllers);
+    }
+
+    /**
+     * @param reader Reader for a single index.
+     * @return Index of all controllers in the index.
+     * @throws IOException If the index could not be read.
+     */
+    public static MetadataIndex read(Reader reader) throws IOException {
+        Map<String, List<String[]>> controllers = new HashMap<>();
+        read(reader, controllers);
+        return (controllers.isEmpty()) ? EMPTY : new MetadataIndex(controllers);
+    }
+
+    private static void read(Reader reader, Map<String, List<String[]>> controllers) throws IOException {
+        BufferedReader buffered = new BufferedReader(reader);
+        String header = buffered.readLine();
+
+        if (!HEADER.equals(header)) {
+            logger.warn("Ignored a metadata index in an unsupported format: {}", header);
+            return;
+        }
+
+        List<String[]> records = null;
+        String line;
+
+        while ((line = buffered.readLine()) != null) {
+            if (line.isEmpty()) {
+                continue;
+            }
+
+            String[] fields = line.split("\t", -1);
+
+            for (int i = 0; i < fields.length; i++) {
+                fields[i] = unescape(fields[i]);
+            }
+
+            if (fields[0].equals("C")) {
+                records = new ArrayList<>();
+                controllers.put(fields[1], records);
+            } else if (records == null) {
+                throw new IOException("Metadata index has a record before the first controller.");
+            }
+
+            records.add(fields);
+        }
+    }
+
+    /**
+     * @param className Binary name of a class.
+     * @return If the index contains the class.
+     */
+    public boolean contains(String className) {
+        return controllers.containsKey(className);
+    }
+
+    public int size() {
+        return controllers.size();
+    }
+
+    public boolean isEmpty() {
+        return controllers.isEmpty();
+    }
+
+    /**
+     * Build the metadata of a controller from the index.
+     *
+     * @param controllerType Class of the controller.
+     * @return
+     *     Metadata of the controller, or null if it isn't in the index or
+     *     the index doesn't match the class.
+     */
+    public MetaController getMetaController(Class<?> controllerType) {
+        List<String[]> records = controllers.get(controllerType.getName());
+
+        if (records == null) {
+            return null;
+        }
+
+        String fingerprint = records.get(0)[6];
+
+        if (!fingerprint.equals(fingerprint(controllerType))) {
+            logger.warn("Ignored the metadata index for {} as the class has changed since it was indexed.", controllerType);
+            return null;
+        }
+
+        try {
+            return build(controllerType, records);
+        } catch (ReflectiveOperationException | RuntimeException ex) {
+            logger.warn("Ignored the metadata index for {} as it doesn't match the class.", controllerType, ex);
+            return null;
+        }
+    }
+
+    /**
+     * @param type Class to fingerprint.
+     * @return Fingerprint of the public methods of the class.
+     */
+    public static String fingerprint(Class<?> type) {
+        List<String> signatures = new ArrayList<>();
+
+        for (Method method : type.getMethods()) {
+            if (method.getDeclaringClass() == Object.class || method.isBridge() || method.isSynthetic()) {
+                continue;
+            }
+
+            StringJoiner joiner = new StringJoiner(",", method.getName() + "(", ")");
+
+            for (Class<?> parameterType : method.getParameterTypes()) {
+                joiner.add(parameterType.getName());
+            }
+
+            signatures.add(joiner.toString());
+        }
+
+        return fingerprint(signatures);
+    }
+
+    /**
+     * The annotation processor uses this to fingerprint classes that
+     * haven't been compiled yet.
+     *
+     * @param signatures
+     *     Signatures of each public method, excluding those declared by
+     *     {@link Object}, in the format <code>name(type,type)</code> where
+     *     types are in the format of {@link Class#getName()}.
+     * @return Fingerprint of the methods, regardless of the order of them.
+     */
+    public static String fingerprint(Collection<String> signatures) {
+        return Integer.toHexString(String.join(";", new TreeSet<>(signatures)).hashCode());
+    }
+
+    private static MetaController build(Class<?> controllerType, List<String[]> records) throws ReflectiveOperationException {
+        String[] controller = records.get(0);
+        Map<String, MetaProperty> controllerProperties = new LinkedHashMap<>();
+        List<MetaCommand> commands = new ArrayList<>();
+
+        int i = readProperties(records, 1, controllerProperties);
+
+        while (i < records.size()) {
+            String[] command = expect(records.get(i++), "M");
+            Method method = controllerType.getMethod(command[1], resolveTypes(controllerType.getClassLoader(), command[2]));
+            Parameter[] parameters = method.getParameters();
+            Map<String, MetaProperty> commandProperties = new LinkedHashMap<>();
+            List<MetaParam> params = new ArrayList<>();
+
+            i = readProperties(records, i, commandProperties);
+
+            while (i < records.size() && records.get(i)[0].equals("A")) {
+                String[] param = records.get(i++);
+                int methodIndex = Integer.parseInt(param[1]);
+                Map<String, MetaProperty> paramProperties = new LinkedHashMap<>();
+                i = readProperties(records, i, paramProperties);
+                params.add(new MetaParam(methodIndex, Integer.parseInt(param[2]), parameters[methodIndex], param[3], param[4], param[5], param[6], paramProperties));
+            }
+
+            commands.add(new MetaCommand(method, CommandInvoker.create(method), command[3], command[4], Boolean.parseBoolean(command[5]), commandProperties, params));
+        }
+
+        return new MetaController(controllerType, controller[2], controller[3], controller[4], Boolean.parseBoolean(controller[5]), controllerProperties, commands);
+    }
+
+    /**
+     * @return Index of the first record after the properties.
+     */
+    private static int readProperties(List<String[]> records, int start, Map<String, MetaProperty> properties) {
+        int i = start;
+
+        while (i < records.size() && records.get(i)[0].equals("P")) {
+            String[] property = records.get(i++);
+            properties.put(property[1].intern(), new MetaProperty(property[2], property[3], Boolean.parseBoolean(property[4]), Boolean.parseBoolean(property[5]), property[6]));
+        }
+
+        return i;
+    }
+
+    private static String[] expect(String[] record, String type) {
+        if (!record[0].equals(type)) {
+            throw new IllegalStateException("Expected a " + type + " record but found " + record[0] + ".");
+        }
+
+        return record;
+    }
+
+    private static Class<?>[] resolveTypes(ClassLoader classLoader, String types) throws ClassNotFoundException {
+        if (types.isEmpty()) {
+            return new Class<?>[0];
+        }
+
+        String[] names = types.split(",");
+        Class<?>[] classes = new Class<?>[names.length];
+
+        for (int i = 0; i < names.length; i++) {
+            Class<?> primitive = PRIMITIVES.get(names[i]);
+            classes[i] = (primitive != null) ? primitive : Class.forName(names[i], false, classLoader);
+        }
+
+        return classes;
+    }
+
+    private static String escape(String value) {
+        if (value == null) {
+            return "\\0";
+        }
+
+        StringBuilder builder = new StringBuilder(value.length());
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+
+            if (c == '\\') {
+                builder.append("\\\\");
+            } else if (c == '\t') {
+                builder.append("\\t");
+            } else if (c == '\n') {
+                builder.append("\\n");
+            } else if (c == '\r') {
+                builder.append("\\r");
+            } else {
+                builder.append(c);
+            }
+        }
+
+        return builder.toString();
+    }
+
+    private static String unescape(String value) {
+        if (value.equals("\\0")) {
+            return null;
+        }
+
+        if (value.indexOf('\\') == -1) {
+            return value;
+        }
+
+        StringBuilder builder = new StringBuilder(value.length());
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+
+            if (c != '\\' || i + 1 == value.length()) {
+                builder.append(c);
+                continue;
+            }
+
+            char next = value.charAt(++i);
+
+            if (next == 't') {
+                builder.append('\t');
+            } else if (next == 'n') {
+                builder.append('\n');
+            } else if (next == 'r') {
+                builder.append('\r');
+            } else {
+                builder.append(next);
+            }
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * Writes an index, records must be written in order; each controller,
+     * followed by its commands, followed by their parameters. Properties are
+     * written immediately after the component they belong to.
+     */
+    public static final class Writer {
+
+        private final StringBuilder builder;
+
+        public Writer() {
+            builder = new StringBuilder();
+        }
+
+        /**
+         * @param writer Writer to copy all records from.
+         * @return This writer.
+         */
+        public Writer append(Writer writer) {
+            builder.append(writer.builder);
+            return this;
+        }
+
+        /**
+         * @return If no records have been written.
+         */
+        public boolean isEmpty() {
+            return builder.length() == 0;
+        }
+
+        /**
+         * @param className Binary name of the controller class.
+         * @param group Group the controller belongs to.
+         * @param name Name of the controller.
+         * @param description Description of the controller.
+         * @param hidden If the controller is hidden.
+         * @param fingerprint Fingerprint of the controller class, see {@link MetadataIndex#fingerprint(Collection)}.
+         * @return This writer.
+         */
+        public Writer controller(String className, String group, String name, String description, boolean hidden, String fingerprint) {
+            return record("C", className, group, name, description, String.valueOf(hidden), fingerprint);
+        }
+
+        /**
+         * @param methodName Name of the method.
+         * @param parameterTypes Parameter types of the method, in the format of {@link Class#getName()}.
+         * @param name Name of the command.
+         * @param description Description of the command.
+         * @param hidden If the command is hidden.
+         * @return This writer.
+         */
+        public Writer command(String methodName, List<String> parameterTypes, String name, String description, boolean hidden) {
+            return record("M", methodName, String.join(",", parameterTypes), name, description, String.valueOf(hidden));
+        }
+
+        /**
+         * @param methodIndex Index of the parameter in the method.
+         * @param commandIndex Index of the parameter in the command.
+         * @param name Name of the parameter.
+         * @param description Description of the parameter.
+         * @param defaultValue Default value of the parameter.
+         * @param defaultValueDisplay Default value to display to users.
+         * @return This writer.
+         */
+        public Writer param(int methodIndex, int commandIndex, String name, String description, String defaultValue, String defaultValueDisplay) {
+            return record("A", String.valueOf(methodIndex), String.valueOf(commandIndex), name, description, defaultValue, defaultValueDisplay);
+        }
+
+        /**
+         * @param fullKey Full key the property is mapped under.
+         * @param key Name of the property.
+         * @param value Value of the property.
+         * @param isPublic If the property is public.
+         * @param i18n If the value is an i18n message.
+         * @param displayName Name to display to users.
+         * @return This writer.
+         */
+        public Writer property(String fullKey, String key, String value, boolean isPublic, boolean i18n, String displayName) {
+            return record("P", fullKey, key, value, String.valueOf(isPublic), String.valueOf(i18n), displayName);
+        }
+
+        private Writer record(String type, String... fields) {
+            builder.append(type);
+
+            for (String field : fields) {
+                builder.append('\t').append(escape(field));
+            }
+
+            builder.append('\n');
+            return this;
+        }
+
+        /**
+         * @return Index with the header and all records written.
+         */
+        @Override
+        public String toString() {
+            return HEADER + '\n' + builder;
+        }
+    }
+}
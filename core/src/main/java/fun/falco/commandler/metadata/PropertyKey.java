@@ -0,0 +1,85 @@
+/*
+ * Copyright 2019-2025 Seth Falco and Commandler Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package fun.falco.commandler.metadata;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Key of a {@link MetaProperty} that's prefixed by the class that declared
+ * it, such as <code>fun.falco.commandler.dispatchers.standard.StandardDispatcher.aliases</code>.
+ *
+ * <p>Keys are interned, there is only ever one instance for each class and
+ * key. This means looking up a property never has to concatenate the name,
+ * and every component shares the same name instance in its properties.</p>
+ *
+ * @author seth@falco.fun (Seth Falco)
+ * @since 4.1.0
+ */
+public final class PropertyKey {
+
+    /** Interned keys for each class. */
+    private static final ClassValue<ConcurrentMap<String, PropertyKey>> KEYS = new ClassValue<>() {
+
+        @Override
+        protected ConcurrentMap<String, PropertyKey> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final Class<?> type;
+    private final String key;
+    private final String name;
+
+    private PropertyKey(Class<?> type, String key) {
+        this.type = type;
+        this.key = key;
+        this.name = type.getName() + "." + key;
+    }
+
+    /**
+     * @param type Class that declared the property.
+     * @param key Name of the property in the class.
+     * @return Interned key for the property.
+     */
+    public static PropertyKey of(Class<?> type, String key) {
+        Objects.requireNonNull(type);
+        Objects.requireNonNull(key);
+        return KEYS.get(type).computeIfAbsent(key, (k) -> new PropertyKey(type, k));
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * @return Full key the property is mapped under.
+     */
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright 2019-2025 Seth Falco and Commandler Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package fun.falco.commandler.utils;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+
+/**
+ * Finds which of a set of keywords occur in a text, reading the text once
+ * regardless of how many keywords there are.
+ *
+ * <p>Keywords are matched regardless of case, under the same rules as
+ * {@link String#equalsIgnoreCase(String)}.</p>
+ *
+ * <p>This is immutable once built, and safe to share between threads.</p>
+ *
+ * @author seth@falco.fun (Seth Falco)
+ * @since 4.1.0
+ */
+public class AhoCorasick {
+
+    private final Node root;
+    private final int size;
+
+    /**
+     * @param keywords Keywords to find, each is identified by it's index in the list.
+     */
+    public AhoCorasick(List<String> keywords) {
+        Objects.requireNonNull(keywords);
+        this.root = new Node();
+        this.size = keywords.size();
+
+        for (int id = 0; id < keywords.size(); id++) {
+            String keyword = keywords.get(id);
+            Node node = root;
+
+            for (int i = 0; i < keyword.length(); i++) {
+                node = node.getOrCreateChild(fold(keyword.charAt(i)));
+            }
+
+            node.addOutput(id);
+        }
+
+        linkFailures();
+    }
+
+    /**
+     * @param text Text to search.
+     * @return Indices of all keywords that occur in the text.
+     */
+    public BitSet findAll(CharSequence text) {
+        BitSet found = new BitSet(size);
+        Node node = root;
+        addOutputs(found, root);
+
+        for (int i = 0; i < text.length(); i++) {
+            node = next(node, fold(text.charAt(i)));
+
+            for (Node output = node; output != null && output != root; output = output.outputLink) {
+                addOutputs(found, output);
+            }
+        }
+
+        return found;
+    }
+
+    private static void addOutputs(BitSet found, Node node) {
+        for (int id : node.outputs) {
+            found.set(id);
+        }
+    }
+
+    /**
+     * @param text Text to search.
+     * @return If any keyword occurs in the text.
+     */
+    public boolean containsAny(CharSequence text) {
+        if (root.outputs.length > 0) {
+            return true;
+        }
+
+        Node node = root;
+
+        for (int i = 0; i < text.length(); i++) {
+            node = next(node, fold(text.charAt(i)));
+
+            if (node.outputs.length > 0 || node.outputLink != null) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * @return Number of keywords.
+     */
+    public int size() {
+        return size;
+    }
+
+    private Node next(Node node, char c) {
+        Node current = node;
+
+        while (true) {
+            Node child = current.getChild(c);
+
+            if (child != null) {
+                return child;
+            }
+
+            if (current == root) {
+                return root;
+            }
+
+            current = current.failure;
+        }
+    }
+
+    /**
+     * Link each node to the longest proper suffix of it that's also in the
+     * trie, and to the nearest of those suffixes that ends a keyword.
+     */
+    private void linkFailures() {
+        Queue<Node> queue = new ArrayDeque<>();
+        root.failure = root;
+
+        for (Node child : root.children) {
+            child.failure = root;
+            child.outputLink = (root.outputs.length > 0) ? root : null;
+            queue.add(child);
+        }
+
+        while (!queue.isEmpty()) {
+            Node node = queue.remove();
+
+            for (int i = 0; i < node.keys.length; i++) {
+                Node child = node.children[i];
+                child.failure = next(node.failure, node.keys[i]);
+                child.outputLink = (child.failure.outputs.length > 0) ? child.failure : child.failure.outputLink;
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * Folds the case of a character, this mirrors {@link String#equalsIgnoreCase(String)}.
+     */
+    private static char fold(char c) {
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    /**
+     * Node in the trie, children are stored in parallel arrays sorted by
+     * character to keep the footprint small.
+     */
+    private static final class Node {
+
+        private static final char[] NO_KEYS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+        private static final int[] NO_OUTPUTS = new int[0];
+
+        private char[] keys = NO_KEYS;
+        private Node[] children = NO_CHILDREN;
+
+        /** Keywords that end at this node. */
+        private int[] outputs = NO_OUTPUTS;
+
+        /** Longest proper suffix of this node that's also in the trie. */
+        private Node failure;
+
+        /** Nearest failure that ends a keyword, or null if there is none. */
+        private Node outputLink;
+
+        private Node getChild(char c) {
+            int index = Arrays.binarySearch(keys, c);
+            return (index >= 0) ? children[index] : null;
+        }
+
+        private Node getOrCreateChild(char c) {
+            int index = Arrays.binarySearch(keys, c);
+
+            if (index >= 0) {
+                return children[index];
+            }
+
+            int insertAt = -index - 1;
+            int length = keys.length;
+            char[] newKeys = new char[length + 1];
+            Node[] newChildren = new Node[length + 1];
+
+            System.arraycopy(keys, 0, newKeys, 0, insertAt);
+            System.arraycopy(keys, insertAt, newKeys, insertAt + 1, length - insertAt);
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, length - insertAt);
+            newKeys[insertAt] = c;
+
+            Node child = new Node();
+            newChildren[insertAt] = child;
+            keys = newKeys;
+            children = newChildren;
+            return child;
+        }
+
+        private void addOutput(int id) {
+            outputs = Arrays.copyOf(outputs, outputs.length + 1);
+            outputs[outputs.length - 1] = id;
+        }
+    }
+}
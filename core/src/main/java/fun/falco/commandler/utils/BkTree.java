@@ -0,0 +1,229 @@
+/*
+ * Copyright 2019-2025 Seth Falco and Commandler Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package fun.falco.commandler.utils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Burkhard-Keller tree of words, finds all words within a
+ * Levenshtein distance of a query without comparing against every word.
+ *
+ * <p>Words are compared regardless of case, under the same rules as
+ * {@link String#equalsIgnoreCase(String)}, but are returned as they were
+ * added.</p>
+ *
+ * <p>This is not thread-safe while it's being populated, but it's safe to share
+ * between threads once it's no longer modified.</p>
+ *
+ * @author seth@falco.fun (Seth Falco)
+ * @since 4.1.0
+ */
+public class BkTree {
+
+    private Node root;
+    private int size;
+
+    /**
+     * @param word Word to add, ignored if an equal word was already added.
+     * @return If the word was added.
+     */
+    public boolean add(String word) {
+        Objects.requireNonNull(word);
+        char[] folded = fold(word);
+
+        if (root == null) {
+            root = new Node(word, folded);
+            size++;
+            return true;
+        }
+
+        Node node = root;
+
+        while (true) {
+            int distance = distance(folded, node.folded);
+
+            if (distance == 0) {
+                return false;
+            }
+
+            Node child = node.getChild(distance);
+
+            if (child == null) {
+                node.addChild(distance, new Node(word, folded));
+                size++;
+                return true;
+            }
+
+            node = child;
+        }
+    }
+
+    /**
+     * @param query Word to find similar words to.
+     * @param maxDistance Maximum number of edits between the query and a result.
+     * @param limit Maximum number of results.
+     * @return
+     *     Closest words to the query, ordered by distance and then in the
+     *     order they were added.
+     */
+    public List<String> search(CharSequence query, int maxDistance, int limit) {
+        Objects.requireNonNull(query);
+
+        if (root == null || limit <= 0 || maxDistance < 0) {
+            return List.of();
+        }
+
+        char[] folded = fold(query);
+        List<List<Node>> byDistance = new ArrayList<>(maxDistance + 1);
+
+        for (int i = 0; i <= maxDistance; i++) {
+            byDistance.add(new ArrayList<>());
+        }
+
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(root);
+
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            int distance = distance(folded, node.folded);
+
+            if (distance <= maxDistance) {
+                byDistance.get(distance).add(node);
+            }
+
+            for (int i = 0; i < node.distances.length; i++) {
+                if (Math.abs(node.distances[i] - distance) <= maxDistance) {
+                    pending.push(node.children[i]);
+                }
+            }
+        }
+
+        List<String> results = new ArrayList<>();
+
+        for (List<Node> nodes : byDistance) {
+            nodes.sort((a, b) -> Integer.compare(a.ordinal, b.ordinal));
+
+            for (Node node : nodes) {
+                results.add(node.word);
+
+                if (results.size() == limit) {
+                    return results;
+                }
+            }
+        }
+
+        return results;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @param a First word.
+     * @param b Second word.
+     * @return Levenshtein distance between the words.
+     */
+    static int distance(char[] a, char[] b) {
+        if (a.length > b.length) {
+            char[] swap = a;
+            a = b;
+            b = swap;
+        }
+
+        int[] previous = new int[a.length + 1];
+        int[] current = new int[a.length + 1];
+
+        for (int i = 0; i <= a.length; i++) {
+            previous[i] = i;
+        }
+
+        for (int j = 1; j <= b.length; j++) {
+            current[0] = j;
+
+            for (int i = 1; i <= a.length; i++) {
+                int cost = (a[i - 1] == b[j - 1]) ? 0 : 1;
+                current[i] = Math.min(Math.min(current[i - 1] + 1, previous[i] + 1), previous[i - 1] + cost);
+            }
+
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+
+        return previous[a.length];
+    }
+
+    /**
+     * Folds the case of each character, this mirrors
+     * {@link String#equalsIgnoreCase(String)}.
+     */
+    private static char[] fold(CharSequence word) {
+        char[] folded = new char[word.length()];
+
+        for (int i = 0; i < folded.length; i++) {
+            folded[i] = Character.toLowerCase(Character.toUpperCase(word.charAt(i)));
+        }
+
+        return folded;
+    }
+
+    /**
+     * Node in the tree, children are keyed by their distance to this node.
+     */
+    private final class Node {
+
+        private final String word;
+        private final char[] folded;
+        private final int ordinal;
+        private int[] distances = new int[0];
+        private Node[] children = new Node[0];
+
+        private Node(String word, char[] folded) {
+            this.word = word;
+            this.folded = folded;
+            this.ordinal = size;
+        }
+
+        private Node getChild(int distance) {
+            for (int i = 0; i < distances.length; i++) {
+                if (distances[i] == distance) {
+                    return children[i];
+                }
+            }
+
+            return null;
+        }
+
+        private void addChild(int distance, Node child) {
+            int length = distances.length;
+            distances = Arrays.copyOf(distances, length + 1);
+            children = Arrays.copyOf(children, length + 1);
+            distances[length] = distance;
+            children[length] = child;
+        }
+    }
+}
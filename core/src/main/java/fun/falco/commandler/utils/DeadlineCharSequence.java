@@ -0,0 +1,99 @@
+/*
+ * Copyright 2019-2025 Seth Falco and Commandler Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package fun.falco.commandler.utils;
+
+import java.util.Objects;
+
+/**
+ * Wraps a {@link CharSequence} so that reading it after a deadline throws
+ * an exception. This can be passed to {@link java.util.regex.Pattern#matcher(CharSequence)}
+ * to abort a regular expression that's taking too long, as the regex engine
+ * reads the input again on every backtrack.
+ *
+ * <p>The clock is only checked every so many reads, so the deadline may be
+ * overrun slightly.</p>
+ *
+ * @author seth@falco.fun (Seth Falco)
+ * @since 4.1.0
+ */
+public class DeadlineCharSequence implements CharSequence {
+
+    /** Number of reads between each check of the clock. */
+    private static final int CHECK_INTERVAL = 1024;
+
+    private final CharSequence delegate;
+
+    /** Value of {@link System#nanoTime()} after which reads will fail. */
+    private final long deadline;
+
+    private int reads;
+
+    /**
+     * @param delegate Text to wrap.
+     * @param timeoutNanos Time in nanoseconds from now until reads will fail.
+     */
+    public DeadlineCharSequence(CharSequence delegate, long timeoutNanos) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.deadline = System.nanoTime() + timeoutNanos;
+    }
+
+    /**
+     * @throws DeadlineExceededException If the deadline has passed.
+     */
+    @Override
+    public char charAt(int index) {
+        if (++reads >= CHECK_INTERVAL) {
+            reads = 0;
+
+            if (System.nanoTime() - deadline > 0) {
+                throw new DeadlineExceededException();
+            }
+        }
+
+        return delegate.charAt(index);
+    }
+
+    @Override
+    public int length() {
+        return delegate.length();
+    }
+
+    /**
+     * @return Subsequence of the original text, which has no deadline.
+     */
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return delegate.subSequence(start, end);
+    }
+
+    @Override
+    public String toString() {
+        return delegate.toString();
+    }
+
+    /**
+     * Thrown when a {@link DeadlineCharSequence} is read after the deadline.
+     */
+    public static class DeadlineExceededException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        public DeadlineExceededException() {
+            super("Deadline exceeded while reading text.", null, false, false);
+        }
+    }
+}
@@ -0,0 +1,283 @@
+/*
+ * Copyright 2019-2025 Seth Falco and Commandler Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package fun.falco.commandler.utils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Character trie that maps strings to values, optionally ignoring case.
+ *
+ * <p>Lookups walk the characters of the key directly, so a region of a larger
+ * {@link CharSequence} can be looked up without creating a substring. When
+ * ignoring case, two keys are considered equal under the same rules as
+ * {@link String#equalsIgnoreCase(String)}.</p>
+ *
+ * <p>This is not thread-safe while it's being populated, but it's safe to share
+ * between threads once it's no longer modified.</p>
+ *
+ * @author seth@falco.fun (Seth Falco)
+ * @param <V> Type of value stored against each key.
+ * @since 4.1.0
+ */
+public class Trie<V> {
+
+    private final boolean ignoreCase;
+    private final Node<V> root;
+    private int size;
+
+    /**
+     * Create a case-sensitive trie.
+     */
+    public Trie() {
+        this(false);
+    }
+
+    /**
+     * @param ignoreCase If keys should be matched regardless of case.
+     */
+    public Trie(boolean ignoreCase) {
+        this.ignoreCase = ignoreCase;
+        this.root = new Node<>();
+    }
+
+    /**
+     * @param key Key to map the value against.
+     * @param value Value to store, can't be null.
+     * @return Value previously mapped to this key, or null if there was none.
+     */
+    public V put(CharSequence key, V value) {
+        Objects.requireNonNull(value);
+        Node<V> node = getOrCreateNode(key);
+        V previous = node.value;
+        node.value = value;
+
+        if (previous == null) {
+            size++;
+        }
+
+        return previous;
+    }
+
+    /**
+     * @param key Key to map the value against.
+     * @param value Value to store if no value is mapped yet, can't be null.
+     * @return Value currently mapped to this key, or null if there was none.
+     */
+    public V putIfAbsent(CharSequence key, V value) {
+        Objects.requireNonNull(value);
+        Node<V> node = getOrCreateNode(key);
+
+        if (node.value != null) {
+            return node.value;
+        }
+
+        node.value = value;
+        size++;
+        return null;
+    }
+
+    /**
+     * @param key Key to look up.
+     * @return Value mapped to the key, or null if there is none.
+     */
+    public V get(CharSequence key) {
+        return get(key, 0, key.length());
+    }
+
+    /**
+     * Look up a region of a character sequence as the key.
+     *
+     * @param text Text containing the key.
+     * @param start Index of the first character of the key, inclusive.
+     * @param end Index after the last character of the key, exclusive.
+     * @return Value mapped to the key, or null if there is none.
+     */
+    public V get(CharSequence text, int start, int end) {
+        Objects.checkFromToIndex(start, end, text.length());
+        Node<V> node = root;
+
+        for (int i = start; i < end && node != null; i++) {
+            node = node.getChild(fold(text.charAt(i)));
+        }
+
+        return (node != null) ? node.value : null;
+    }
+
+    /**
+     * Find the longest key that the region of text starts with.
+     *
+     * @param text Text that may start with a key.
+     * @param start Index to start matching from, inclusive.
+     * @param end Index to stop matching at, exclusive.
+     * @return Value mapped to the longest matching key, or null if no key matches.
+     */
+    public V getLongestPrefix(CharSequence text, int start, int end) {
+        Objects.checkFromToIndex(start, end, text.length());
+        Node<V> node = root;
+        V longest = root.value;
+
+        for (int i = start; i < end; i++) {
+            node = node.getChild(fold(text.charAt(i)));
+
+            if (node == null) {
+                break;
+            }
+
+            if (node.value != null) {
+                longest = node.value;
+            }
+        }
+
+        return longest;
+    }
+
+    /**
+     * Find the values of keys that start with the region of text, shortest
+     * keys first, and then ordered by their characters.
+     *
+     * @param text Text containing the start of the keys.
+     * @param start Index of the first character, inclusive.
+     * @param end Index after the last character, exclusive.
+     * @param limit Maximum number of values to return.
+     * @return Values mapped to keys that start with the region of text.
+     */
+    public List<V> getByPrefix(CharSequence text, int start, int end, int limit) {
+        Objects.checkFromToIndex(start, end, text.length());
+        Node<V> node = root;
+
+        for (int i = start; i < end && node != null; i++) {
+            node = node.getChild(fold(text.charAt(i)));
+        }
+
+        if (node == null || limit <= 0) {
+            return List.of();
+        }
+
+        List<V> values = new ArrayList<>(Math.min(limit, size));
+        Deque<Node<V>> pending = new ArrayDeque<>();
+        pending.add(node);
+
+        while (!pending.isEmpty()) {
+            Node<V> current = pending.poll();
+
+            if (current.value != null) {
+                values.add(current.value);
+
+                if (values.size() == limit) {
+                    break;
+                }
+            }
+
+            if (current.children != null) {
+                pending.addAll(Arrays.asList(current.children));
+            }
+        }
+
+        return values;
+    }
+
+    public boolean isIgnoreCase() {
+        return ignoreCase;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private Node<V> getOrCreateNode(CharSequence key) {
+        Node<V> node = root;
+
+        for (int i = 0; i < key.length(); i++) {
+            node = node.getOrCreateChild(fold(key.charAt(i)));
+        }
+
+        return node;
+    }
+
+    /**
+     * Folds the case of a character, two characters are equal regardless of
+     * case if they fold to the same character. This mirrors
+     * {@link String#equalsIgnoreCase(String)}.
+     */
+    private char fold(char c) {
+        if (!ignoreCase) {
+            return c;
+        }
+
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    /**
+     * Node in the trie, children are stored in parallel arrays sorted by
+     * character to keep the footprint small.
+     */
+    private static final class Node<V> {
+
+        private static final char[] NO_KEYS = new char[0];
+
+        private char[] keys = NO_KEYS;
+        private Node<V>[] children;
+        private V value;
+
+        private Node<V> getChild(char c) {
+            int index = Arrays.binarySearch(keys, c);
+            return (index >= 0) ? children[index] : null;
+        }
+
+        private Node<V> getOrCreateChild(char c) {
+            int index = Arrays.binarySearch(keys, c);
+
+            if (index >= 0) {
+                return children[index];
+            }
+
+            int insertAt = -index - 1;
+            int length = keys.length;
+            char[] newKeys = new char[length + 1];
+            Node<V>[] newChildren = newArray(length + 1);
+
+            System.arraycopy(keys, 0, newKeys, 0, insertAt);
+            System.arraycopy(keys, insertAt, newKeys, insertAt + 1, length - insertAt);
+            newKeys[insertAt] = c;
+
+            if (children != null) {
+                System.arraycopy(children, 0, newChildren, 0, insertAt);
+                System.arraycopy(children, insertAt, newChildren, insertAt + 1, length - insertAt);
+            }
+
+            Node<V> child = new Node<>();
+            newChildren[insertAt] = child;
+            keys = newKeys;
+            children = newChildren;
+            return child;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <V> Node<V>[] newArray(int length) {
+            return (Node<V>[]) new Node<?>[length];
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2019-2025 Seth Falco and Commandler Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package fun.falco.commandler;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import javax.annotation.Priority;
+import javax.enterprise.event.Observes;
+import javax.enterprise.inject.Alternative;
+import javax.enterprise.inject.spi.Extension;
+import javax.enterprise.inject.spi.ProcessAnnotatedType;
+import javax.interceptor.Interceptor;
+
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import fun.falco.commandler.annotation.stereotypes.ParamAdapter;
+import fun.falco.commandler.api.Adapter;
+import fun.falco.commandler.dispatchers.standard.StandardCommand;
+import fun.falco.commandler.dispatchers.standard.StandardController;
+import fun.falco.commandler.event.ActionEvent;
+import fun.falco.commandler.fixtures.UtilityController;
+import fun.falco.commandler.metadata.MetaParam;
+
+/**
+ * @author seth@falco.fun (Seth Falco)
+ */
+public class CommandlerExtensionTest {
+
+    private static WeldContainer container;
+    private static CommandlerExtension extension;
+
+    @BeforeAll
+    public static void beforeAll() {
+        container = new Weld()
+            .addBeanClasses(UtilityController.class, VetoedController.class, DisabledAdapter.class)
+            .addExtension(new VetoExtension())
+            .initialize();
+
+        extension = container.select(CommandlerExtension.class).get();
+    }
+
+    @AfterAll
+    public static void afterAll() {
+        container.close();
+    }
+
+    @Test
+    public void testVetoedController() {
+        assertAll("Check controllers that are vetoed after they're discovered are ignored.",
+            () -> assertTrue(extension.getMetaControllers().stream().anyMatch((metaController) -> metaController.getControllerType() == UtilityController.class)),
+            () -> assertFalse(extension.getMetaControllers().stream().anyMatch((metaController) -> metaController.getControllerType() == VetoedController.class))
+        );
+    }
+
+    @Test
+    public void testDisabledAlternative() {
+        assertFalse(extension.getMetaAdapters().stream().anyMatch((metaAdapter) -> metaAdapter.getAdapterType() == DisabledAdapter.class));
+    }
+
+    @StandardController
+    public static class VetoedController {
+
+        @StandardCommand
+        public String vetoed() {
+            return "vetoed";
+        }
+    }
+
+    @Alternative
+    @ParamAdapter(String.class)
+    public static class DisabledAdapter implements Adapter<String> {
+
+        @Override
+        public String adapt(String input, Class<? extends String> type, MetaParam metaParam, ActionEvent<?, ?> event) {
+            return "disabled";
+        }
+    }
+
+    /** Vetoes the controller after the CommandlerExtension has seen it. */
+    public static class VetoExtension implements Extension {
+
+        public void veto(@Observes @Priority(Interceptor.Priority.LIBRARY_AFTER) final ProcessAnnotatedType<VetoedController> processAnnotatedType) {
+            processAnnotatedType.veto();
+        }
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2019-2025 Seth Falco and Commandler Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package fun.falco.commandler;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.annotation.PostConstruct;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import fun.falco.commandler.annotation.Param;
+import fun.falco.commandler.annotation.stereotypes.MessageProvider;
+import fun.falco.commandler.annotation.stereotypes.ParamAdapter;
+import fun.falco.commandler.api.Adapter;
+import fun.falco.commandler.api.Messenger;
+import fun.falco.commandler.dispatchers.standard.StandardCommand;
+import fun.falco.commandler.dispatchers.standard.StandardController;
+import fun.falco.commandler.dispatchers.standard.StandardDispatcher;
+import fun.falco.commandler.event.ActionEvent;
+import fun.falco.commandler.event.WarmupEvent;
+import fun.falco.commandler.fixtures.TestIntegration;
+import fun.falco.commandler.metadata.MetaParam;
+
+/**
+ * @author seth@falco.fun (Seth Falco)
+ */
+public class CommandlerWarmupTest {
+
+    private static final String ENABLED = "commandler.warmup.enabled";
+    private static final String CACHE_SIZE = "commandler.standard-dispatcher.cache-size";
+
+    /** What happened in the container, in order. */
+    private static final List<String> events = new CopyOnWriteArrayList<>();
+
+    private WeldContainer container;
+
+    @BeforeEach
+    public void beforeEach() {
+        events.clear();
+        System.setProperty(CACHE_SIZE, "16");
+    }
+
+    @AfterEach
+    public void afterEach() {
+        container.close();
+        System.clearProperty(ENABLED);
+        System.clearProperty(CACHE_SIZE);
+    }
+
+    @Test
+    public void testDisabled() {
+        System.setProperty(ENABLED, "false");
+        run();
+
+        StandardDispatcher dispatcher = container.select(StandardDispatcher.class).get();
+
+        assertAll("Check nothing is warmed up if warming up is disabled.",
+            () -> assertEquals(List.of("init"), events),
+            () -> assertTrue(dispatcher.getIndexedLocales().isEmpty())
+        );
+    }
+
+    @Test
+    public void testEnabled() {
+        System.setProperty(ENABLED, "true");
+        run();
+
+        StandardDispatcher dispatcher = container.select(StandardDispatcher.class).get();
+
+        assertAll("Check commands are routed and adapted, but not performed, before the integration is initialized.",
+            () -> assertEquals(List.of("adapter", "messenger", "warmup", "adapt 0", "init"), events),
+            () -> assertFalse(dispatcher.getIndexedLocales().isEmpty()),
+            () -> assertEquals(0, dispatcher.getCache().size())
+        );
+    }
+
+    private void run() {
+        container = new Weld()
+            .addBeanClasses(WarmController.class, TokenAdapter.class, TokenMessenger.class, InitIntegration.class, WarmupObserver.class)
+            .initialize();
+
+        container.select(Commandler.class).get().run();
+    }
+
+    public static final class Token {
+
+    }
+
+    @StandardController("warm")
+    public static class WarmController {
+
+        @StandardCommand("get")
+        public Token get(@Param Token token) {
+            events.add("get");
+            return token;
+        }
+    }
+
+    @ParamAdapter(Token.class)
+    public static class TokenAdapter implements Adapter<Token> {
+
+        @PostConstruct
+        public void postConstruct() {
+            events.add("adapter");
+        }
+
+        @Override
+        public Token adapt(String input, Class<? extends Token> type, MetaParam metaParam, ActionEvent<?, ?> event) {
+            events.add("adapt " + input);
+            return new Token();
+        }
+    }
+
+    @MessageProvider(provides = String.class, value = Token.class)
+    public static class TokenMessenger implements Messenger<Token, String> {
+
+        @PostConstruct
+        public void postConstruct() {
+            events.add("messenger");
+        }
+
+        @Override
+        public String provide(ActionEvent<?, String> event, Token output) {
+            return "token";
+        }
+    }
+
+    public static class InitIntegration extends TestIntegration {
+
+        @Override
+        public void init() {
+            events.add("init");
+        }
+    }
+
+    @ApplicationScoped
+    public static class WarmupObserver {
+
+        public void onWarmup(@Observes WarmupEvent event) {
+            events.add("warmup");
+        }
+    }
+}
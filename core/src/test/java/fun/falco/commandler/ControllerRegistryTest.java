@@ -0,0 +1,221 @@
+/*
+ * Copyright 2019-2025 Seth Falco and Commandler Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package fun.falco.commandler;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import fun.falco.commandler.annotation.Param;
+import fun.falco.commandler.annotation.stereotypes.ParamAdapter;
+import fun.falco.commandler.api.Adapter;
+import fun.falco.commandler.dispatchers.match.MatchCommand;
+import fun.falco.commandler.dispatchers.match.MatchDispatcher;
+import fun.falco.commandler.dispatchers.standard.StandardCommand;
+import fun.falco.commandler.dispatchers.standard.StandardController;
+import fun.falco.commandler.dispatchers.standard.StandardDispatcher;
+import fun.falco.commandler.dispatchers.standard.StandardDispatcherCache;
+import fun.falco.commandler.event.ActionEvent;
+import fun.falco.commandler.event.Request;
+import fun.falco.commandler.exceptions.misuse.ModuleNotFoundException;
+import fun.falco.commandler.fixtures.TestIntegration;
+import fun.falco.commandler.managers.AdapterManager;
+import fun.falco.commandler.metadata.MetaController;
+import fun.falco.commandler.metadata.MetaParam;
+
+/**
+ * @author seth@falco.fun (Seth Falco)
+ */
+public class ControllerRegistryTest {
+
+    private static final String CACHE_SIZE = "commandler.standard-dispatcher.cache-size";
+    private static final String I18N_CACHE = "commandler.i18n.cache";
+
+    private WeldContainer container;
+    private ControllerRegistry registry;
+    private CommandlerExtension extension;
+    private StandardDispatcher standardDispatcher;
+    private MatchDispatcher matchDispatcher;
+    private TestIntegration integration;
+
+    @BeforeEach
+    public void beforeEach() {
+        System.setProperty(CACHE_SIZE, "16");
+        System.setProperty(I18N_CACHE, "true");
+
+        container = new Weld()
+            .addBeanClasses(FirstController.class, SecondController.class, TokenAdapter.class, TestIntegration.class)
+            .initialize();
+
+        registry = container.select(ControllerRegistry.class).get();
+        extension = container.select(CommandlerExtension.class).get();
+        standardDispatcher = container.select(StandardDispatcher.class).get();
+        matchDispatcher = container.select(MatchDispatcher.class).get();
+        integration = container.select(TestIntegration.class).get();
+    }
+
+    @AfterEach
+    public void afterEach() {
+        container.close();
+        System.clearProperty(CACHE_SIZE);
+        System.clearProperty(I18N_CACHE);
+    }
+
+    @Test
+    public void testUnregister() {
+        standardDispatcher.parse(request("$second pong token"));
+        Locale locale = standardDispatcher.getIndexedLocales().iterator().next();
+
+        boolean removed = registry.unregister(SecondController.class);
+
+        assertAll("Check an unregistered controller can't be routed to by either dispatcher.",
+            () -> assertTrue(removed),
+            () -> assertFalse(registry.unregister(SecondController.class)),
+            () -> assertEquals(Set.of(FirstController.class), getControllerTypes()),
+            () -> assertEquals(0, standardDispatcher.getCache().size()),
+            () -> assertEquals(List.of(locale), List.copyOf(standardDispatcher.getIndexedLocales())),
+            () -> assertNull(standardDispatcher.getIndex(locale).getController("second")),
+            () -> assertThrows(ModuleNotFoundException.class, () -> standardDispatcher.parse(request("$second pong token"))),
+            () -> assertNull(matchDispatcher.parse(request("pong token")))
+        );
+    }
+
+    @Test
+    public void testRegister() throws ReflectiveOperationException {
+        registry.unregister(SecondController.class);
+        standardDispatcher.parse(request("$first ping"));
+        StandardDispatcherCache cache = standardDispatcher.getCache();
+
+        MetaController metaController = registry.register(SecondController.class);
+        ActionEvent<String, String> event = standardDispatcher.parse(request("$second pong token"));
+
+        assertAll("Check a registered controller is routed to, and its parameters adapted.",
+            () -> assertEquals(Set.of(FirstController.class, SecondController.class), getControllerTypes()),
+            () -> assertNotSame(cache, standardDispatcher.getCache()),
+            () -> assertEquals(metaController, event.getMetaController()),
+            () -> assertEquals("token", ((Token)container.select(AdapterManager.class).get().adaptEvent(event)[0]).value),
+            () -> assertEquals(metaController, matchDispatcher.parse(request("pong token")).getMetaController())
+        );
+    }
+
+    @Test
+    public void testRegisterReplaces() throws ReflectiveOperationException {
+        MetaController previous = getMetaController(SecondController.class);
+        MetaController metaController = registry.register(SecondController.class);
+
+        assertAll("Check registering a controller again replaces it in place.",
+            () -> assertNotSame(previous, metaController),
+            () -> assertEquals(Set.of(FirstController.class, SecondController.class), getControllerTypes()),
+            () -> assertEquals(metaController, standardDispatcher.parse(request("$second pong token")).getMetaController())
+        );
+    }
+
+    @Test
+    public void testRegisterNotController() {
+        assertThrows(IllegalArgumentException.class, () -> registry.register(Token.class));
+    }
+
+    @Test
+    public void testReplace() {
+        MetaController first = getMetaController(FirstController.class);
+        standardDispatcher.parse(request("$first ping"));
+
+        registry.replace(List.of());
+
+        assertAll("Check replacing the controllers removes every route.",
+            () -> assertTrue(extension.getMetaControllers().isEmpty()),
+            () -> assertThrows(ModuleNotFoundException.class, () -> standardDispatcher.parse(request("$first ping"))),
+            () -> assertNull(matchDispatcher.parse(request("pong token")))
+        );
+
+        registry.replace(List.of(first));
+
+        assertAll("Check replacing the controllers again restores the routes.",
+            () -> assertEquals(Set.of(FirstController.class), getControllerTypes()),
+            () -> assertEquals(first, standardDispatcher.parse(request("$first ping")).getMetaController())
+        );
+    }
+
+    private Set<Class<?>> getControllerTypes() {
+        return extension.getMetaControllers().stream()
+            .map(MetaController::getControllerType)
+            .collect(Collectors.toSet());
+    }
+
+    private MetaController getMetaController(Class<?> type) {
+        return extension.getMetaControllers().stream()
+            .filter((metaController) -> metaController.getControllerType() == type)
+            .findFirst()
+            .orElseThrow();
+    }
+
+    private Request<String, String> request(String content) {
+        return new Request<>(integration, "source", content, content);
+    }
+
+    public static final class Token {
+
+        private final String value;
+
+        public Token(String value) {
+            this.value = value;
+        }
+    }
+
+    @StandardController("first")
+    public static class FirstController {
+
+        @StandardCommand("ping")
+        public String ping() {
+            return "pong";
+        }
+    }
+
+    @StandardController("second")
+    public static class SecondController {
+
+        @StandardCommand("pong")
+        @MatchCommand("pong (\\w+)")
+        public String pong(@Param Token token) {
+            return "ping";
+        }
+    }
+
+    @ParamAdapter(Token.class)
+    public static class TokenAdapter implements Adapter<Token> {
+
+        @Override
+        public Token adapt(String input, Class<? extends Token> type, MetaParam metaParam, ActionEvent<?, ?> event) {
+            return new Token(input);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2019-2025 Seth Falco and Commandler Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package fun.falco.commandler;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import fun.falco.commandler.event.ControllersChangedEvent;
+import fun.falco.commandler.fixtures.TestControllers;
+import fun.falco.commandler.fixtures.TestIntegration;
+import fun.falco.commandler.fixtures.UtilityController;
+import fun.falco.commandler.metadata.MetaCommand;
+import fun.falco.commandler.metadata.MetaController;
+
+/**
+ * @author seth@falco.fun (Seth Falco)
+ */
+public class ToggleRegistryTest {
+
+    private ToggleRegistry toggles;
+    private MetaController metaController;
+    private MetaCommand ping;
+    private MetaCommand echo;
+
+    @BeforeEach
+    public void beforeEach() {
+        toggles = new ToggleRegistry();
+        metaController = TestControllers.convert(UtilityController.class);
+        ping = TestControllers.getCommand(metaController, "ping");
+        echo = TestControllers.getCommand(metaController, "echo");
+    }
+
+    @Test
+    public void testDisableCommand() {
+        toggles.setEnabled(ping, false);
+
+        assertAll("Check only the disabled command is disabled.",
+            () -> assertFalse(toggles.isEnabled(ping)),
+            () -> assertFalse(toggles.isEnabled(ping, new TestIntegration())),
+            () -> assertTrue(toggles.isEnabled(echo))
+        );
+    }
+
+    @Test
+    public void testDisableController() {
+        toggles.setEnabled(metaController, false);
+        toggles.setEnabled(echo, true);
+
+        assertAll("Check commands of a disabled controller can be enabled again.",
+            () -> assertFalse(toggles.isEnabled(ping)),
+            () -> assertTrue(toggles.isEnabled(echo))
+        );
+    }
+
+    @Test
+    public void testDisableOnIntegration() {
+        toggles.setEnabled(ping, new TestIntegration(), false);
+
+        assertAll("Check commands disabled on an integration are enabled elsewhere.",
+            () -> assertFalse(toggles.isEnabled(ping, new TestIntegration())),
+            () -> assertTrue(toggles.isEnabled(ping, new OtherIntegration())),
+            () -> assertTrue(toggles.isEnabled(ping))
+        );
+    }
+
+    @Test
+    public void testDisableOnProxy() {
+        try (WeldContainer container = new Weld().disableDiscovery().addBeanClasses(TestIntegration.class).initialize()) {
+            TestIntegration proxy = container.select(TestIntegration.class).get();
+            toggles.setEnabled(ping, proxy, false);
+
+            assertAll("Check commands disabled through a client proxy are disabled on the integration.",
+                () -> assertFalse(TestIntegration.class == proxy.getClass()),
+                () -> assertFalse(toggles.isEnabled(ping, proxy.self())),
+                () -> assertTrue(toggles.isEnabled(ping, new OtherIntegration()))
+            );
+        }
+    }
+
+    @Test
+    public void testDistantOrdinals() {
+        MetaCommand replacement = ping;
+
+        for (int i = 0; i < 256; i++) {
+            replacement = TestControllers.getCommand(TestControllers.convert(UtilityController.class), "ping");
+        }
+
+        MetaCommand distant = replacement;
+        toggles.setEnabled(echo, false);
+        toggles.setEnabled(distant, false);
+        toggles.setEnabled(echo, true);
+
+        assertAll("Check commands far apart can be disabled and enabled independently.",
+            () -> assertTrue(toggles.isEnabled(echo)),
+            () -> assertTrue(toggles.isEnabled(ping)),
+            () -> assertFalse(toggles.isEnabled(distant))
+        );
+    }
+
+    @Test
+    public void testRemovedController() {
+        toggles.setEnabled(metaController, false);
+        toggles.setEnabled(echo, new TestIntegration(), false);
+        toggles.onControllersChanged(new ControllersChangedEvent(List.of(metaController), List.of()));
+
+        assertAll("Check commands of a removed controller are forgotten.",
+            () -> assertTrue(toggles.isEnabled(ping)),
+            () -> assertTrue(toggles.isEnabled(echo, new TestIntegration()))
+        );
+    }
+
+    @Test
+    public void testReset() {
+        toggles.setEnabled(metaController, false);
+        toggles.reset();
+
+        assertTrue(toggles.isEnabled(ping));
+    }
+
+    public static class OtherIntegration extends TestIntegration {
+
+    }
+}
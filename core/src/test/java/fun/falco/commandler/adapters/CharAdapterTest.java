@@ -19,6 +19,7 @@ package fun.falco.commandler.adapters;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -54,6 +55,15 @@ public class CharAdapterTest {
         );
     }
 
+    @Test
+    public void testPrimitive() {
+        assertAll("Check characters are adapted without boxing the same way.",
+            () -> assertEquals('A', adapter.adaptChar("A")),
+            () -> assertEquals('z', adapter.adaptChar("122")),
+            () -> assertThrows(IllegalArgumentException.class, () -> adapter.adaptChar("invalid"))
+        );
+    }
+
     @ParameterizedTest
     @ValueSource(strings = {"128", "invalid", "can't be done"})
     public void testNull(String value) {
@@ -16,6 +16,7 @@
 
 package fun.falco.commandler.adapters;
 
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
@@ -95,6 +96,17 @@ public class LocaleAdapterTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    public void findLocaleIgnoringCase() {
+        LocaleAdapter adapter = new LocaleAdapter(Locale.US);
+
+        assertAll("Check locales are found regardless of case.",
+            () -> assertEquals(Locale.ENGLISH, adapter.adapt("ENGLISH")),
+            () -> assertEquals(Locale.FRANCE, adapter.adapt("FR_fr")),
+            () -> assertEquals(Locale.FRENCH, adapter.adapt("FRANÇAIS"))
+        );
+    }
+
     @ParameterizedTest
     @ValueSource(strings = {"invalid", "this place doesn't exist", "en-nou"})
     public void testNull(String value) {
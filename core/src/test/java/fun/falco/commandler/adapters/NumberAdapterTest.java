@@ -23,6 +23,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.math.BigDecimal;
 import java.text.NumberFormat;
+import java.util.List;
 import java.util.Locale;
 
 import org.junit.jupiter.api.Test;
@@ -120,6 +121,50 @@ public class NumberAdapterTest {
         assertEquals(expected, actual);
     }
 
+    /** Checks the fast path always parses the same as the {@link NumberFormat}. */
+    @Test
+    public void testFastPathMatchesFormat() {
+        List<String> inputs = List.of(
+            "0", "-0", "7", "-7", "007", "127", "128", "-128", "-129", "32767", "32768",
+            "2147483647", "2147483648", "-2147483648", "-2147483649", "3000000000",
+            "9223372036854775807", "9223372036854775808", "-9223372036854775808", "-9223372036854775809",
+            "1,000", "1,2,3", "1.000", "1.000,5", "1,000.5", "20.000,456", "1 000", "1" + (char) 0x202F + "000",
+            "3.1415", "3,1415", "0.1", "-0.1", "-0.0", "1.5", "1.", ".5", ",5", "1,", "1,,0", "1.2.3",
+            "9007199254740993", "0.30000000000000004", "1.23456789012345678901234", "12e3",
+            "+5", "--5", "-", "", " 5", "5 ", String.valueOf((char) 0x0665), (char) 0x2212 + "5", "abc"
+        );
+
+        List<Class<? extends Number>> types = List.of(Long.class, Integer.class, Short.class, Byte.class, Double.class, Float.class);
+
+        for (Locale locale : List.of(Locale.US, Locale.ITALY, Locale.FRANCE, Locale.GERMANY, new Locale("de", "CH"), Locale.forLanguageTag("ar-EG"))) {
+            NumberAdapter fast = new NumberAdapter(NumberFormat.getInstance(locale), true);
+            NumberAdapter slow = new NumberAdapter(NumberFormat.getInstance(locale), false);
+
+            for (String input : inputs) {
+                for (Class<? extends Number> type : types) {
+                    assertEquals(slow.adapt(input, type), fast.adapt(input, type), () -> input + " as " + type.getSimpleName() + " in " + locale);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testPrimitives() {
+        NumberAdapter adapter = new NumberAdapter(NumberFormat.getInstance(Locale.UK));
+
+        assertAll("Check numbers are adapted without boxing the same way.",
+            () -> assertEquals(-1234345, adapter.adaptInt("-1,234,345")),
+            () -> assertEquals(2647039049039L, adapter.adaptLong("2647039049039")),
+            () -> assertEquals((short) 420, adapter.adaptShort("420")),
+            () -> assertEquals((byte) 3, adapter.adaptByte("3")),
+            () -> assertEquals(20000.456, adapter.adaptDouble("20,000.456")),
+            () -> assertEquals(3.1415f, adapter.adaptFloat("3.1415")),
+            () -> assertEquals(adapter.adapt("3000000000", Integer.class), adapter.adaptInt("3000000000")),
+            () -> assertEquals(adapter.adapt("1.5", Integer.class), adapter.adaptInt("1.5")),
+            () -> assertThrows(NumberFormatException.class, () -> adapter.adaptInt("invalid"))
+        );
+    }
+
     @Test
     public void testInvalidType() {
         NumberAdapter adapter = new NumberAdapter();
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2019-2025 Seth Falco and Commandler Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package fun.falco.commandler.dispatchers;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import fun.falco.commandler.dispatchers.match.MatchPatternAnalyzer;
+
+/**
+ * @author seth@falco.fun (Seth Falco)
+ */
+public class MatchPatternAnalyzerTest {
+
+    @Test
+    public void testRequiredLiteral() {
+        assertAll("Check the longest required literal is found.",
+            () -> assertEquals("KG", MatchPatternAnalyzer.getRequiredLiteral("(?i)\\b([\\d,.]+)\\h*KG\\b")),
+            () -> assertEquals("hello world", MatchPatternAnalyzer.getRequiredLiteral("^hello world!?$")),
+            () -> assertEquals("xa.b", MatchPatternAnalyzer.getRequiredLiteral("x\\Qa.b\\E")),
+            () -> assertEquals("good", MatchPatternAnalyzer.getRequiredLiteral("goods?")),
+            () -> assertEquals("https://", MatchPatternAnalyzer.getRequiredLiteral("https://\\S+"))
+        );
+    }
+
+    @Test
+    public void testNoRequiredLiteral() {
+        assertAll("Check patterns that don't require a literal are recognized.",
+            () -> assertNull(MatchPatternAnalyzer.getRequiredLiteral("cat|dog")),
+            () -> assertNull(MatchPatternAnalyzer.getRequiredLiteral("\\d+")),
+            () -> assertNull(MatchPatternAnalyzer.getRequiredLiteral("(?x) a b c")),
+            () -> assertNull(MatchPatternAnalyzer.getRequiredLiteral("a?")),
+            () -> assertNull(MatchPatternAnalyzer.getRequiredLiteral("\\x41"))
+        );
+    }
+
+    @Test
+    public void testNestedQuantifiers() {
+        assertAll("Check repeated groups that contain repetition are reported.",
+            () -> assertTrue(MatchPatternAnalyzer.hasNestedQuantifier("(a+)+")),
+            () -> assertTrue(MatchPatternAnalyzer.hasNestedQuantifier("^(?:\\w+\\s?)*$")),
+            () -> assertTrue(MatchPatternAnalyzer.hasNestedQuantifier("((ab)*c)*")),
+            () -> assertTrue(MatchPatternAnalyzer.hasNestedQuantifier("(x(a*)b){2,}"))
+        );
+    }
+
+    @Test
+    public void testNoNestedQuantifiers() {
+        assertAll("Check patterns that can't backtrack catastrophically aren't reported.",
+            () -> assertFalse(MatchPatternAnalyzer.hasNestedQuantifier("(?i)\\b([\\d,.]+)\\h*(KG|LBS?)\\b")),
+            () -> assertFalse(MatchPatternAnalyzer.hasNestedQuantifier("(a+)?")),
+            () -> assertFalse(MatchPatternAnalyzer.hasNestedQuantifier("(?>a+)+")),
+            () -> assertFalse(MatchPatternAnalyzer.hasNestedQuantifier("(a+)++")),
+            () -> assertFalse(MatchPatternAnalyzer.hasNestedQuantifier("[(a+)]+")),
+            () -> assertFalse(MatchPatternAnalyzer.hasNestedQuantifier("\\(a+\\)+"))
+        );
+    }
+}
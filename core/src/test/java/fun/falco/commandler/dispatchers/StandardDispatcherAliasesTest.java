@@ -0,0 +1,191 @@
+/*
+ * Copyright 2019-2025 Seth Falco and Commandler Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package fun.falco.commandler.dispatchers;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+import java.util.ListResourceBundle;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import fun.falco.commandler.CommandlerExtension;
+import fun.falco.commandler.dispatchers.standard.StandardCommand;
+import fun.falco.commandler.dispatchers.standard.StandardController;
+import fun.falco.commandler.dispatchers.standard.StandardDispatcher;
+import fun.falco.commandler.dispatchers.standard.StandardDispatcherIndex;
+import fun.falco.commandler.event.ActionEvent;
+import fun.falco.commandler.event.Request;
+import fun.falco.commandler.fixtures.TestIntegration;
+import fun.falco.commandler.metadata.MetaController;
+
+/**
+ * @author seth@falco.fun (Seth Falco)
+ */
+public class StandardDispatcherAliasesTest {
+
+    private static final String MESSAGE_BUNDLES = "commandler.i18n.message-bundles";
+
+    private WeldContainer container;
+    private Locale defaultLocale;
+    private CommandlerExtension extension;
+    private StandardDispatcher dispatcher;
+    private TestIntegration integration;
+
+    @BeforeEach
+    public void beforeEach() {
+        defaultLocale = Locale.getDefault();
+        System.setProperty(MESSAGE_BUNDLES, AliasMessages.class.getName());
+
+        container = new Weld()
+            .addBeanClasses(MusicController.class, FirstUtilController.class, SecondUtilController.class, TestIntegration.class)
+            .initialize();
+
+        extension = container.select(CommandlerExtension.class).get();
+        dispatcher = container.select(StandardDispatcher.class).get();
+        integration = container.select(TestIntegration.class).get();
+    }
+
+    @AfterEach
+    public void afterEach() {
+        container.close();
+        Locale.setDefault(defaultLocale);
+        System.clearProperty(MESSAGE_BUNDLES);
+    }
+
+    @Test
+    public void testLocalizedAliases() {
+        StandardDispatcherIndex root = dispatcher.getIndex(Locale.ROOT);
+        StandardDispatcherIndex german = dispatcher.getIndex(Locale.GERMAN);
+
+        assertAll("Check aliases are indexed in the language of each locale.",
+            () -> assertEquals(MusicController.class, root.getController("music").getMetaController().getControllerType()),
+            () -> assertEquals("play", root.getController("music").getCommand("play").getMethod().getName()),
+            () -> assertNull(root.getController("musik")),
+            () -> assertEquals(MusicController.class, german.getController("musik").getMetaController().getControllerType()),
+            () -> assertEquals("play", german.getController("musik").getCommand("spielen").getMethod().getName()),
+            () -> assertNull(german.getController("music"))
+        );
+    }
+
+    @Test
+    public void testParseLocalizedAliases() {
+        Locale.setDefault(Locale.GERMAN);
+        ActionEvent<String, String> german = dispatcher.parse(request("$musik spielen"));
+
+        Locale.setDefault(Locale.ENGLISH);
+        ActionEvent<String, String> english = dispatcher.parse(request("$music play"));
+
+        assertAll("Check messages are routed with the aliases of the current locale.",
+            () -> assertEquals(MusicController.class, german.getMetaController().getControllerType()),
+            () -> assertEquals("play", german.getMetaCommand().getMethod().getName()),
+            () -> assertEquals(MusicController.class, english.getMetaController().getControllerType()),
+            () -> assertEquals("play", english.getMetaCommand().getMethod().getName()),
+            () -> assertEquals(Set.of(Locale.GERMAN, Locale.ENGLISH), dispatcher.getIndexedLocales())
+        );
+    }
+
+    @Test
+    public void testConflictingAliases() {
+        List<MetaController> utils = extension.getMetaControllers().stream()
+            .filter((metaController) -> metaController.getControllerType() != MusicController.class)
+            .collect(Collectors.toList());
+
+        MetaController first = utils.get(0);
+        MetaController last = utils.get(1);
+        StandardDispatcherIndex index = dispatcher.getIndex(Locale.ROOT);
+
+        assertAll("Check the first controller keeps a shared alias, and the last keeps a shared static command.",
+            () -> assertEquals(first, index.getController("util").getMetaController()),
+            () -> assertEquals(first, dispatcher.parse(request("$util who")).getMetaController()),
+            () -> assertEquals(last, index.getStaticCommand("ping").getMetaController()),
+            () -> assertEquals(last, dispatcher.parse(request("$ping")).getMetaController())
+        );
+    }
+
+    private Request<String, String> request(String content) {
+        return new Request<>(integration, "source", content, content);
+    }
+
+    @StandardController("{alias.music}")
+    public static class MusicController {
+
+        @StandardCommand("{alias.play}")
+        public String play() {
+            return "playing";
+        }
+    }
+
+    @StandardController("util")
+    public static class FirstUtilController {
+
+        @StandardCommand("who")
+        public String who() {
+            return "first";
+        }
+
+        @StandardCommand(value = "ping", isStatic = true)
+        public String ping() {
+            return "first";
+        }
+    }
+
+    @StandardController("util")
+    public static class SecondUtilController {
+
+        @StandardCommand("who")
+        public String who() {
+            return "second";
+        }
+
+        @StandardCommand(value = "ping", isStatic = true)
+        public String ping() {
+            return "second";
+        }
+    }
+
+    public static class AliasMessages extends ListResourceBundle {
+
+        @Override
+        protected Object[][] getContents() {
+            return new Object[][] {
+                {"alias.music", "music"},
+                {"alias.play", "play"}
+            };
+        }
+    }
+
+    public static class AliasMessages_de extends ListResourceBundle {
+
+        @Override
+        protected Object[][] getContents() {
+            return new Object[][] {
+                {"alias.music", "musik"},
+                {"alias.play", "spielen"}
+            };
+        }
+    }
+}
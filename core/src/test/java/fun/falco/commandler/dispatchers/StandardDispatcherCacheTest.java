@@ -0,0 +1,113 @@
+/*
+ * Copyright 2019-2025 Seth Falco and Commandler Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package fun.falco.commandler.dispatchers;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import fun.falco.commandler.dispatchers.standard.StandardDispatcherCache;
+import fun.falco.commandler.metadata.MetaCommand;
+import fun.falco.commandler.metadata.MetaController;
+
+/**
+ * @author seth@falco.fun (Seth Falco)
+ */
+public class StandardDispatcherCacheTest {
+
+    private static final MetaCommand META_COMMAND = new MetaCommand(Object.class.getMethods()[0], "test", null, false, Map.of(), List.of());
+
+    private static final MetaController META_CONTROLLER = new MetaController(Object.class, "test", "test", null, false, Map.of(), List.of(META_COMMAND));
+
+    @Test
+    public void testHitsAndMisses() {
+        StandardDispatcherCache cache = new StandardDispatcherCache(8);
+        StandardDispatcherCache.Key key = new StandardDispatcherCache.Key("!help", 1, "\\s+", Locale.ENGLISH);
+        StandardDispatcherCache.Entry entry = new StandardDispatcherCache.Entry(META_CONTROLLER, META_COMMAND, List.of());
+
+        assertNull(cache.get(key));
+        cache.put(key, entry);
+
+        assertAll("Check cached entries are returned and counted.",
+            () -> assertSame(META_COMMAND, cache.get(new StandardDispatcherCache.Key("!help", 1, "\\s+", Locale.ENGLISH)).getMetaCommand()),
+            () -> assertNull(cache.get(new StandardDispatcherCache.Key("!help", 1, "\\s+", Locale.FRENCH))),
+            () -> assertNull(cache.get(new StandardDispatcherCache.Key("!help", 1, ",", Locale.ENGLISH))),
+            () -> assertEquals(1, cache.getHits()),
+            () -> assertEquals(3, cache.getMisses())
+        );
+    }
+
+    @Test
+    public void testOldestEntriesAreEvicted() {
+        StandardDispatcherCache cache = new StandardDispatcherCache(2);
+        StandardDispatcherCache.Entry entry = new StandardDispatcherCache.Entry(META_CONTROLLER, META_COMMAND, List.of());
+
+        for (int i = 0; i < 3; i++) {
+            cache.put(new StandardDispatcherCache.Key("!help " + i, 1, "\\s+", Locale.ENGLISH), entry);
+        }
+
+        assertAll("Check the cache doesn't grow beyond its maximum size.",
+            () -> assertEquals(2, cache.size()),
+            () -> assertNull(cache.get(new StandardDispatcherCache.Key("!help 0", 1, "\\s+", Locale.ENGLISH))),
+            () -> assertNotNull(cache.get(new StandardDispatcherCache.Key("!help 2", 1, "\\s+", Locale.ENGLISH)))
+        );
+    }
+
+    @Test
+    public void testEntryParametersAreNotCopied() {
+        List<List<String>> parameters = new ArrayList<>(List.of(new ArrayList<>(List.of("a"))));
+        StandardDispatcherCache.Entry entry = new StandardDispatcherCache.Entry(META_CONTROLLER, META_COMMAND, parameters);
+
+        assertSame(parameters, entry.getParameters());
+    }
+
+    @Test
+    public void testCachedParametersAreCopied() {
+        StandardDispatcherCache cache = new StandardDispatcherCache(8);
+        StandardDispatcherCache.Key key = new StandardDispatcherCache.Key("!help a", 1, "\\s+", Locale.ENGLISH);
+        List<String> param = new ArrayList<>(List.of("a"));
+        List<List<String>> parameters = new ArrayList<>(List.of(param));
+        cache.put(key, new StandardDispatcherCache.Entry(META_CONTROLLER, META_COMMAND, parameters));
+        param.add("b");
+        parameters.clear();
+
+        StandardDispatcherCache.Entry cached = cache.get(key);
+        List<List<String>> copy = cached.copyParameters();
+        copy.get(0).add("c");
+
+        assertAll("Check cached parameters can't be modified, but copies of them can.",
+            () -> assertEquals(List.of(List.of("a")), cached.getParameters()),
+            () -> assertThrows(UnsupportedOperationException.class, () -> cached.getParameters().get(0).add("c")),
+            () -> assertEquals(List.of(List.of("a", "c")), copy)
+        );
+    }
+
+    @Test
+    public void testInvalidMaxSize() {
+        assertThrows(IllegalArgumentException.class, () -> new StandardDispatcherCache(0));
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2019-2025 Seth Falco and Commandler Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package fun.falco.commandler.dispatchers;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import fun.falco.commandler.dispatchers.standard.StandardDispatcherCompleter;
+import fun.falco.commandler.fixtures.MusicController;
+import fun.falco.commandler.fixtures.UtilityController;
+
+/**
+ * @author seth@falco.fun (Seth Falco)
+ */
+public class StandardDispatcherCompleterTest {
+
+    private static WeldContainer container;
+    private static StandardDispatcherCompleter completer;
+
+    @BeforeAll
+    public static void beforeAll() {
+        container = new Weld().addBeanClasses(MusicController.class, UtilityController.class).initialize();
+        completer = container.select(StandardDispatcherCompleter.class).get();
+    }
+
+    @AfterAll
+    public static void afterAll() {
+        container.close();
+    }
+
+    @Test
+    public void testCompleteController() {
+        assertAll("Check controllers and static commands are completed from a prefix.",
+            () -> assertEquals(List.of("music"), completer.complete("mu", 10)),
+            () -> assertEquals(List.of("music"), completer.complete("MU", 10)),
+            () -> assertEquals(List.of("ping"), completer.complete("pi", 10)),
+            () -> assertEquals(List.of("  util"), completer.complete("  ut", 10))
+        );
+    }
+
+    @Test
+    public void testCompleteCommand() {
+        assertAll("Check commands are completed shortest first, without hidden commands.",
+            () -> assertEquals(List.of("music play", "music playlist"), completer.complete("music pl", 10)),
+            () -> assertEquals(List.of("music play"), completer.complete("music pl", 1)),
+            () -> assertEquals(List.of("music pause"), completer.complete("music pa", 10)),
+            () -> assertEquals(List.of("util echo", "util ping"), completer.complete("util ", 10))
+        );
+    }
+
+    @Test
+    public void testNoCompletions() {
+        assertAll("Check nothing is completed if nothing matches.",
+            () -> assertEquals(List.of(), completer.complete("xyz", 10)),
+            () -> assertEquals(List.of(), completer.complete("xyz pl", 10)),
+            () -> assertEquals(List.of(), completer.complete("music xyz", 10)),
+            () -> assertEquals(List.of(), completer.complete("music play loud", 10)),
+            () -> assertEquals(List.of(), completer.complete("mu", 0))
+        );
+    }
+}
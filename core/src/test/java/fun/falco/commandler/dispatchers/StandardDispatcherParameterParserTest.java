@@ -17,6 +17,7 @@
 package fun.falco.commandler.dispatchers;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.List;
 
@@ -25,6 +26,7 @@ import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
 
 import fun.falco.commandler.dispatchers.standard.StandardDispatcherParameterParser;
+import fun.falco.commandler.exceptions.misuse.ParamLimitException;
 
 /**
  * @author seth@falco.fun (Seth Falco)
@@ -188,4 +190,43 @@ public class StandardDispatcherParameterParserTest {
 
         assertEquals(expected, actual);
     }
+
+    @Test
+    public void testLargeInputWithUnclosedQuote() {
+        StandardDispatcherParameterParser parser = new StandardDispatcherParameterParser(-1, -1);
+        String input = "\"" + "a, ".repeat(50000);
+
+        List<List<String>> actual = parser.parse(input);
+
+        assertEquals(1, actual.size());
+        assertEquals(50000, actual.get(0).size());
+        assertEquals("\"a", actual.get(0).get(0));
+        assertEquals("a", actual.get(0).get(1));
+    }
+
+    @Test
+    public void testUnclosedQuoteOverMultipleLines() {
+        StandardDispatcherParameterParser parser = new StandardDispatcherParameterParser();
+
+        List<List<String>> expected = List.of(
+            List.of("\"hello", "world\"")
+        );
+        List<List<String>> actual = parser.parse("\"hello\nworld\"");
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testExceedMaxLength() {
+        StandardDispatcherParameterParser parser = new StandardDispatcherParameterParser(10, -1);
+        assertThrows(ParamLimitException.class, () -> parser.parse("hello world!"));
+    }
+
+    @Test
+    public void testExceedMaxItems() {
+        StandardDispatcherParameterParser parser = new StandardDispatcherParameterParser(-1, 3);
+
+        assertEquals(3, parser.parse("one two three").size());
+        assertThrows(ParamLimitException.class, () -> parser.parse("one, two, three, four"));
+    }
 }
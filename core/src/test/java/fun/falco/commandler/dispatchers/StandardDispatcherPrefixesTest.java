@@ -0,0 +1,99 @@
+/*
+ * Copyright 2019-2025 Seth Falco and Commandler Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package fun.falco.commandler.dispatchers;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import fun.falco.commandler.dispatchers.standard.StandardDispatcherPrefixes;
+
+/**
+ * @author seth@falco.fun (Seth Falco)
+ */
+public class StandardDispatcherPrefixesTest {
+
+    @Test
+    public void testFirstConfiguredPrefixWins() {
+        StandardDispatcherPrefixes prefixes = StandardDispatcherPrefixes.compile(List.of(">", ">>", "!"));
+
+        assertAll("Check the prefix configured first is used.",
+            () -> assertEquals(1, prefixes.match(">>help", Map.of())),
+            () -> assertEquals(1, prefixes.match("!help", Map.of())),
+            () -> assertEquals(StandardDispatcherPrefixes.NO_MATCH, prefixes.match("help", Map.of()))
+        );
+    }
+
+    @Test
+    public void testHeaderPrefix() {
+        StandardDispatcherPrefixes prefixes = StandardDispatcherPrefixes.compile(List.of("${prefix:>}", "!"));
+
+        assertAll("Check header prefixes use the header, or the default value.",
+            () -> assertEquals(2, prefixes.match("??help", Map.of("prefix", "??"))),
+            () -> assertEquals(StandardDispatcherPrefixes.NO_MATCH, prefixes.match(">help", Map.of("prefix", "??"))),
+            () -> assertEquals(1, prefixes.match(">help", Map.of())),
+            () -> assertEquals(1, prefixes.match(">help", Map.of("prefix", " "))),
+            () -> assertEquals(1, prefixes.match("!help", Map.of()))
+        );
+    }
+
+    @Test
+    public void testNoPrefixes() {
+        StandardDispatcherPrefixes prefixes = StandardDispatcherPrefixes.compile(List.of("${prefix}"));
+
+        assertAll("Check no prefixes apply if none can be resolved.",
+            () -> assertEquals(StandardDispatcherPrefixes.NO_PREFIXES, prefixes.match("help", Map.of())),
+            () -> assertEquals(StandardDispatcherPrefixes.NO_MATCH, prefixes.match("help", Map.of("prefix", ">"))),
+            () -> assertEquals(StandardDispatcherPrefixes.NO_PREFIXES, StandardDispatcherPrefixes.compile(null).match("help", Map.of()))
+        );
+    }
+
+    @Test
+    public void testIsCandidate() {
+        StandardDispatcherPrefixes literals = StandardDispatcherPrefixes.compile(List.of(">", "!"));
+        StandardDispatcherPrefixes headers = StandardDispatcherPrefixes.compile(List.of(">", "${prefix:!}"));
+
+        assertAll("Check content can only be ruled out by literal prefixes.",
+            () -> assertTrue(literals.isCandidate(">help")),
+            () -> assertFalse(literals.isCandidate("hello world")),
+            () -> assertTrue(headers.isCandidate("hello world")),
+            () -> assertTrue(StandardDispatcherPrefixes.compile(List.of()).isCandidate("hello world"))
+        );
+    }
+
+    @Test
+    public void testIsCompiledFromEqualList() {
+        List<String> config = List.of(">", "!");
+        StandardDispatcherPrefixes prefixes = StandardDispatcherPrefixes.compile(config);
+
+        assertAll("Check prefixes are only reused for a list with the same prefixes.",
+            () -> assertTrue(prefixes.isCompiledFrom(config)),
+            () -> assertTrue(prefixes.isCompiledFrom(new ArrayList<>(config))),
+            () -> assertFalse(prefixes.isCompiledFrom(List.of("!", ">"))),
+            () -> assertFalse(prefixes.isCompiledFrom(List.of(">", "?"))),
+            () -> assertFalse(prefixes.isCompiledFrom(null)),
+            () -> assertTrue(StandardDispatcherPrefixes.compile(null).isCompiledFrom(null))
+        );
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2019-2025 Seth Falco and Commandler Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package fun.falco.commandler.dispatchers;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+import fun.falco.commandler.dispatchers.standard.StandardDispatcherTokens;
+
+/**
+ * @author seth@falco.fun (Seth Falco)
+ */
+public class StandardDispatcherTokensTest {
+
+    private static final Pattern DELIMITER = Pattern.compile("\\s+");
+
+    @Test
+    public void testControllerCommandAndParams() {
+        String content = ">util echo hello  world";
+        StandardDispatcherTokens tokens = StandardDispatcherTokens.tokenize(DELIMITER, content, 1, content.length());
+
+        assertAll("Check the command is split into 3 tokens by offset.",
+            () -> assertEquals(3, tokens.size()),
+            () -> assertEquals("util", tokens.getToken(0)),
+            () -> assertEquals("echo", tokens.getToken(1)),
+            () -> assertEquals("hello  world", tokens.getToken(2)),
+            () -> assertEquals(11, tokens.getStart(2))
+        );
+    }
+
+    @Test
+    public void testControllerOnly() {
+        String content = ">util";
+        StandardDispatcherTokens tokens = StandardDispatcherTokens.tokenize(DELIMITER, content, 1, content.length());
+
+        assertEquals(1, tokens.size());
+        assertEquals("util", tokens.getToken(0));
+    }
+
+    @Test
+    public void testSameAsSplit() {
+        String[] inputs = {"", " a", "a ", "a  b c d", "  ", "a,b"};
+
+        for (String input : inputs) {
+            String[] expected = DELIMITER.split(input, StandardDispatcherTokens.MAX_TOKENS);
+            StandardDispatcherTokens tokens = StandardDispatcherTokens.tokenize(DELIMITER, input, 0, input.length());
+
+            assertEquals(expected.length, tokens.size());
+
+            for (int i = 0; i < expected.length; i++) {
+                assertEquals(expected[i], tokens.getToken(i));
+            }
+        }
+    }
+}
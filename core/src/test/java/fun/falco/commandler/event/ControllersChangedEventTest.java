@@ -0,0 +1,61 @@
+/*
+ * Copyright 2019-2025 Seth Falco and Commandler Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package fun.falco.commandler.event;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import fun.falco.commandler.fixtures.MusicController;
+import fun.falco.commandler.fixtures.TestControllers;
+import fun.falco.commandler.fixtures.UtilityController;
+import fun.falco.commandler.metadata.MetaController;
+
+/**
+ * @author seth@falco.fun (Seth Falco)
+ */
+public class ControllersChangedEventTest {
+
+    @Test
+    public void testReplacedController() {
+        MetaController kept = TestControllers.convert(UtilityController.class);
+        MetaController replaced = TestControllers.convert(MusicController.class);
+        MetaController replacement = TestControllers.convert(MusicController.class);
+
+        ControllersChangedEvent event = new ControllersChangedEvent(List.of(kept, replaced), List.of(kept, replacement));
+
+        assertAll("Check commands of a replaced controller are both removed and added.",
+            () -> assertEquals(replaced.getMetaCommands(), event.getRemovedCommands()),
+            () -> assertEquals(replacement.getMetaCommands(), event.getAddedCommands())
+        );
+    }
+
+    @Test
+    public void testRemovedController() {
+        MetaController kept = TestControllers.convert(UtilityController.class);
+        ControllersChangedEvent event = new ControllersChangedEvent(List.of(kept), List.of());
+
+        assertAll("Check commands of a removed controller are only removed.",
+            () -> assertEquals(kept.getMetaCommands(), event.getRemovedCommands()),
+            () -> assertTrue(event.getAddedCommands().isEmpty())
+        );
+    }
+}
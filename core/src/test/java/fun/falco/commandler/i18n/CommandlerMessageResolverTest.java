@@ -0,0 +1,188 @@
+/*
+ * Copyright 2019-2025 Seth Falco and Commandler Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package fun.falco.commandler.i18n;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author seth@falco.fun (Seth Falco)
+ */
+public class CommandlerMessageResolverTest {
+
+    private static final String CACHE = "commandler.i18n.cache";
+    private static final String MESSAGE_BUNDLES = "commandler.i18n.message-bundles";
+    private static final String MESSAGE_TABLE = "commandler.i18n.message-table";
+    private static final String MISCELLANEOUS = "{fun.falco.commandler.groups.Miscellaneous}";
+
+    private WeldContainer container;
+
+    @BeforeEach
+    public void beforeEach() {
+        CountingMessages.lookups.clear();
+        System.setProperty(MESSAGE_BUNDLES, CountingMessages.class.getName());
+    }
+
+    @AfterEach
+    public void afterEach() {
+        container.close();
+        System.clearProperty(CACHE);
+        System.clearProperty(MESSAGE_BUNDLES);
+        System.clearProperty(MESSAGE_TABLE);
+    }
+
+    @Test
+    public void testCacheDisabled() {
+        CommandlerMessageResolver resolver = start(false);
+        resolver.getMessage("{counted}");
+        resolver.getMessage("{counted}");
+
+        assertEquals(2, CountingMessages.getLookups("counted"));
+    }
+
+    @Test
+    public void testCacheEnabled() {
+        CommandlerMessageResolver resolver = start(true);
+        String message = resolver.getMessage("{counted}");
+
+        assertAll("Check messages are only resolved once while cached.",
+            () -> assertEquals("counted", message),
+            () -> assertEquals(message, resolver.getMessage("{counted}")),
+            () -> assertEquals(1, CountingMessages.getLookups("counted"))
+        );
+    }
+
+    @Test
+    public void testLazyMessageLimit() {
+        CommandlerMessageResolver resolver = start(true);
+
+        for (int i = 0; i <= CommandlerMessageResolver.MAX_LAZY_MESSAGES; i++) {
+            resolver.getMessage("{lazy" + i + "}");
+        }
+
+        String last = "lazy" + CommandlerMessageResolver.MAX_LAZY_MESSAGES;
+        resolver.getMessage("{lazy0}");
+        resolver.getMessage("{" + last + "}");
+
+        assertAll("Check messages past the limit are resolved again every time.",
+            () -> assertEquals(1, CountingMessages.getLookups("lazy0")),
+            () -> assertEquals(2, CountingMessages.getLookups(last))
+        );
+    }
+
+    @Test
+    public void testExplicitLocale() {
+        CommandlerMessageResolver resolver = start(true);
+
+        assertAll("Check an explicit locale is cached separately from the current locale.",
+            () -> assertEquals("Sonstiges", resolver.getMessage(MISCELLANEOUS, Locale.GERMAN)),
+            () -> assertEquals("Miscellaneous", resolver.getMessage(MISCELLANEOUS, Locale.ROOT)),
+            () -> assertEquals("Sonstiges", resolver.getMessage(MISCELLANEOUS, Locale.GERMAN))
+        );
+    }
+
+    @Test
+    public void testInvalidate() {
+        CommandlerMessageResolver resolver = start(true);
+        resolver.getMessage("{counted}");
+        resolver.invalidate();
+        resolver.getMessage("{counted}");
+
+        assertEquals(2, CountingMessages.getLookups("counted"));
+    }
+
+    @Test
+    public void testMessageTable() throws IOException {
+        Path directory = Files.createTempDirectory("commandler-messages");
+        Path table = directory.resolve(MessageTable.getResourceName("messages", Locale.ROOT));
+        Files.write(table, MessageTableCompiler.compile(new TreeMap<>(Map.of("counted.table", "From the table"))));
+        System.setProperty(MESSAGE_TABLE, "messages");
+
+        Thread thread = Thread.currentThread();
+        ClassLoader contextClassLoader = thread.getContextClassLoader();
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] {directory.toUri().toURL()}, contextClassLoader)) {
+            CommandlerMessageResolver resolver = start(false);
+            thread.setContextClassLoader(classLoader);
+
+            assertAll("Check messages are found in the table of the context class loader, then in the bundles.",
+                () -> assertEquals("From the table", resolver.getMessage("{counted.table}", Locale.ROOT)),
+                () -> assertEquals(0, CountingMessages.getLookups("counted.table")),
+                () -> assertEquals("counted", resolver.getMessage("{counted}", Locale.ROOT))
+            );
+        } finally {
+            thread.setContextClassLoader(contextClassLoader);
+            Files.delete(table);
+            Files.delete(directory);
+        }
+    }
+
+    private CommandlerMessageResolver start(boolean isCache) {
+        System.setProperty(CACHE, Boolean.toString(isCache));
+        container = new Weld().initialize();
+        return container.select(CommandlerMessageResolver.class).get();
+    }
+
+    /**
+     * Resolves every key prefixed with "counted" or "lazy" to itself,
+     * and counts how many times each key was looked up.
+     */
+    public static class CountingMessages extends ResourceBundle {
+
+        private static final Map<String, AtomicInteger> lookups = new ConcurrentHashMap<>();
+
+        private static int getLookups(String key) {
+            AtomicInteger count = lookups.get(key);
+            return (count == null) ? 0 : count.get();
+        }
+
+        @Override
+        protected Object handleGetObject(String key) {
+            if (!key.startsWith("counted") && !key.startsWith("lazy")) {
+                return null;
+            }
+
+            lookups.computeIfAbsent(key, (k) -> new AtomicInteger()).incrementAndGet();
+            return key;
+        }
+
+        @Override
+        public Enumeration<String> getKeys() {
+            return Collections.emptyEnumeration();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2019-2025 Seth Falco and Commandler Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package fun.falco.commandler.i18n;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author seth@falco.fun (Seth Falco)
+ */
+public class MessageTableTest {
+
+    private static final String BUNDLE = "fun.falco.commandler.i18n.GroupMessages";
+    private static final String GUIDANCE = "fun.falco.commandler.groups.Guidance";
+    private static final String MISCELLANEOUS = "fun.falco.commandler.groups.Miscellaneous";
+
+    @Test
+    public void testFallback() throws IOException {
+        SortedMap<String, String> messages = MessageTableCompiler.collect(getClass().getClassLoader(), List.of(BUNDLE), Locale.GERMAN);
+        MessageTable table = new MessageTable(ByteBuffer.wrap(MessageTableCompiler.compile(messages)));
+
+        assertAll("Check the table includes messages of the locales it falls back to.",
+            () -> assertEquals("Sonstiges", table.get(MISCELLANEOUS)),
+            () -> assertEquals("Guidance", table.get(GUIDANCE)),
+            () -> assertNull(table.get("missing"))
+        );
+    }
+
+    @Test
+    public void testDuplicateValues() throws IOException {
+        SortedMap<String, String> messages = new TreeMap<>();
+        messages.put("a", "ünïcödé");
+        messages.put("b", "ünïcödé");
+        messages.put("c", "");
+
+        MessageTable table = new MessageTable(ByteBuffer.wrap(MessageTableCompiler.compile(messages)));
+
+        assertAll("Check values shared by keys, and empty values, are read back.",
+            () -> assertEquals(3, table.size()),
+            () -> assertEquals("ünïcödé", table.get("a")),
+            () -> assertEquals("ünïcödé", table.get("b")),
+            () -> assertEquals("", table.get("c"))
+        );
+    }
+
+    @Test
+    public void testLoadMostSpecific() throws IOException {
+        Path directory = Files.createTempDirectory("commandler-messages");
+        MessageTableCompiler.main(new String[] {directory.toString(), "messages", BUNDLE, "de,fr"});
+
+        Locale defaultLocale = Locale.getDefault();
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] {directory.toUri().toURL()}, null)) {
+            Locale.setDefault(Locale.ITALIAN);
+            MessageTable german = MessageTable.load(classLoader, "messages", Locale.GERMANY);
+            MessageTable japanese = MessageTable.load(classLoader, "messages", Locale.JAPANESE);
+            MessageTable mapped = MessageTable.map(directory.resolve("messages_fr.cmt"));
+
+            Locale.setDefault(Locale.GERMAN);
+            MessageTable fallback = MessageTable.load(classLoader, "messages", Locale.JAPANESE);
+            MessageTable root = MessageTable.load(classLoader, "messages", Locale.ROOT);
+
+            assertAll("Check the most specific table is loaded, falling back to the default locale, then the root table.",
+                () -> assertEquals("Sonstiges", german.get(MISCELLANEOUS)),
+                () -> assertEquals("Miscellaneous", japanese.get(MISCELLANEOUS)),
+                () -> assertEquals(MessageTableCompiler.collect(getClass().getClassLoader(), List.of(BUNDLE), Locale.FRENCH).get(MISCELLANEOUS), mapped.get(MISCELLANEOUS)),
+                () -> assertEquals("Sonstiges", fallback.get(MISCELLANEOUS)),
+                () -> assertEquals("Miscellaneous", root.get(MISCELLANEOUS))
+            );
+        } finally {
+            Locale.setDefault(defaultLocale);
+
+            try (Stream<Path> paths = Files.list(directory)) {
+                for (Path path : (Iterable<Path>) paths::iterator) {
+                    Files.delete(path);
+                }
+            }
+
+            Files.delete(directory);
+        }
+    }
+
+    @Test
+    public void testInvalidTable() {
+        assertThrows(IllegalArgumentException.class, () -> new MessageTable(ByteBuffer.wrap(new byte[] {1, 2, 3, 4})));
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2019-2025 Seth Falco and Commandler Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package fun.falco.commandler.managers;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import javax.enterprise.context.Dependent;
+import javax.enterprise.inject.Specializes;
+
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import fun.falco.commandler.adapters.NumberAdapter;
+import fun.falco.commandler.annotation.Param;
+import fun.falco.commandler.annotation.stereotypes.ParamAdapter;
+import fun.falco.commandler.api.Adapter;
+import fun.falco.commandler.dispatchers.standard.StandardCommand;
+import fun.falco.commandler.dispatchers.standard.StandardController;
+import fun.falco.commandler.event.Action;
+import fun.falco.commandler.event.ActionEvent;
+import fun.falco.commandler.exceptions.misuse.ParamParseException;
+import fun.falco.commandler.fixtures.TestControllers;
+import fun.falco.commandler.metadata.MetaCommand;
+import fun.falco.commandler.metadata.MetaParam;
+
+/**
+ * @author seth@falco.fun (Seth Falco)
+ */
+public class AdapterManagerTest {
+
+    private static WeldContainer container;
+    private static AdapterManager adapterManager;
+    private static List<MetaParam> metaParams;
+
+    @BeforeAll
+    public static void beforeAll() {
+        container = new Weld().addBeanClasses(ColourAdapter.class, ManyAdapter.class).initialize();
+        adapterManager = container.select(AdapterManager.class).get();
+
+        MetaCommand metaCommand = TestControllers.getCommand(TestControllers.convert(ArrayController.class), "arrays");
+        metaParams = metaCommand.getMetaParams();
+    }
+
+    @AfterAll
+    public static void afterAll() {
+        container.close();
+    }
+
+    @Test
+    public void testOnlyNormalScopedAdaptersAreShared() {
+        assertAll("Check references to normal scoped adapters are kept, but dependent adapters are looked up each time.",
+            () -> assertSame(adapterManager.getAdapter(Integer.class), adapterManager.getAdapter(Integer.class)),
+            () -> assertNotSame(adapterManager.getAdapter(Colour.class), adapterManager.getAdapter(Colour.class))
+        );
+    }
+
+    @Test
+    public void testPrimitiveArrays() {
+        assertAll("Check arrays of primitives are adapted.",
+            () -> assertArrayEquals(new long[] {1, -2, 3}, (long[])adapt(0, "1", "-2", "3")),
+            () -> assertArrayEquals(new char[] {'a', 'b'}, (char[])adapt(1, "a", "b")),
+            () -> assertArrayEquals(new boolean[] {true, false}, (boolean[])adapt(2, "yes", "no")),
+            () -> assertArrayEquals(new long[0], (long[])adapt(0))
+        );
+    }
+
+    @Test
+    public void testPrimitiveArrayParseException() {
+        ParamParseException ex = assertThrows(ParamParseException.class, () -> adapt(2, "yes", "maybe", "no"));
+
+        assertAll("Check the item that couldn't be adapted is reported.",
+            () -> assertEquals("maybe", ex.getItem()),
+            () -> assertSame(metaParams.get(2), ex.getMetaParam())
+        );
+    }
+
+    @Test
+    public void testSubclassedPrimitiveAdapter() {
+        assertArrayEquals(new int[] {1, 1000}, (int[])adapt(3, "1", "many"));
+    }
+
+    private static Object adapt(int index, String... items) {
+        Action action = new Action("arrays", ArrayController.class, "arrays");
+        ActionEvent<?, ?> event = new ActionEvent<>(null, action, null, null);
+        return adapterManager.adaptParam(action, event, metaParams.get(index), List.of(items));
+    }
+
+    @StandardController("arrays")
+    public static class ArrayController {
+
+        @StandardCommand("arrays")
+        public void arrays(@Param long[] longs, @Param char[] chars, @Param boolean[] booleans, @Param int[] ints) {
+            // Do nothing.
+        }
+    }
+
+    /**
+     * Replaces the built-in {@link NumberAdapter} and only overrides
+     * {@link #adapt}, so it must not be bypassed for arrays of primitives.
+     */
+    @Specializes
+    @ParamAdapter({Long.class, Integer.class, Short.class, Byte.class, Double.class, Float.class})
+    public static class ManyAdapter extends NumberAdapter {
+
+        @Override
+        public Number adapt(String input, Class<? extends Number> type, MetaParam data, ActionEvent<?, ?> event) {
+            return (input.equals("many")) ? Integer.valueOf(1000) : super.adapt(input, type, data, event);
+        }
+    }
+
+    public static class Colour {
+
+    }
+
+    @Dependent
+    @ParamAdapter(Colour.class)
+    public static class ColourAdapter implements Adapter<Colour> {
+
+        @Override
+        public Colour adapt(String input, Class<? extends Colour> type, MetaParam metaParam, ActionEvent<?, ?> event) {
+            return new Colour();
+        }
+    }
+}
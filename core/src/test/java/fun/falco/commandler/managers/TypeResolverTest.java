@@ -0,0 +1,87 @@
+/*
+ * Copyright 2019-2025 Seth Falco and Commandler Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package fun.falco.commandler.managers;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import fun.falco.commandler.api.Adapter;
+import fun.falco.commandler.metadata.MetaAdapter;
+
+/**
+ * @author seth@falco.fun (Seth Falco)
+ */
+public class TypeResolverTest {
+
+    private static final MetaAdapter OBJECT = new MetaAdapter(ObjectAdapter.class, Object.class);
+
+    private static final MetaAdapter NUMBER = new MetaAdapter(NumberAdapter.class, Serializable.class, Number.class);
+
+    private static final MetaAdapter INTEGER = new MetaAdapter(IntegerAdapter.class, Integer.class, int.class);
+
+    private static MetaAdapter resolve(Class<?> type, List<MetaAdapter> adapters) {
+        return TypeResolver.resolve(type, adapters, MetaAdapter::getCompatibleTypes, MetaAdapter::getAdapterType);
+    }
+
+    @Test
+    public void testMostSpecificTypeWins() {
+        List<MetaAdapter> adapters = List.of(INTEGER, NUMBER, OBJECT);
+
+        assertAll("Check the adapter with the most specific compatible type is used.",
+            () -> assertEquals(INTEGER, resolve(Integer.class, adapters)),
+            () -> assertEquals(INTEGER, resolve(int.class, adapters)),
+            () -> assertEquals(NUMBER, resolve(Long.class, adapters)),
+            () -> assertEquals(NUMBER, resolve(String.class, adapters)),
+            () -> assertEquals(OBJECT, resolve(Thread.class, adapters)),
+            () -> assertNull(resolve(long.class, adapters))
+        );
+    }
+
+    @Test
+    public void testOrderDoesNotMatter() {
+        List<MetaAdapter> adapters = new ArrayList<>(List.of(INTEGER, NUMBER, OBJECT));
+
+        for (int i = 0; i < adapters.size(); i++) {
+            Collections.rotate(adapters, 1);
+
+            assertAll("Check the adapter doesn't depend on the order adapters were found.",
+                () -> assertEquals(INTEGER, resolve(Integer.class, adapters)),
+                () -> assertEquals(NUMBER, resolve(Double.class, adapters))
+            );
+        }
+    }
+
+    private abstract static class ObjectAdapter implements Adapter<Object> {
+
+    }
+
+    private abstract static class NumberAdapter implements Adapter<Number> {
+
+    }
+
+    private abstract static class IntegerAdapter implements Adapter<Integer> {
+
+    }
+}
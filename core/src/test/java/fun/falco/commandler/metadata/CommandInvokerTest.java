@@ -0,0 +1,93 @@
+/*
+ * Copyright 2019-2025 Seth Falco and Commandler Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package fun.falco.commandler.metadata;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.InvocationTargetException;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author seth@falco.fun (Seth Falco)
+ */
+public class CommandInvokerTest {
+
+    @Test
+    public void testInvoke() throws Exception {
+        CommandInvoker repeat = CommandInvoker.create(Commands.class.getMethod("repeat", String.class, int.class));
+        CommandInvoker ping = CommandInvoker.create(Commands.class.getMethod("ping"));
+        CommandInvoker nothing = CommandInvoker.create(Commands.class.getMethod("nothing"));
+        CommandInvoker echo = CommandInvoker.create(Commands.class.getMethod("echo", String.class));
+        Commands commands = new Commands();
+
+        assertAll("Check commands are invoked with the arguments provided.",
+            () -> assertTrue(repeat.isMethodHandle()),
+            () -> assertEquals("abab", repeat.invoke(commands, new Object[] {"ab", 2})),
+            () -> assertEquals("pong", ping.invoke(commands, new Object[0])),
+            () -> assertNull(nothing.invoke(commands, new Object[0])),
+            () -> assertEquals("hi", echo.invoke(null, new Object[] {"hi"}))
+        );
+    }
+
+    @Test
+    public void testExceptionsAreNotWrapped() throws Exception {
+        CommandInvoker fail = CommandInvoker.create(Commands.class.getMethod("fail"));
+        CommandInvoker error = CommandInvoker.create(Commands.class.getMethod("error"));
+        Commands commands = new Commands();
+
+        IllegalStateException ex = assertThrows(IllegalStateException.class, () -> fail.invoke(commands, new Object[0]));
+        InvocationTargetException wrapped = assertThrows(InvocationTargetException.class, () -> error.invoke(commands, new Object[0]));
+
+        assertAll("Check exceptions are thrown as is, and errors are wrapped.",
+            () -> assertEquals("failed", ex.getMessage()),
+            () -> assertSame(AssertionError.class, wrapped.getCause().getClass())
+        );
+    }
+
+    public static class Commands {
+
+        public String repeat(String text, int times) {
+            return text.repeat(times);
+        }
+
+        public String ping() {
+            return "pong";
+        }
+
+        public void nothing() {
+
+        }
+
+        public static String echo(String text) {
+            return text;
+        }
+
+        public void fail() {
+            throw new IllegalStateException("failed");
+        }
+
+        public void error() {
+            throw new AssertionError();
+        }
+    }
+}
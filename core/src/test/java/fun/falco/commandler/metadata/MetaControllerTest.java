@@ -0,0 +1,108 @@
+/*
+ * Copyright 2019-2025 Seth Falco and Commandler Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package fun.falco.commandler.metadata;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author seth@falco.fun (Seth Falco)
+ */
+public class MetaControllerTest {
+
+    @Test
+    public void testDerivedValues() throws NoSuchMethodException {
+        Method method = Commands.class.getMethod("command", String.class, String.class);
+        Parameter[] parameters = method.getParameters();
+
+        List<MetaParam> params = new ArrayList<>(List.of(
+            new MetaParam(0, 0, parameters[0], "first", null, null, null, Map.of()),
+            new MetaParam(1, 1, parameters[1], "second", null, "default", "default", Map.of())
+        ));
+
+        MetaCommand visible = new MetaCommand(method, "visible", null, false, Map.of(), params);
+        MetaCommand hidden = new MetaCommand(method, "hidden", null, true, Map.of(), List.of());
+        MetaController controller = new MetaController(Commands.class, "group", "test", null, false, Map.of(), List.of(visible, hidden));
+        params.clear();
+
+        assertAll("Check derived values are computed and can't be modified.",
+            () -> assertEquals(1, visible.getMinParams()),
+            () -> assertEquals(2, visible.getMaxParams()),
+            () -> assertTrue(visible.isValidParamCount(1)),
+            () -> assertFalse(visible.isValidParamCount(3)),
+            () -> assertEquals(List.of(visible), controller.getPublicCommands()),
+            () -> assertEquals(List.of(hidden), controller.getHiddenCommands()),
+            () -> assertSame(controller.getMetaCommands(), controller.getMetaCommands()),
+            () -> assertThrows(UnsupportedOperationException.class, () -> controller.getMetaCommands().clear())
+        );
+    }
+
+    @Test
+    public void testBoundParams() throws NoSuchMethodException {
+        Method method = Commands.class.getMethod("injected", Object.class, String.class);
+        MetaParam param = new MetaParam(1, 0, method.getParameters()[1], "param", null, null, null, Map.of());
+        MetaCommand command = new MetaCommand(method, "injected", null, false, Map.of(), List.of(param));
+
+        assertAll("Check which method parameters are injected is precomputed.",
+            () -> assertEquals(2, command.getMethodParamCount()),
+            () -> assertNull(command.getBoundParam(0)),
+            () -> assertSame(Object.class, command.getMethodParamType(0)),
+            () -> assertSame(param, command.getBoundParam(1)),
+            () -> assertSame(String.class, command.getMethodParamType(1))
+        );
+    }
+
+    @Test
+    public void testPropertyKey() {
+        Map<String, MetaProperty> properties = new HashMap<>();
+        properties.put(PropertyKey.of(Commands.class, "aliases").getName(), new MetaProperty("aliases", "test"));
+        MetaController controller = new MetaController(Commands.class, "group", "test", null, false, properties, List.of());
+        properties.clear();
+
+        assertAll("Check property keys are interned, and properties can be found by them.",
+            () -> assertSame(PropertyKey.of(Commands.class, "aliases"), PropertyKey.of(Commands.class, "aliases")),
+            () -> assertEquals(Commands.class.getName() + ".aliases", PropertyKey.of(Commands.class, "aliases").getName()),
+            () -> assertEquals("test", controller.getProperty(PropertyKey.of(Commands.class, "aliases")).getValue()),
+            () -> assertEquals("test", controller.getProperty(Commands.class, "aliases").getValue())
+        );
+    }
+
+    public static class Commands {
+
+        public void command(String first, String second) {
+
+        }
+
+        public void injected(Object injected, String param) {
+
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2019-2025 Seth Falco and Commandler Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package fun.falco.commandler.metadata;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import fun.falco.commandler.annotation.AnnotationUtils;
+import fun.falco.commandler.dispatchers.standard.StandardDispatcher;
+import fun.falco.commandler.fixtures.MathController;
+import fun.falco.commandler.fixtures.TestControllers;
+
+/**
+ * @author seth@falco.fun (Seth Falco)
+ */
+public class MetadataIndexTest {
+
+    private static final String ALIASES = StandardDispatcher.ALIASES.getName();
+    private static final String STATIC = StandardDispatcher.STATIC.getName();
+    private static final String DEFAULT = StandardDispatcher.DEFAULT.getName();
+
+    @Test
+    public void testMatchesReflection() throws IOException {
+        String className = MathController.class.getName();
+        String prefix = className + "-add";
+
+        MetadataIndex.Writer writer = new MetadataIndex.Writer()
+            .controller(className, "{fun.falco.commandler.groups.Miscellaneous}", "{" + className + ".name}", "{" + className + ".description}", false, MetadataIndex.fingerprint(MathController.class))
+            .property(ALIASES, "aliases", "math", true, true, "Aliases")
+            .property(STATIC, "static", "false", false, false, AnnotationUtils.EFFECTIVELY_NULL)
+            .property("note", "note", "tab\tand\nline", false, false, AnnotationUtils.EFFECTIVELY_NULL)
+            .command("add", List.of("int", "[Ljava.lang.String;"), "{" + prefix + ".name}", "{" + prefix + ".description}", false)
+            .property(ALIASES, "aliases", "add", true, true, "Aliases")
+            .property(STATIC, "static", "false", false, false, AnnotationUtils.EFFECTIVELY_NULL)
+            .property(DEFAULT, "default", "false", false, false, AnnotationUtils.EFFECTIVELY_NULL)
+            .param(0, 0, "{" + prefix + "-0.name}", "{" + prefix + "-0.description}", null, null)
+            .param(1, 1, "{" + prefix + "-1.name}", "{" + prefix + "-1.description}", "a\\b", "a\\b");
+
+        MetadataIndex index = MetadataIndex.read(new StringReader(writer.toString()));
+        MetaController expected = TestControllers.convert(MathController.class);
+        MetaController actual = index.getMetaController(MathController.class);
+
+        MetaCommand expectedCommand = expected.getMetaCommands().get(0);
+        MetaCommand actualCommand = actual.getMetaCommands().get(0);
+        MetaParam actualParam = actualCommand.getMetaParams().get(1);
+
+        assertAll("Check the index builds the same metadata as reflection.",
+            () -> assertTrue(index.contains(className)),
+            () -> assertEquals(expected.getGroup(), actual.getGroup()),
+            () -> assertEquals(expected.getName(), actual.getName()),
+            () -> assertEquals(expected.getProperties().keySet(), actual.getProperties().keySet()),
+            () -> assertEquals("tab\tand\nline", actual.getProperty("note").getValue()),
+            () -> assertEquals("math", actual.getProperty(StandardDispatcher.ALIASES).getValue()),
+            () -> assertEquals("aliases", actual.getProperty(StandardDispatcher.ALIASES).getKey()),
+            () -> assertEquals(expectedCommand.getMethod(), actualCommand.getMethod()),
+            () -> assertEquals(expectedCommand.getName(), actualCommand.getName()),
+            () -> assertEquals(expectedCommand.getProperties().keySet(), actualCommand.getProperties().keySet()),
+            () -> assertEquals(expectedCommand.getMinParams(), actualCommand.getMinParams()),
+            () -> assertSame(actualCommand.getMethod().getParameters()[1].getType(), actualParam.getParameter().getType()),
+            () -> assertEquals(expectedCommand.getMetaParams().get(1).getDefaultValue(), actualParam.getDefaultValue()),
+            () -> assertNull(actualCommand.getMetaParams().get(0).getDefaultValue())
+        );
+    }
+
+    @Test
+    public void testMismatchedIndex() throws IOException {
+        MetadataIndex.Writer writer = new MetadataIndex.Writer()
+            .controller(MathController.class.getName(), "group", "name", "description", false, MetadataIndex.fingerprint(MathController.class))
+            .command("removed", List.of(), "name", "description", false);
+
+        MetadataIndex index = MetadataIndex.read(new StringReader(writer.toString()));
+
+        assertAll("Check an index that doesn't match the class is ignored.",
+            () -> assertTrue(index.contains(MathController.class.getName())),
+            () -> assertNull(index.getMetaController(MathController.class)),
+            () -> assertNull(index.getMetaController(String.class))
+        );
+    }
+
+    @Test
+    public void testStaleIndex() throws IOException {
+        String className = MathController.class.getName();
+        String stale = MetadataIndex.fingerprint(List.of("add(int,[Ljava.lang.String;)", "subtract(int,int)"));
+
+        MetadataIndex.Writer writer = new MetadataIndex.Writer()
+            .controller(className, "group", "name", "description", false, stale)
+            .command("add", List.of("int", "[Ljava.lang.String;"), "name", "description", false);
+
+        MetadataIndex index = MetadataIndex.read(new StringReader(writer.toString()));
+
+        assertAll("Check an index of an older version of the class is ignored, even if the command still exists.",
+            () -> assertTrue(index.contains(className)),
+            () -> assertNull(index.getMetaController(MathController.class))
+        );
+    }
+
+    @Test
+    public void testFingerprintIgnoresOrder() {
+        assertEquals(
+            MetadataIndex.fingerprint(List.of("a()", "b(int)")),
+            MetadataIndex.fingerprint(List.of("b(int)", "a()"))
+        );
+    }
+
+    @Test
+    public void testUnsupportedFormat() throws IOException {
+        MetadataIndex index = MetadataIndex.read(new StringReader("commandler-metadata\t1\nC\ttest\n"));
+
+        assertAll("Check indexes in other formats are ignored.",
+            () -> assertTrue(index.isEmpty()),
+            () -> assertFalse(index.contains("test"))
+        );
+    }
+}
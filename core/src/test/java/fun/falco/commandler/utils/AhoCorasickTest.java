@@ -0,0 +1,51 @@
+/*
+ * Copyright 2019-2025 Seth Falco and Commandler Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package fun.falco.commandler.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author seth@falco.fun (Seth Falco)
+ */
+public class AhoCorasickTest {
+
+    @Test
+    public void testFindAll() {
+        AhoCorasick ahoCorasick = new AhoCorasick(List.of("he", "she", "his", "hers"));
+        BitSet expected = new BitSet();
+        expected.set(0);
+        expected.set(1);
+        expected.set(3);
+
+        assertEquals(expected, ahoCorasick.findAll("USHERS"));
+    }
+
+    @Test
+    public void testContainsAny() {
+        AhoCorasick ahoCorasick = new AhoCorasick(List.of("kg", "lbs"));
+
+        assertTrue(ahoCorasick.containsAny("I weigh 103KG!"));
+        assertFalse(ahoCorasick.containsAny("Hello world!"));
+    }
+}
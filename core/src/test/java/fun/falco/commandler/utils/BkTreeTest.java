@@ -0,0 +1,105 @@
+/*
+ * Copyright 2019-2025 Seth Falco and Commandler Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package fun.falco.commandler.utils;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author seth@falco.fun (Seth Falco)
+ */
+public class BkTreeTest {
+
+    private static BkTree create(String... words) {
+        BkTree tree = new BkTree();
+
+        for (String word : words) {
+            tree.add(word);
+        }
+
+        return tree;
+    }
+
+    @Test
+    public void testDistance() {
+        assertAll("Check the Levenshtein distance is calculated correctly.",
+            () -> assertEquals(0, BkTree.distance("help".toCharArray(), "help".toCharArray())),
+            () -> assertEquals(3, BkTree.distance("kitten".toCharArray(), "sitting".toCharArray())),
+            () -> assertEquals(4, BkTree.distance("".toCharArray(), "ping".toCharArray())),
+            () -> assertEquals(1, BkTree.distance("ping".toCharArray(), "pin".toCharArray()))
+        );
+    }
+
+    @Test
+    public void testSearchOrdersByDistance() {
+        BkTree tree = create("help", "ping", "kick", "ban", "hello", "held");
+
+        assertAll("Check the closest words are returned first, then in the order added.",
+            () -> assertEquals(List.of("help", "held", "hello"), tree.search("help", 2, 3)),
+            () -> assertEquals(List.of("help", "hello"), tree.search("hepl", 2, 2)),
+            () -> assertEquals(List.of("ping"), tree.search("pong", 1, 3)),
+            () -> assertEquals(List.of(), tree.search("avatar", 2, 3))
+        );
+    }
+
+    @Test
+    public void testSearchIgnoresCase() {
+        BkTree tree = create("Help", "PING");
+
+        assertAll("Check words are compared regardless of case, but returned as added.",
+            () -> assertEquals(List.of("Help"), tree.search("HELP", 0, 3)),
+            () -> assertEquals(List.of("PING"), tree.search("pinh", 1, 3))
+        );
+    }
+
+    @Test
+    public void testDuplicatesIgnored() {
+        BkTree tree = new BkTree();
+
+        assertAll("Check words equal regardless of case are only added once.",
+            () -> assertTrue(tree.add("help")),
+            () -> assertFalse(tree.add("HELP")),
+            () -> assertEquals(1, tree.size())
+        );
+    }
+
+    @Test
+    public void testSearchMatchesLinearScan() {
+        String[] words = {"avatar", "ban", "kick", "mute", "unmute", "purge", "help", "ping", "prefix", "role", "roles", "rules", "ranks", "rank"};
+        BkTree tree = create(words);
+
+        for (String query : List.of("rnak", "rule", "mutee", "pnig", "avtar", "pruge", "x")) {
+            for (int maxDistance = 0; maxDistance <= 2; maxDistance++) {
+                long expected = 0;
+
+                for (String word : words) {
+                    if (BkTree.distance(query.toCharArray(), word.toCharArray()) <= maxDistance) {
+                        expected++;
+                    }
+                }
+
+                assertEquals(expected, tree.search(query, maxDistance, words.length).size());
+            }
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2019-2025 Seth Falco and Commandler Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package fun.falco.commandler.utils;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+import fun.falco.commandler.utils.DeadlineCharSequence.DeadlineExceededException;
+
+/**
+ * @author seth@falco.fun (Seth Falco)
+ */
+public class DeadlineCharSequenceTest {
+
+    @Test
+    public void testMatchWithinDeadline() {
+        DeadlineCharSequence text = new DeadlineCharSequence("I weigh 103KG!", TimeUnit.SECONDS.toNanos(10));
+        assertTrue(Pattern.compile("(?i)\\d+KG").matcher(text).find());
+    }
+
+    /**
+     * Backreferences stop the regex engine from memoizing, so this
+     * backtracks catastrophically.
+     */
+    @Test
+    public void testCatastrophicBacktrackingTimesOut() {
+        Pattern pattern = Pattern.compile("(\\d+)*\\1x");
+        DeadlineCharSequence text = new DeadlineCharSequence("1".repeat(64), TimeUnit.MILLISECONDS.toNanos(50));
+
+        assertThrows(DeadlineExceededException.class, () -> pattern.matcher(text).find());
+    }
+}
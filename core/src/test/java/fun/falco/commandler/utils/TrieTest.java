@@ -0,0 +1,103 @@
+/*
+ * Copyright 2019-2025 Seth Falco and Commandler Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package fun.falco.commandler.utils;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author seth@falco.fun (Seth Falco)
+ */
+public class TrieTest {
+
+    @Test
+    public void testCaseSensitive() {
+        Trie<String> trie = new Trie<>();
+        trie.put("help", "help");
+        trie.put("hello", "hello");
+
+        assertAll("Check keys are only matched with the same case.",
+            () -> assertEquals("help", trie.get("help")),
+            () -> assertEquals("hello", trie.get("hello")),
+            () -> assertNull(trie.get("HELP")),
+            () -> assertNull(trie.get("hel")),
+            () -> assertNull(trie.get("helper")),
+            () -> assertEquals(2, trie.size())
+        );
+    }
+
+    @Test
+    public void testIgnoreCase() {
+        Trie<String> trie = new Trie<>(true);
+        trie.put("Help", "help");
+
+        assertAll("Check keys are matched the same as String#equalsIgnoreCase.",
+            () -> assertEquals("help", trie.get("help")),
+            () -> assertEquals("help", trie.get("HELP")),
+            () -> assertEquals("help", trie.get("hElP")),
+            () -> assertNull(trie.get("helps"))
+        );
+    }
+
+    @Test
+    public void testRegion() {
+        Trie<String> trie = new Trie<>(true);
+        trie.put("ping", "ping");
+
+        assertAll("Check a region of a larger string can be used as the key.",
+            () -> assertEquals("ping", trie.get("!ping me", 1, 5)),
+            () -> assertNull(trie.get("!ping me", 0, 5))
+        );
+    }
+
+    @Test
+    public void testPutIfAbsent() {
+        Trie<String> trie = new Trie<>(true);
+
+        assertAll("Check the first value put is kept.",
+            () -> assertNull(trie.putIfAbsent("ping", "first")),
+            () -> assertEquals("first", trie.putIfAbsent("PING", "second")),
+            () -> assertEquals("first", trie.get("ping")),
+            () -> assertEquals("first", trie.put("ping", "third")),
+            () -> assertEquals("third", trie.get("ping")),
+            () -> assertEquals(1, trie.size())
+        );
+    }
+
+    @Test
+    public void testGetByPrefix() {
+        Trie<String> trie = new Trie<>(true);
+
+        for (String key : List.of("help", "hello", "held", "Hi", "ping")) {
+            trie.put(key, key);
+        }
+
+        assertAll("Check keys starting with the text are found, shortest first.",
+            () -> assertEquals(List.of("Hi", "held", "help", "hello"), trie.getByPrefix("h", 0, 1, 10)),
+            () -> assertEquals(List.of("held", "help"), trie.getByPrefix("!HEL", 1, 4, 2)),
+            () -> assertEquals(List.of("ping"), trie.getByPrefix("ping", 0, 4, 10)),
+            () -> assertEquals(5, trie.getByPrefix("", 0, 0, 10).size()),
+            () -> assertEquals(List.of(), trie.getByPrefix("x", 0, 1, 10)),
+            () -> assertEquals(List.of(), trie.getByPrefix("h", 0, 1, 0))
+        );
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2019-2025 Seth Falco and Commandler Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package fun.falco.commandler.fixtures;
+
+import fun.falco.commandler.annotation.Param;
+import fun.falco.commandler.annotation.Property;
+import fun.falco.commandler.dispatchers.standard.StandardCommand;
+import fun.falco.commandler.dispatchers.standard.StandardController;
+
+/**
+ * Controller with a property that must be escaped, and parameters
+ * with and without default values.
+ *
+ * @author seth@falco.fun (Seth Falco)
+ */
+@StandardController("math")
+@Property(key = "note", value = "tab\tand\nline")
+public class MathController {
+
+    @StandardCommand("add")
+    public int add(@Param int a, @Param("a\\b") String[] b) {
+        return a + b.length;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2019-2025 Seth Falco and Commandler Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package fun.falco.commandler.fixtures;
+
+import fun.falco.commandler.annotation.Command;
+import fun.falco.commandler.dispatchers.standard.StandardCommand;
+import fun.falco.commandler.dispatchers.standard.StandardController;
+
+/**
+ * Controller with a default command, commands whose aliases share a
+ * prefix, and a hidden command.
+ *
+ * @author seth@falco.fun (Seth Falco)
+ */
+@StandardController("music")
+public class MusicController {
+
+    @StandardCommand(value = "play", isDefault = true)
+    public String play() {
+        return "Playing.";
+    }
+
+    @StandardCommand("playlist")
+    public String playlist() {
+        return "Playlist.";
+    }
+
+    @StandardCommand("pause")
+    public String pause() {
+        return "Paused.";
+    }
+
+    @Command(hidden = true)
+    @StandardCommand("plunder")
+    public String plunder() {
+        return "Arr.";
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2019-2025 Seth Falco and Commandler Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package fun.falco.commandler.fixtures;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.List;
+
+import fun.falco.commandler.CommandlerExtension;
+import fun.falco.commandler.metadata.MetaCommand;
+import fun.falco.commandler.metadata.MetaController;
+
+/**
+ * Builds metadata of the controllers in this package the same way
+ * {@link CommandlerExtension} does during discovery.
+ *
+ * @author seth@falco.fun (Seth Falco)
+ */
+public final class TestControllers {
+
+    /** All controllers in this package. */
+    public static final List<Class<?>> ALL = List.of(MusicController.class, UtilityController.class, MathController.class);
+
+    private TestControllers() {
+        // Do nothing
+    }
+
+    /**
+     * @param type Class of the controller.
+     * @return New metadata of the controller, each call returns new instances.
+     */
+    public static MetaController convert(Class<?> type) {
+        try {
+            return new CommandlerExtension().convertController(type);
+        } catch (IllegalAccessException | InvocationTargetException ex) {
+            throw new IllegalStateException("Failed to convert " + type + ".", ex);
+        }
+    }
+
+    /**
+     * @param metaController Controller the command belongs to.
+     * @param methodName Name of the method of the command.
+     * @return The command, as the order of commands isn't defined.
+     */
+    public static MetaCommand getCommand(MetaController metaController, String methodName) {
+        return metaController.getMetaCommands().stream()
+            .filter((metaCommand) -> metaCommand.getMethod().getName().equals(methodName))
+            .findAny()
+            .orElseThrow(() -> new IllegalArgumentException(methodName + " isn't a command of " + metaController + "."));
+    }
+}
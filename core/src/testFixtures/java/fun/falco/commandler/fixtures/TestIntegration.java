@@ -0,0 +1,56 @@
+/*
+ * Copyright 2019-2025 Seth Falco and Commandler Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package fun.falco.commandler.fixtures;
+
+import java.io.Serializable;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import fun.falco.commandler.api.Integration;
+import fun.falco.commandler.event.ActionEvent;
+
+/**
+ * Integration that receives and sends strings, and doesn't send anything
+ * anywhere.
+ *
+ * @author seth@falco.fun (Seth Falco)
+ */
+@ApplicationScoped
+public class TestIntegration implements Integration<String, String> {
+
+    /**
+     * @return This instance, rather than the client proxy it's called through.
+     */
+    public TestIntegration self() {
+        return this;
+    }
+
+    @Override
+    public Class<String> getMessageType() {
+        return String.class;
+    }
+
+    @Override
+    public Serializable getActionId(String source) {
+        return source;
+    }
+
+    @Override
+    public void send(ActionEvent<String, String> event, String message) {
+        // Do nothing.
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2019-2025 Seth Falco and Commandler Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package fun.falco.commandler.fixtures;
+
+import fun.falco.commandler.annotation.Param;
+import fun.falco.commandler.dispatchers.standard.StandardCommand;
+import fun.falco.commandler.dispatchers.standard.StandardController;
+
+/**
+ * Controller with a static command, and a command with a parameter.
+ *
+ * @author seth@falco.fun (Seth Falco)
+ */
+@StandardController("util")
+public class UtilityController {
+
+    @StandardCommand(value = "ping", isStatic = true)
+    public String ping() {
+        return "pong";
+    }
+
+    @StandardCommand("echo")
+    public String echo(@Param String message) {
+        return message;
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2019-2025 Seth Falco and Commandler Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package fun.falco.commandler.newb;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import fun.falco.commandler.Commandler;
+
+/**
+ * Measures a cold boot of Commandler with each way Weld can discover beans.
+ *
+ * <ul>
+ *   <li><code>scan</code>: Jandex isn't on the class path, so Weld ignores
+ *   the prebuilt indexes and scans the classes of every bean archive. This
+ *   is the baseline.</li>
+ *   <li><code>jandex</code>: Weld reads the prebuilt index of archives that
+ *   have one, and builds an index for the rest. Jandex is only a dependency
+ *   of the benchmarks, as applications must opt in to it.</li>
+ * </ul>
+ *
+ * <p>Commandler is booted from a class loader of its own, which is the class
+ * path of the benchmark, without Jandex for the baseline. Every fork boots
+ * once, so each result is a genuinely cold start.</p>
+ *
+ * @author seth@falco.fun (Seth Falco)
+ * @since 4.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class BootBenchmark {
+
+    @Param({"scan", "jandex"})
+    public String discovery;
+
+    private URLClassLoader classLoader;
+
+    @Setup
+    public void setup() throws IOException {
+        List<URL> urls = new ArrayList<>();
+
+        for (String entry : System.getProperty("java.class.path").split(File.pathSeparator)) {
+            Path path = Path.of(entry);
+
+            if (discovery.equals("scan") && path.getFileName().toString().startsWith("jandex-")) {
+                continue;
+            }
+
+            urls.add(path.toUri().toURL());
+        }
+
+        classLoader = new URLClassLoader(urls.toArray(URL[]::new), ClassLoader.getPlatformClassLoader());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        classLoader.close();
+    }
+
+    @Benchmark
+    public Object boot() throws ReflectiveOperationException {
+        Thread thread = Thread.currentThread();
+        ClassLoader contextClassLoader = thread.getContextClassLoader();
+        thread.setContextClassLoader(classLoader);
+
+        try {
+            Class<?> commandlerType = classLoader.loadClass(Commandler.class.getName());
+            Method create = commandlerType.getMethod("create");
+            Method stop = commandlerType.getMethod("stop");
+
+            Object commandler = create.invoke(null);
+            stop.invoke(null);
+            return commandler;
+        } finally {
+            thread.setContextClassLoader(contextClassLoader);
+        }
+    }
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright 2019-2025 Seth Falco and Commandler Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package fun.falco.commandler.newb;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.InvocationTargetException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import javax.enterprise.event.Observes;
+import javax.enterprise.inject.spi.AnnotatedType;
+import javax.enterprise.inject.spi.Extension;
+import javax.enterprise.inject.spi.ProcessBean;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import fun.falco.commandler.CommandlerExtension;
+import fun.falco.commandler.annotation.stereotypes.Binder;
+import fun.falco.commandler.annotation.stereotypes.MessageDispatcher;
+import fun.falco.commandler.annotation.stereotypes.MessageProvider;
+import fun.falco.commandler.annotation.stereotypes.ParamAdapter;
+import fun.falco.commandler.metadata.MetaController;
+
+/**
+ * Measures how long it takes to start a container for a synthetic project,
+ * with and without the {@link CommandlerExtension}, to see how much the
+ * extension adds to cold starts. {@link ProcessBeanExtension} discovers
+ * components the way the extension did before 4.1.0, to compare against.
+ *
+ * <p>The project is generated and compiled once per trial. Most of its beans
+ * are plain beans, which the extension should skip for almost nothing, and
+ * every {@link #controllerRatio}th bean is a controller.</p>
+ *
+ * @author seth@falco.fun (Seth Falco)
+ * @since 4.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(1)
+public class StartupBenchmark {
+
+    private static final String PACKAGE = "fun.falco.commandler.synthetic";
+
+    @Param("5000")
+    public int beans;
+
+    @Param("50")
+    public int controllerRatio;
+
+    private Path directory;
+    private URLClassLoader classLoader;
+    private Class<?>[] beanClasses;
+
+    @Setup
+    public void setup() throws IOException, ClassNotFoundException {
+        directory = Files.createTempDirectory("commandler-startup");
+        Path sources = Files.createDirectories(directory.resolve(PACKAGE.replace('.', '/')));
+        List<String> arguments = new ArrayList<>(List.of("-d", directory.toString(), "-cp", System.getProperty("java.class.path")));
+
+        for (int i = 0; i < beans; i++) {
+            Path source = sources.resolve(getClassName(i) + ".java");
+            Files.writeString(source, generate(i));
+            arguments.add(source.toString());
+        }
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+
+        if (compiler.run(null, null, null, arguments.toArray(String[]::new)) != 0) {
+            throw new IllegalStateException("Failed to compile the synthetic project.");
+        }
+
+        classLoader = new URLClassLoader(new URL[] {directory.toUri().toURL()}, StartupBenchmark.class.getClassLoader());
+        beanClasses = new Class<?>[beans];
+
+        for (int i = 0; i < beans; i++) {
+            beanClasses[i] = classLoader.loadClass(PACKAGE + "." + getClassName(i));
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        classLoader.close();
+
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach((path) -> {
+                try {
+                    Files.delete(path);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        }
+    }
+
+    @Benchmark
+    public int withoutExtension() {
+        return start(null);
+    }
+
+    @Benchmark
+    public int withExtension() {
+        CommandlerExtension extension = new CommandlerExtension();
+        start(extension);
+        return extension.getMetaControllers().size();
+    }
+
+    @Benchmark
+    public int withProcessBeanExtension() {
+        ProcessBeanExtension extension = new ProcessBeanExtension();
+        start(extension);
+        return extension.metaControllers.size();
+    }
+
+    private int start(Extension extension) {
+        Weld weld = new Weld()
+            .disableDiscovery()
+            .skipShutdownHook()
+            .setClassLoader(classLoader)
+            .addBeanClasses(beanClasses);
+
+        if (extension != null) {
+            weld.addExtension(extension);
+        }
+
+        try (WeldContainer container = weld.initialize()) {
+            return container.getBeanManager().getBeans(Object.class).size();
+        }
+    }
+
+    private String getClassName(int index) {
+        return (isController(index)) ? "Controller" + index : "Bean" + index;
+    }
+
+    private boolean isController(int index) {
+        return index % controllerRatio == 0;
+    }
+
+    private String generate(int index) {
+        String className = getClassName(index);
+
+        if (!isController(index)) {
+            return "package " + PACKAGE + ";\n"
+                + "@javax.enterprise.context.ApplicationScoped\n"
+                + "public class " + className + " {\n"
+                + "    public String get() { return \"" + index + "\"; }\n"
+                + "}\n";
+        }
+
+        return "package " + PACKAGE + ";\n"
+            + "import fun.falco.commandler.annotation.Param;\n"
+            + "import fun.falco.commandler.dispatchers.standard.StandardCommand;\n"
+            + "import fun.falco.commandler.dispatchers.standard.StandardController;\n"
+            + "@StandardController(\"c" + index + "\")\n"
+            + "public class " + className + " {\n"
+            + "    @StandardCommand(\"echo\")\n"
+            + "    public String echo(@Param String text) { return text; }\n"
+            + "    @StandardCommand(\"add\")\n"
+            + "    public int add(@Param int a, @Param(\"1\") int b) { return a + b; }\n"
+            + "}\n";
+    }
+
+    /**
+     * Discovers components the way the {@link CommandlerExtension} did
+     * before 4.1.0, by checking the annotations of every bean as it's
+     * processed and reflecting over controllers one at a time.
+     */
+    public static class ProcessBeanExtension implements Extension {
+
+        private final CommandlerExtension converter = new CommandlerExtension();
+        private final List<Class<?>> components = new ArrayList<>();
+        private final List<MetaController> metaControllers = new ArrayList<>();
+
+        public void processBean(@Observes final ProcessBean<?> processBean) throws IllegalAccessException, InvocationTargetException {
+            if (!(processBean.getAnnotated() instanceof AnnotatedType)) {
+                return;
+            }
+
+            Class<?> javaClazz = ((AnnotatedType<?>) processBean.getAnnotated()).getJavaClass();
+
+            if (javaClazz.isAnnotationPresent(MessageDispatcher.class)
+                || javaClazz.isAnnotationPresent(Binder.class)
+                || javaClazz.isAnnotationPresent(ParamAdapter.class)
+                || javaClazz.isAnnotationPresent(MessageProvider.class)) {
+                components.add(javaClazz);
+            }
+
+            MetaController metaController = converter.convertController(javaClazz);
+
+            if (metaController != null) {
+                metaControllers.add(metaController);
+            }
+        }
+    }
+}
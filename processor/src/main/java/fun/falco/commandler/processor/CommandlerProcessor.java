@@ -0,0 +1,454 @@
+/*
+ * Copyright 2019-2025 Seth Falco and Commandler Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package fun.falco.commandler.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+import fun.falco.commandler.annotation.AnnotationUtils;
+import fun.falco.commandler.metadata.MetadataIndex;
+
+/**
+ * Generates the {@link MetadataIndex} of all controllers at compile time,
+ * so the CommandlerExtension doesn't have to reflect over them when the
+ * application starts.
+ *
+ * <p>This mirrors how the CommandlerExtension reflects over controllers.
+ * If a controller uses a property that can't be represented at compile time,
+ * such as a class or array, it's left out of the index and reflected over at
+ * runtime as before.</p>
+ *
+ * <p>Each controller is indexed with a fingerprint of its public methods, so
+ * if the class is recompiled without the index, it's reflected over instead
+ * of using stale metadata.</p>
+ *
+ * @author seth@falco.fun (Seth Falco)
+ * @since 4.1.0
+ */
+@SupportedAnnotationTypes("*")
+public class CommandlerProcessor extends AbstractProcessor {
+
+    private static final String CONTROLLER = "fun.falco.commandler.annotation.stereotypes.Controller";
+    private static final String COMMAND = "fun.falco.commandler.annotation.Command";
+    private static final String GROUP = "fun.falco.commandler.annotation.Group";
+    private static final String HELP = "fun.falco.commandler.annotation.Help";
+    private static final String PARAM = "fun.falco.commandler.annotation.Param";
+    private static final String PROPERTY = "fun.falco.commandler.annotation.Property";
+    private static final String PROPERTY_WRAPPER = "fun.falco.commandler.annotation.PropertyWrapper";
+    private static final String MISCELLANEOUS = "fun.falco.commandler.groups.Miscellaneous";
+
+    /** Records of every controller found so far. */
+    private final MetadataIndex.Writer index = new MetadataIndex.Writer();
+
+    private Elements elements;
+    private Types types;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        elements = processingEnv.getElementUtils();
+        types = processingEnv.getTypeUtils();
+
+        if (roundEnv.processingOver()) {
+            write();
+            return false;
+        }
+
+        for (TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+            processType(type);
+        }
+
+        return false;
+    }
+
+    private void processType(TypeElement type) {
+        if (type.getKind() == ElementKind.CLASS && isController(type)) {
+            MetadataIndex.Writer controller = new MetadataIndex.Writer();
+
+            try {
+                writeController(controller, type);
+                index.append(controller);
+            } catch (UnsupportedValueException ex) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "Not indexed as " + ex.getMessage() + ", it will be reflected over at runtime.", type);
+            }
+        }
+
+        for (TypeElement nested : ElementFilter.typesIn(type.getEnclosedElements())) {
+            processType(nested);
+        }
+    }
+
+    private void write() {
+        if (index.isEmpty()) {
+            return;
+        }
+
+        try {
+            FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", MetadataIndex.RESOURCE);
+
+            try (Writer writer = file.openWriter()) {
+                writer.write(index.toString());
+            }
+        } catch (IOException ex) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Failed to write the metadata index: " + ex.getMessage());
+        }
+    }
+
+    private boolean isController(TypeElement type) {
+        for (AnnotationMirror mirror : elements.getAllAnnotationMirrors(type)) {
+            TypeElement annotationType = asElement(mirror);
+
+            if (annotationType.getQualifiedName().contentEquals(CONTROLLER) || getAnnotation(annotationType.getAnnotationMirrors(), CONTROLLER) != null) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private void writeController(MetadataIndex.Writer writer, TypeElement type) {
+        List<? extends AnnotationMirror> allAnnotations = elements.getAllAnnotationMirrors(type);
+        String className = elements.getBinaryName(type).toString();
+        AnnotationMirror controller = getAnnotation(allAnnotations, CONTROLLER);
+        boolean isHidden = controller != null && (boolean) getValue(controller, "hidden");
+        String group = null;
+
+        // All annotations includes those inherited from superclasses, the same as Class#getAnnotation.
+        AnnotationMirror groupAnnotation = getAnnotation(allAnnotations, GROUP);
+
+        if (groupAnnotation != null) {
+            group = (String) getValue(groupAnnotation, "message");
+        } else {
+            for (AnnotationMirror mirror : allAnnotations) {
+                AnnotationMirror metaGroup = getAnnotation(asElement(mirror).getAnnotationMirrors(), GROUP);
+
+                if (metaGroup != null) {
+                    String message = (String) getValue(metaGroup, "message");
+                    group = (AnnotationUtils.isEffectivelyNull(message)) ? "{" + elements.getBinaryName(asElement(mirror)) + "}" : message;
+                    break;
+                }
+            }
+        }
+
+        if (group == null || AnnotationUtils.isEffectivelyNull(group)) {
+            group = "{" + MISCELLANEOUS + "}";
+        }
+
+        Map<String, String[]> properties = convertProperties(allAnnotations, className);
+        String[] help = getHelp(type.getAnnotationMirrors());
+        String name = (help[0] != null) ? help[0] : "{" + className + ".name}";
+        String description = (help[1] != null) ? help[1] : "{" + className + ".description}";
+
+        List<ExecutableElement> methods = new ArrayList<>();
+
+        for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(type))) {
+            if (method.getModifiers().contains(Modifier.PUBLIC)) {
+                methods.add(method);
+            }
+        }
+
+        writer.controller(className, group, name, description, isHidden, fingerprint(methods));
+        writeProperties(writer, properties);
+
+        for (ExecutableElement method : methods) {
+            writeCommand(writer, method);
+        }
+    }
+
+    /**
+     * @param methods All public methods of the controller.
+     * @return The same fingerprint as {@link MetadataIndex#fingerprint(Class)} of the compiled class.
+     */
+    private String fingerprint(List<ExecutableElement> methods) {
+        List<String> signatures = new ArrayList<>();
+
+        for (ExecutableElement method : methods) {
+            TypeElement declaringType = (TypeElement) method.getEnclosingElement();
+
+            if (declaringType.getQualifiedName().contentEquals(Object.class.getName())) {
+                continue;
+            }
+
+            List<String> parameterTypes = new ArrayList<>();
+
+            for (VariableElement parameter : method.getParameters()) {
+                parameterTypes.add(getClassName(parameter.asType()));
+            }
+
+            signatures.add(method.getSimpleName() + "(" + String.join(",", parameterTypes) + ")");
+        }
+
+        return MetadataIndex.fingerprint(signatures);
+    }
+
+    private void writeCommand(MetadataIndex.Writer writer, ExecutableElement method) {
+        List<? extends AnnotationMirror> annotations = method.getAnnotationMirrors();
+        AnnotationMirror command = getAnnotation(annotations, COMMAND);
+        boolean isCommand = command != null;
+
+        for (AnnotationMirror mirror : annotations) {
+            isCommand |= getAnnotation(asElement(mirror).getAnnotationMirrors(), COMMAND) != null;
+        }
+
+        if (!isCommand) {
+            return;
+        }
+
+        String methodName = method.getSimpleName().toString();
+        String declaringClass = elements.getBinaryName((TypeElement) method.getEnclosingElement()).toString();
+        String prefix = declaringClass + "-" + methodName;
+        Map<String, String[]> properties = convertProperties(annotations, prefix);
+        String[] help = getHelp(annotations);
+        String name = (help[0] != null) ? help[0] : "{" + prefix + ".name}";
+        String description = (help[1] != null) ? help[1] : "{" + prefix + ".description}";
+        boolean isHidden = command != null && (boolean) getValue(command, "hidden");
+        List<String> parameterTypes = new ArrayList<>();
+
+        for (VariableElement parameter : method.getParameters()) {
+            parameterTypes.add(getClassName(parameter.asType()));
+        }
+
+        writer.command(methodName, parameterTypes, name, description, isHidden);
+        writeProperties(writer, properties);
+
+        List<? extends VariableElement> parameters = method.getParameters();
+        int index = 0;
+
+        for (int i = 0; i < parameters.size(); i++) {
+            List<? extends AnnotationMirror> paramAnnotations = parameters.get(i).getAnnotationMirrors();
+            AnnotationMirror param = getAnnotation(paramAnnotations, PARAM);
+
+            if (param == null) {
+                continue;
+            }
+
+            String paramPrefix = prefix + "-" + index;
+            Map<String, String[]> paramProperties = convertProperties(paramAnnotations, paramPrefix);
+            String[] paramHelp = getHelp(paramAnnotations);
+            String paramName = (paramHelp[0] != null) ? paramHelp[0] : "{" + paramPrefix + ".name}";
+            String paramDescription = (paramHelp[1] != null) ? paramHelp[1] : "{" + paramPrefix + ".description}";
+            String defaultValue = AnnotationUtils.ifEffectivelyNull((String) getValue(param, "value"));
+            String defaultValueDisplay = AnnotationUtils.ifEffectivelyNull((String) getValue(param, "displayAs"), defaultValue);
+
+            writer.param(i, index++, paramName, paramDescription, defaultValue, defaultValueDisplay);
+            writeProperties(writer, paramProperties);
+        }
+    }
+
+    /**
+     * @param annotations Annotations on the component.
+     * @param prefix Prefix of i18n keys for properties of the component.
+     * @return Fields of each property by its full key.
+     */
+    private Map<String, String[]> convertProperties(List<? extends AnnotationMirror> annotations, String prefix) {
+        Map<String, String[]> properties = new LinkedHashMap<>();
+
+        for (AnnotationMirror mirror : annotations) {
+            TypeElement annotationType = asElement(mirror);
+
+            if (annotationType.getQualifiedName().contentEquals(PROPERTY)) {
+                String key = (String) getValue(mirror, "key");
+                properties.put(key, new String[] {
+                    key,
+                    (String) getValue(mirror, "value"),
+                    String.valueOf(getValue(mirror, "isPublic")),
+                    String.valueOf(getValue(mirror, "i18n")),
+                    (String) getValue(mirror, "displayName")
+                });
+                continue;
+            }
+
+            AnnotationMirror wrapper = getAnnotation(annotationType.getAnnotationMirrors(), PROPERTY_WRAPPER);
+
+            if (wrapper == null) {
+                continue;
+            }
+
+            TypeMirror wrapperType = (TypeMirror) getValue(wrapper, "type");
+            String typeName = getClassName(wrapperType);
+            Map<? extends ExecutableElement, ? extends AnnotationValue> values = elements.getElementValuesWithDefaults(mirror);
+
+            for (ExecutableElement method : ElementFilter.methodsIn(annotationType.getEnclosedElements())) {
+                AnnotationMirror property = getAnnotation(method.getAnnotationMirrors(), PROPERTY);
+
+                if (property == null) {
+                    continue;
+                }
+
+                String key = (String) getValue(property, "key");
+                boolean i18n = (boolean) getValue(property, "i18n");
+                String value = toString(values.get(method), annotationType, method);
+
+                if (i18n && value.equals(AnnotationUtils.EFFECTIVELY_NULL)) {
+                    value = "{" + prefix + "-" + typeName + "." + key + "}";
+                }
+
+                String fullKey = typeName + "." + key;
+                properties.put(fullKey, new String[] {
+                    key,
+                    value,
+                    String.valueOf(getValue(property, "isPublic")),
+                    String.valueOf(i18n),
+                    (String) getValue(property, "displayName")
+                });
+            }
+        }
+
+        return properties;
+    }
+
+    private static void writeProperties(MetadataIndex.Writer writer, Map<String, String[]> properties) {
+        for (Map.Entry<String, String[]> entry : properties.entrySet()) {
+            String[] fields = entry.getValue();
+            writer.property(entry.getKey(), fields[0], fields[1], Boolean.parseBoolean(fields[2]), Boolean.parseBoolean(fields[3]), fields[4]);
+        }
+    }
+
+    /**
+     * @return Name and description from the help annotation, either may be null.
+     */
+    private String[] getHelp(List<? extends AnnotationMirror> annotations) {
+        AnnotationMirror help = getAnnotation(annotations, HELP);
+
+        if (help == null) {
+            return new String[2];
+        }
+
+        return new String[] {(String) getValue(help, "name"), (String) getValue(help, "description")};
+    }
+
+    /**
+     * The same as {@link Object#toString()} on the value at runtime, only
+     * for values where that's known at compile time.
+     */
+    private static String toString(AnnotationValue annotationValue, TypeElement annotationType, ExecutableElement method) {
+        Object value = annotationValue.getValue();
+
+        if (value instanceof String || value instanceof Boolean || value instanceof Number || value instanceof Character) {
+            return value.toString();
+        }
+
+        throw new UnsupportedValueException(annotationType.getSimpleName() + "#" + method.getSimpleName() + " isn't a string or primitive");
+    }
+
+    /**
+     * @return Name of the erased type, in the format of {@link Class#getName()}.
+     */
+    private String getClassName(TypeMirror type) {
+        TypeMirror erased = types.erasure(type);
+
+        switch (erased.getKind()) {
+            case ARRAY:
+                return "[" + getDescriptor(((ArrayType) erased).getComponentType());
+            case DECLARED:
+                return elements.getBinaryName((TypeElement) ((DeclaredType) erased).asElement()).toString();
+            default:
+                return erased.getKind().name().toLowerCase();
+        }
+    }
+
+    private String getDescriptor(TypeMirror type) {
+        switch (type.getKind()) {
+            case BOOLEAN:
+                return "Z";
+            case BYTE:
+                return "B";
+            case CHAR:
+                return "C";
+            case SHORT:
+                return "S";
+            case INT:
+                return "I";
+            case LONG:
+                return "J";
+            case FLOAT:
+                return "F";
+            case DOUBLE:
+                return "D";
+            case ARRAY:
+                return "[" + getDescriptor(((ArrayType) type).getComponentType());
+            default:
+                return "L" + getClassName(type) + ";";
+        }
+    }
+
+    private Object getValue(AnnotationMirror mirror, String name) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : elements.getElementValuesWithDefaults(mirror).entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                return entry.getValue().getValue();
+            }
+        }
+
+        throw new IllegalStateException("Annotation " + mirror + " has no value " + name + ".");
+    }
+
+    private static AnnotationMirror getAnnotation(List<? extends AnnotationMirror> annotations, String name) {
+        for (AnnotationMirror mirror : annotations) {
+            if (asElement(mirror).getQualifiedName().contentEquals(name)) {
+                return mirror;
+            }
+        }
+
+        return null;
+    }
+
+    private static TypeElement asElement(AnnotationMirror mirror) {
+        return (TypeElement) mirror.getAnnotationType().asElement();
+    }
+
+    /**
+     * Thrown when a controller can't be represented in the index.
+     */
+    private static class UnsupportedValueException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        private UnsupportedValueException(String message) {
+            super(message);
+        }
+    }
+}
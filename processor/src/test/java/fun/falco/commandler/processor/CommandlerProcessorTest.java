@@ -0,0 +1,205 @@
+/*
+ * Copyright 2019-2025 Seth Falco and Commandler Contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package fun.falco.commandler.processor;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import fun.falco.commandler.fixtures.TestControllers;
+import fun.falco.commandler.metadata.MetaCommand;
+import fun.falco.commandler.metadata.MetaController;
+import fun.falco.commandler.metadata.MetaParam;
+import fun.falco.commandler.metadata.MetaProperty;
+import fun.falco.commandler.metadata.MetadataIndex;
+
+/**
+ * Runs the processor over the test fixtures of core, and checks the index
+ * builds the same metadata as reflecting over the controllers does.
+ *
+ * @author seth@falco.fun (Seth Falco)
+ */
+public class CommandlerProcessorTest {
+
+    /** Source directory of the test fixtures of core. */
+    private static final Path FIXTURES = Path.of(System.getProperty("commandler.fixtures", "../core/src/testFixtures/java"));
+
+    @TempDir
+    Path output;
+
+    @Test
+    public void testMatchesReflection() throws IOException {
+        List<Path> sources;
+
+        try (Stream<Path> files = Files.walk(FIXTURES)) {
+            sources = files.filter((file) -> file.toString().endsWith(".java")).collect(Collectors.toList());
+        }
+
+        MetadataIndex index = compile(sources);
+
+        assertEquals(TestControllers.ALL.size(), index.size());
+
+        for (Class<?> type : TestControllers.ALL) {
+            assertMatches(TestControllers.convert(type), index.getMetaController(type));
+        }
+    }
+
+    @Test
+    public void testInheritedGroup() throws IOException, ReflectiveOperationException {
+        Path source = output.resolve("src/inherited");
+        Files.createDirectories(source);
+
+        Path group = Files.writeString(source.resolve("Fun.java"), String.join("\n",
+            "package inherited;",
+            "@java.lang.annotation.Inherited",
+            "@java.lang.annotation.Retention(java.lang.annotation.RetentionPolicy.RUNTIME)",
+            "@fun.falco.commandler.annotation.Group",
+            "public @interface Fun {}"
+        ));
+
+        Path base = Files.writeString(source.resolve("BaseController.java"), String.join("\n",
+            "package inherited;",
+            "@Fun",
+            "public class BaseController {}"
+        ));
+
+        Path controller = Files.writeString(source.resolve("GameController.java"), String.join("\n",
+            "package inherited;",
+            "@fun.falco.commandler.dispatchers.standard.StandardController",
+            "public class GameController extends BaseController {",
+            "    @fun.falco.commandler.dispatchers.standard.StandardCommand",
+            "    public void roll() {}",
+            "}"
+        ));
+
+        MetadataIndex index = compile(List.of(group, base, controller));
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] {output.resolve("classes").toUri().toURL()}, getClass().getClassLoader())) {
+            Class<?> type = classLoader.loadClass("inherited.GameController");
+            MetaController actual = index.getMetaController(type);
+
+            assertAll("Check a group inherited from the superclass is indexed.",
+                () -> assertNotNull(actual),
+                () -> assertEquals("{inherited.Fun}", actual.getGroup()),
+                () -> assertMatches(TestControllers.convert(type), actual)
+            );
+        }
+    }
+
+    /**
+     * @param sources Source files to compile with the processor.
+     * @return Index the processor generated.
+     */
+    private MetadataIndex compile(List<Path> sources) throws IOException {
+        Path classes = Files.createDirectories(output.resolve("classes"));
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+            Iterable<? extends JavaFileObject> units = fileManager.getJavaFileObjectsFromPaths(sources);
+            List<String> options = new ArrayList<>(List.of("-d", classes.toString(), "-classpath", System.getProperty("java.class.path")));
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null, options, null, units);
+            task.setProcessors(List.of(new CommandlerProcessor()));
+            assertTrue(task.call(), "Failed to compile " + sources + ".");
+        }
+
+        try (Reader reader = Files.newBufferedReader(classes.resolve(MetadataIndex.RESOURCE), StandardCharsets.UTF_8)) {
+            return MetadataIndex.read(reader);
+        }
+    }
+
+    private static void assertMatches(MetaController expected, MetaController actual) {
+        assertNotNull(actual, "Expected " + expected.getControllerType() + " to be indexed.");
+        assertEquals(expected.getMetaCommands().size(), actual.getMetaCommands().size());
+
+        assertAll("Check " + expected.getControllerType() + " matches reflection.",
+            () -> assertEquals(expected.getGroup(), actual.getGroup()),
+            () -> assertEquals(expected.getName(), actual.getName()),
+            () -> assertEquals(expected.getDescription(), actual.getDescription()),
+            () -> assertEquals(expected.isHidden(), actual.isHidden()),
+            () -> assertProperties(expected.getProperties(), actual.getProperties())
+        );
+
+        for (MetaCommand expectedCommand : expected.getMetaCommands()) {
+            MetaCommand actualCommand = TestControllers.getCommand(actual, expectedCommand.getMethod().getName());
+            List<MetaParam> expectedParams = expectedCommand.getMetaParams();
+            List<MetaParam> actualParams = actualCommand.getMetaParams();
+
+            assertAll("Check " + expectedCommand.getMethod() + " matches reflection.",
+                () -> assertEquals(expectedCommand.getMethod(), actualCommand.getMethod()),
+                () -> assertEquals(expectedCommand.getName(), actualCommand.getName()),
+                () -> assertEquals(expectedCommand.getDescription(), actualCommand.getDescription()),
+                () -> assertEquals(expectedCommand.isHidden(), actualCommand.isHidden()),
+                () -> assertProperties(expectedCommand.getProperties(), actualCommand.getProperties()),
+                () -> assertEquals(expectedParams.size(), actualParams.size())
+            );
+
+            for (int i = 0; i < expectedParams.size(); i++) {
+                MetaParam expectedParam = expectedParams.get(i);
+                MetaParam actualParam = actualParams.get(i);
+
+                assertAll("Check parameter " + i + " of " + expectedCommand.getMethod() + " matches reflection.",
+                    () -> assertEquals(expectedParam.getMethodIndex(), actualParam.getMethodIndex()),
+                    () -> assertEquals(expectedParam.getCommandIndex(), actualParam.getCommandIndex()),
+                    () -> assertEquals(expectedParam.getName(), actualParam.getName()),
+                    () -> assertEquals(expectedParam.getDescription(), actualParam.getDescription()),
+                    () -> assertEquals(expectedParam.getDefaultValue(), actualParam.getDefaultValue()),
+                    () -> assertEquals(expectedParam.getDefaultValueDisplay(), actualParam.getDefaultValueDisplay()),
+                    () -> assertProperties(expectedParam.getProperties(), actualParam.getProperties())
+                );
+            }
+        }
+    }
+
+    private static void assertProperties(Map<String, MetaProperty> expected, Map<String, MetaProperty> actual) {
+        assertEquals(expected.keySet(), actual.keySet());
+
+        for (Map.Entry<String, MetaProperty> entry : expected.entrySet()) {
+            MetaProperty expectedProperty = entry.getValue();
+            MetaProperty actualProperty = actual.get(entry.getKey());
+
+            assertAll("Check property " + entry.getKey() + " matches reflection.",
+                () -> assertEquals(expectedProperty.getKey(), actualProperty.getKey()),
+                () -> assertEquals(expectedProperty.getValue(), actualProperty.getValue()),
+                () -> assertEquals(expectedProperty.isPublic(), actualProperty.isPublic()),
+                () -> assertEquals(expectedProperty.isI18n(), actualProperty.isI18n()),
+                () -> assertEquals(expectedProperty.getDisplayName(), actualProperty.getDisplayName())
+            );
+        }
+    }
+}
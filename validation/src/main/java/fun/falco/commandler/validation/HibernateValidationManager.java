@@ -20,9 +20,11 @@ import java.lang.reflect.Method;
 import java.util.Set;
 
 import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
 import javax.inject.Inject;
 import javax.validation.ConstraintViolation;
 import javax.validation.Validation;
+import javax.validation.Validator;
 import javax.validation.ValidatorFactory;
 import javax.validation.executable.ExecutableValidator;
 
@@ -35,6 +37,8 @@ import org.slf4j.LoggerFactory;
 
 import fun.falco.commandler.CommandlerExtension;
 import fun.falco.commandler.event.ActionEvent;
+import fun.falco.commandler.event.WarmupEvent;
+import fun.falco.commandler.metadata.MetaController;
 
 /**
  * Validates annotations associated with commands and parameters to ensure they
@@ -51,6 +55,9 @@ public class HibernateValidationManager {
 
     private static final String USER_VALIDATION_MESSAGES = AbstractMessageInterpolator.USER_VALIDATION_MESSAGES;
 
+    /** Validator the {@link #exValidator} was created from. */
+    private final Validator validator;
+
     /** The actual validator object constructed and on use throughout Commandler. */
     private final ExecutableValidator exValidator;
 
@@ -65,7 +72,21 @@ public class HibernateValidationManager {
             .parameterNameProvider(new CommandParameterNameProvider(commandlerExtension))
             .buildValidatorFactory();
 
-        exValidator = factory.getValidator().forExecutables();
+        validator = factory.getValidator();
+        exValidator = validator.forExecutables();
+    }
+
+    /**
+     * Builds the constraint metadata of every controller, which is otherwise
+     * built when a command of the controller is first validated.
+     *
+     * @param event Fired before any integration is initialized.
+     * @since 4.1.0
+     */
+    public void onWarmup(@Observes WarmupEvent event) {
+        for (MetaController metaController : event.getMetaControllers()) {
+            validator.getConstraintsForClass(metaController.getControllerType());
+        }
     }
 
     public void validate(ActionEvent<?, ?> event, Object controller, Object[] parameters) {